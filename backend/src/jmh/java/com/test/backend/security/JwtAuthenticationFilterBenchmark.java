@@ -0,0 +1,155 @@
+package com.test.backend.security;
+
+import com.test.backend.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of JwtAuthenticationFilter for a repeated bearer token, against a copy of
+ * the filter as it was before verified tokens were cached: three parses per request,
+ * each building a new signing key and parser, plus a UserDetailsService lookup. The
+ * lookup is stubbed in memory, so the database round trip the old filter also paid is
+ * left out and the measured gain is a lower bound.
+ *
+ * Run with: mvn -Pjmh test-compile exec:exec -Djmh.args=JwtAuthenticationFilterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+    private LegacyJwtAuthenticationFilter legacyFilter;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "benchmarkSecretKey12345678901234567890123456789012345678901234");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", TimeUnit.HOURS.toMillis(2));
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        token = jwtUtil.generateToken(User.withUsername("benchmark@example.com").password("unused").build());
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "verifiedTokenCache", new VerifiedTokenCache(jwtUtil, 10000));
+
+        request = new MockHttpServletRequest("GET", "/api/v1/companies");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+        chain = (servletRequest, servletResponse) -> { };
+
+        String secret = (String) ReflectionTestUtils.getField(jwtUtil, "secret");
+        UserDetails user = User.withUsername("benchmark@example.com").password("unused").build();
+        legacyFilter = new LegacyJwtAuthenticationFilter(secret, username -> user);
+    }
+
+    @Benchmark
+    public void filterCachedToken(Blackhole blackhole) throws Exception {
+        SecurityContextHolder.clearContext();
+        // OncePerRequestFilter marks the request as filtered; drop the mark so every call filters
+        request.removeAttribute(filter.getClass().getName() + ".FILTERED");
+        filter.doFilter(request, response, chain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Benchmark
+    public void filterLegacyPerRequestVerification(Blackhole blackhole) throws Exception {
+        SecurityContextHolder.clearContext();
+        request.removeAttribute(legacyFilter.getClass().getName() + ".FILTERED");
+        legacyFilter.doFilter(request, response, chain);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    /**
+     * The filter and the JwtUtil methods it used before verified tokens were cached.
+     */
+    private static final class LegacyJwtAuthenticationFilter extends OncePerRequestFilter {
+
+        private final String secret;
+        private final UserDetailsService userDetailsService;
+
+        private LegacyJwtAuthenticationFilter(String secret, UserDetailsService userDetailsService) {
+            this.secret = secret;
+            this.userDetailsService = userDetailsService;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            final String authorizationHeader = request.getHeader("Authorization");
+
+            String username = null;
+            String jwt = null;
+
+            if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+                jwt = authorizationHeader.substring(7);
+                try {
+                    username = extractAllClaims(jwt).getSubject();
+                } catch (Exception e) {
+                    logger.error("JWT token extraction failed: " + e.getMessage());
+                }
+            }
+
+            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+
+                // validateToken parsed the token again for the subject and once more for the expiration
+                if (extractAllClaims(jwt).getSubject().equals(userDetails.getUsername())
+                        && !extractAllClaims(jwt).getExpiration().before(new Date())) {
+                    UsernamePasswordAuthenticationToken authToken =
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                }
+            }
+
+            filterChain.doFilter(request, response);
+        }
+
+        private Claims extractAllClaims(String token) {
+            return Jwts.parser()
+                    .verifyWith(Keys.hmacShaKeyFor(secret.getBytes()))
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+        }
+    }
+}
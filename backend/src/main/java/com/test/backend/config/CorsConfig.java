@@ -55,7 +55,8 @@ public class CorsConfig {
             "Accept",
             "Origin",
             "Access-Control-Request-Method",
-            "Access-Control-Request-Headers"
+            "Access-Control-Request-Headers",
+            "ETag"
         ));
         
         // How long the browser should cache preflight requests
@@ -0,0 +1,42 @@
+package com.test.backend.controller;
+
+import com.test.backend.dto.CascadeJobDto;
+import com.test.backend.service.SoftDeleteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for tracking cascading soft deletes and restores.
+ */
+@RestController
+@RequestMapping("/api/v1/cascade-jobs")
+@RequiredArgsConstructor
+@Tag(name = "Cascade Jobs", description = "APIs for tracking cascading soft deletes and restores")
+@SecurityRequirement(name = "bearerAuth")
+public class CascadeJobController {
+
+    private final SoftDeleteService softDeleteService;
+
+    @Operation(summary = "Get cascade job", description = "Get the progress of a cascading soft delete or restore started by the current user")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cascade job retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Cascade job not found")
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<CascadeJobDto> getCascadeJob(
+            @Parameter(description = "Cascade job ID", required = true) @PathVariable String jobId,
+            Authentication authentication) {
+        
+        String userEmail = authentication.getName();
+        CascadeJobDto job = softDeleteService.getJob(jobId, userEmail);
+        return ResponseEntity.ok(job);
+    }
+}
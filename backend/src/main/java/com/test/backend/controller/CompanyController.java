@@ -1,8 +1,10 @@
 package com.test.backend.controller;
 
+import com.test.backend.dto.CascadeJobDto;
 import com.test.backend.dto.CompanyDto;
 import com.test.backend.dto.CompanyMemberDto;
 import com.test.backend.dto.CreateCompanyRequest;
+import com.test.backend.dto.CursorPage;
 import com.test.backend.dto.UserCompanyDto;
 import com.test.backend.entity.CompanyRole;
 import com.test.backend.service.CompanyService;
@@ -12,6 +14,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -132,6 +135,27 @@ public class CompanyController {
         return ResponseEntity.ok(members);
     }
 
+    @Operation(
+            summary = "Get Company Members Page",
+            description = "Get a page of company members ordered by join time, using keyset pagination (user must be a member)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Company members retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "User not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Access denied to this company"),
+            @ApiResponse(responseCode = "404", description = "Company not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/{companyId}/members/page")
+    public ResponseEntity<CursorPage<CompanyMemberDto>> getCompanyMembersPage(
+            @PathVariable Long companyId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        String userEmail = getCurrentUserEmail();
+        CursorPage<CompanyMemberDto> page = companyService.getCompanyMembersPage(companyId, cursor, limit, userEmail);
+        return ResponseEntity.ok(page);
+    }
+
     @Operation(
             summary = "Get User Role in Company",
             description = "Get the authenticated user's role in a specific company"
@@ -175,17 +199,35 @@ public class CompanyController {
             description = "Soft delete a company (only owner can delete)"
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Company deleted successfully"),
+            @ApiResponse(responseCode = "202", description = "Company deleted, subtree cascade started"),
             @ApiResponse(responseCode = "401", description = "User not authenticated"),
             @ApiResponse(responseCode = "403", description = "Only company owner can delete"),
             @ApiResponse(responseCode = "404", description = "Company not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @DeleteMapping("/{companyId}")
-    public ResponseEntity<Void> deleteCompany(@PathVariable Long companyId) {
+    public ResponseEntity<CascadeJobDto> deleteCompany(@PathVariable Long companyId) {
+        String userEmail = getCurrentUserEmail();
+        CascadeJobDto job = companyService.deleteCompany(companyId, userEmail);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @Operation(
+            summary = "Restore Company",
+            description = "Restore a soft deleted company and everything deleted with it (only owner can restore)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Company restore started"),
+            @ApiResponse(responseCode = "401", description = "User not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Only company owner can restore"),
+            @ApiResponse(responseCode = "404", description = "Company not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/{companyId}/restore")
+    public ResponseEntity<CascadeJobDto> restoreCompany(@PathVariable Long companyId) {
         String userEmail = getCurrentUserEmail();
-        companyService.deleteCompany(companyId, userEmail);
-        return ResponseEntity.ok().build();
+        CascadeJobDto job = companyService.restoreCompany(companyId, userEmail);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
     }
 
     /**
@@ -1,5 +1,7 @@
 package com.test.backend.controller;
 
+import com.test.backend.dto.CursorPage;
+import com.test.backend.dto.FanOutNotificationRequest;
 import com.test.backend.dto.NotificationDto;
 import com.test.backend.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -7,11 +9,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -44,6 +49,24 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    @Operation(
+            summary = "Get User Notifications Page",
+            description = "Get a page of notifications for the authenticated user, newest first, using keyset pagination"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Notifications retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "User not authenticated"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<NotificationDto>> getUserNotificationsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        String userEmail = getCurrentUserEmail();
+        CursorPage<NotificationDto> page = notificationService.getUserNotificationsPage(userEmail, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
     @Operation(
             summary = "Get Unread Notifications",
             description = "Get unread notifications for the authenticated user"
@@ -60,6 +83,39 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    @Operation(
+            summary = "Notify Company Members",
+            description = "Send one notification to every member of a company, optionally only to members with the given roles"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Notifications created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @ApiResponse(responseCode = "401", description = "User not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Only company owners and admins can notify company members")
+    })
+    @PostMapping("/fan-out")
+    public ResponseEntity<Map<String, Integer>> fanOutNotification(@Valid @RequestBody FanOutNotificationRequest request) {
+        String userEmail = getCurrentUserEmail();
+        int notified = notificationService.fanOutNotification(request, userEmail);
+        return ResponseEntity.ok(Map.of("notified", notified));
+    }
+
+    @Operation(
+            summary = "Stream Notifications",
+            description = "Open a Server-Sent Events stream of new notifications for the authenticated user. " +
+                    "Reconnect with Last-Event-ID to receive the notifications missed in between"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "401", description = "User not authenticated")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        String userEmail = getCurrentUserEmail();
+        return notificationService.subscribe(userEmail, lastEventId);
+    }
+
     @Operation(
             summary = "Get Notification Count",
             description = "Get unread notification count for the authenticated user"
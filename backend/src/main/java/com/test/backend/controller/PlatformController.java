@@ -1,5 +1,6 @@
 package com.test.backend.controller;
 
+import com.test.backend.dto.CascadeJobDto;
 import com.test.backend.dto.CreatePlatformRequest;
 import com.test.backend.dto.PlatformDto;
 import com.test.backend.dto.UpdatePlatformRequest;
@@ -108,19 +109,19 @@ public class PlatformController {
 
     @Operation(summary = "Delete platform", description = "Soft delete a platform (marks as deleted but preserves data)")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "204", description = "Platform deleted successfully"),
+            @ApiResponse(responseCode = "202", description = "Platform deleted, subtree cascade started"),
             @ApiResponse(responseCode = "403", description = "Access denied - insufficient permissions"),
             @ApiResponse(responseCode = "404", description = "Platform, project, or company not found")
     })
     @DeleteMapping("/{platformId}")
-    public ResponseEntity<Void> deletePlatform(
+    public ResponseEntity<CascadeJobDto> deletePlatform(
             @Parameter(description = "Company ID", required = true) @PathVariable Long companyId,
             @Parameter(description = "Project ID", required = true) @PathVariable Long projectId,
             @Parameter(description = "Platform ID", required = true) @PathVariable Long platformId,
             Authentication authentication) {
         
         String userEmail = authentication.getName();
-        platformService.deletePlatform(companyId, projectId, platformId, userEmail);
-        return ResponseEntity.noContent().build();
+        CascadeJobDto job = platformService.deletePlatform(companyId, projectId, platformId, userEmail);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
     }
 }
@@ -1,5 +1,6 @@
 package com.test.backend.controller;
 
+import com.test.backend.dto.CascadeJobDto;
 import com.test.backend.dto.CreateProjectRequest;
 import com.test.backend.dto.ProjectDto;
 import com.test.backend.service.ProjectService;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -111,18 +113,37 @@ public class ProjectController {
             description = "Delete a project (soft delete) (Owner/Admin only)"
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Project deleted successfully"),
+            @ApiResponse(responseCode = "202", description = "Project deleted, subtree cascade started"),
             @ApiResponse(responseCode = "401", description = "User not authenticated"),
             @ApiResponse(responseCode = "403", description = "Access denied - Owner/Admin only"),
             @ApiResponse(responseCode = "404", description = "Project or company not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @DeleteMapping("/{projectId}")
-    public ResponseEntity<Void> deleteProject(@PathVariable Long companyId,
-                                             @PathVariable Long projectId) {
+    public ResponseEntity<CascadeJobDto> deleteProject(@PathVariable Long companyId,
+                                                      @PathVariable Long projectId) {
         String userEmail = getCurrentUserEmail();
-        projectService.deleteProject(companyId, projectId, userEmail);
-        return ResponseEntity.ok().build();
+        CascadeJobDto job = projectService.deleteProject(companyId, projectId, userEmail);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @Operation(
+            summary = "Restore Project",
+            description = "Restore a soft deleted project and everything deleted with it (Owner/Admin only)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Project restore started"),
+            @ApiResponse(responseCode = "401", description = "User not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Access denied - Owner/Admin only"),
+            @ApiResponse(responseCode = "404", description = "Project or company not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/{projectId}/restore")
+    public ResponseEntity<CascadeJobDto> restoreProject(@PathVariable Long companyId,
+                                                       @PathVariable Long projectId) {
+        String userEmail = getCurrentUserEmail();
+        CascadeJobDto job = projectService.restoreProject(companyId, projectId, userEmail);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
     }
 
     /**
@@ -0,0 +1,49 @@
+package com.test.backend.controller;
+
+import com.test.backend.dto.StatusRollupDto;
+import com.test.backend.enums.HierarchyLevel;
+import com.test.backend.service.StatusRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller serving pre-aggregated pass/fail counts for dashboards.
+ */
+@RestController
+@RequestMapping("/api/v1/rollups")
+@RequiredArgsConstructor
+@Tag(name = "Status Rollups", description = "APIs for pre-aggregated test scenario and test step status counts")
+@SecurityRequirement(name = "bearerAuth")
+public class StatusRollupController {
+
+    private final StatusRollupService statusRollupService;
+
+    @Operation(summary = "Get status rollups", description = "Get the test scenario and test step counts per status below several projects, platforms, versions, test suites or test features")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rollups retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid level or node ids"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Node not found")
+    })
+    @GetMapping("/{level}")
+    public ResponseEntity<List<StatusRollupDto>> getRollups(
+            @Parameter(description = "Hierarchy level: PROJECT, PLATFORM, VERSION, TEST_SUITE or TEST_FEATURE", required = true) @PathVariable HierarchyLevel level,
+            @Parameter(description = "Company ID", required = true) @RequestParam Long companyId,
+            @Parameter(description = "Node IDs", required = true) @RequestParam List<Long> ids,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        List<StatusRollupDto> rollups = statusRollupService.getRollups(companyId, level, ids, userEmail);
+        return ResponseEntity.ok(rollups);
+    }
+}
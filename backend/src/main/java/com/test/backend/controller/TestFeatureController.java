@@ -78,6 +78,29 @@ public class TestFeatureController {
         return ResponseEntity.ok(testFeatures);
     }
 
+    @Operation(summary = "Get a page of test features by test suite", description = "Retrieve test features for a specific test suite using keyset pagination ordered by creation time")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Test features retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Test suite not found")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<TestFeatureDto>> getTestFeaturePage(
+            @Parameter(description = "Company ID", required = true) @RequestParam Long companyId,
+            @Parameter(description = "Project ID", required = true) @RequestParam Long projectId,
+            @Parameter(description = "Platform ID", required = true) @RequestParam Long platformId,
+            @Parameter(description = "Version ID", required = true) @RequestParam Long versionId,
+            @Parameter(description = "Test Suite ID", required = true) @RequestParam Long testSuiteId,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 500)") @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication) {
+        
+        String userEmail = authentication.getName();
+        CursorPage<TestFeatureDto> page = testFeatureService.getTestFeaturesPageByTestSuite(
+                companyId, projectId, platformId, versionId, testSuiteId, cursor, limit, userEmail);
+        return ResponseEntity.ok(page);
+    }
+
     @Operation(summary = "Get test feature by ID", description = "Retrieve a specific test feature by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Test feature retrieved successfully"),
@@ -0,0 +1,139 @@
+package com.test.backend.controller;
+
+import com.test.backend.dto.CreateTestRunRequest;
+import com.test.backend.dto.TestRunDto;
+import com.test.backend.dto.TestStepResultDto;
+import com.test.backend.service.TestRunService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import java.util.List;
+
+/**
+ * REST controller for test runs and the execution history of test steps.
+ * Results are appended through the bulk test step execution endpoint with a testRunId.
+ */
+@RestController
+@RequestMapping("/api/v1/test-runs")
+@RequiredArgsConstructor
+@Tag(name = "Test Run Management", description = "APIs for test runs and execution history")
+@SecurityRequirement(name = "bearerAuth")
+public class TestRunController {
+
+    private final TestRunService testRunService;
+
+    @Operation(summary = "Start a test run", description = "Start a test run of a test scenario or a whole test suite")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Test run started successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Test scenario or test suite not found")
+    })
+    @PostMapping
+    public ResponseEntity<TestRunDto> createTestRun(
+            @Valid @RequestBody CreateTestRunRequest request,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        TestRunDto testRun = testRunService.createTestRun(request, userEmail);
+        return ResponseEntity.status(HttpStatus.CREATED).body(testRun);
+    }
+
+    @Operation(summary = "Get latest test runs", description = "Get the latest test runs of a test scenario or a test suite, newest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Test runs retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Test scenario or test suite not found")
+    })
+    @GetMapping
+    public ResponseEntity<List<TestRunDto>> getLatestTestRuns(
+            @Parameter(description = "Company ID", required = true) @RequestParam Long companyId,
+            @Parameter(description = "Test Scenario ID") @RequestParam(required = false) Long testScenarioId,
+            @Parameter(description = "Test Suite ID") @RequestParam(required = false) Long testSuiteId,
+            @Parameter(description = "Maximum number of test runs") @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        List<TestRunDto> testRuns = testRunService.getLatestTestRuns(companyId, testScenarioId, testSuiteId, limit, userEmail);
+        return ResponseEntity.ok(testRuns);
+    }
+
+    @Operation(summary = "Get test run", description = "Get a test run by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Test run retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Test run not found")
+    })
+    @GetMapping("/{testRunId}")
+    public ResponseEntity<TestRunDto> getTestRun(
+            @Parameter(description = "Test Run ID", required = true) @PathVariable Long testRunId,
+            @Parameter(description = "Company ID", required = true) @RequestParam Long companyId,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        TestRunDto testRun = testRunService.getTestRun(testRunId, companyId, userEmail);
+        return ResponseEntity.ok(testRun);
+    }
+
+    @Operation(summary = "Get test run results", description = "Get the step results recorded in a test run")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Test run results retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Test run not found")
+    })
+    @GetMapping("/{testRunId}/results")
+    public ResponseEntity<List<TestStepResultDto>> getTestRunResults(
+            @Parameter(description = "Test Run ID", required = true) @PathVariable Long testRunId,
+            @Parameter(description = "Company ID", required = true) @RequestParam Long companyId,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        List<TestStepResultDto> results = testRunService.getTestRunResults(testRunId, companyId, userEmail);
+        return ResponseEntity.ok(results);
+    }
+
+    @Operation(summary = "Finish test run", description = "Mark a test run as finished; it accepts no more results")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Test run finished successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Test run not found")
+    })
+    @PostMapping("/{testRunId}/finish")
+    public ResponseEntity<TestRunDto> finishTestRun(
+            @Parameter(description = "Test Run ID", required = true) @PathVariable Long testRunId,
+            @Parameter(description = "Company ID", required = true) @RequestParam Long companyId,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        TestRunDto testRun = testRunService.finishTestRun(testRunId, companyId, userEmail);
+        return ResponseEntity.ok(testRun);
+    }
+
+    @Operation(summary = "Get test step history", description = "Get the latest recorded results of a test step across test runs, newest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Test step history retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Test step not found")
+    })
+    @GetMapping("/test-steps/{testStepId}/history")
+    public ResponseEntity<List<TestStepResultDto>> getTestStepHistory(
+            @Parameter(description = "Test Step ID", required = true) @PathVariable Long testStepId,
+            @Parameter(description = "Company ID", required = true) @RequestParam Long companyId,
+            @Parameter(description = "Maximum number of results") @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        List<TestStepResultDto> history = testRunService.getTestStepHistory(testStepId, companyId, limit, userEmail);
+        return ResponseEntity.ok(history);
+    }
+}
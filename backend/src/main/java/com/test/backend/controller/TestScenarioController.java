@@ -10,9 +10,11 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -80,6 +82,54 @@ public class TestScenarioController {
         return ResponseEntity.ok(testScenarios);
     }
 
+    @Operation(summary = "Get a page of test scenarios by test feature", description = "Retrieve test scenarios for a specific test feature using keyset pagination ordered by creation time")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Test scenarios retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Test feature not found")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<TestScenarioDto>> getTestScenarioPage(
+            @Parameter(description = "Company ID", required = true) @RequestParam Long companyId,
+            @Parameter(description = "Project ID", required = true) @RequestParam Long projectId,
+            @Parameter(description = "Platform ID", required = true) @RequestParam Long platformId,
+            @Parameter(description = "Version ID", required = true) @RequestParam Long versionId,
+            @Parameter(description = "Test Suite ID", required = true) @RequestParam Long testSuiteId,
+            @Parameter(description = "Test Feature ID", required = true) @RequestParam Long testFeatureId,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 500)") @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication) {
+        
+        String userEmail = authentication.getName();
+        CursorPage<TestScenarioDto> page = testScenarioService.getTestScenariosPageByTestFeature(
+                companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, cursor, limit, userEmail);
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(summary = "Export test scenarios by test feature", description = "Stream all test scenarios of a specific test feature as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Test scenarios streamed successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Test feature not found")
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTestScenarios(
+            @Parameter(description = "Company ID", required = true) @RequestParam Long companyId,
+            @Parameter(description = "Project ID", required = true) @RequestParam Long projectId,
+            @Parameter(description = "Platform ID", required = true) @RequestParam Long platformId,
+            @Parameter(description = "Version ID", required = true) @RequestParam Long versionId,
+            @Parameter(description = "Test Suite ID", required = true) @RequestParam Long testSuiteId,
+            @Parameter(description = "Test Feature ID", required = true) @RequestParam Long testFeatureId,
+            Authentication authentication) {
+        
+        String userEmail = authentication.getName();
+        StreamingResponseBody body = testScenarioService.streamTestScenariosByTestFeature(
+                companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, userEmail);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @Operation(summary = "Get test scenario by ID", description = "Retrieve a specific test scenario by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Test scenario retrieved successfully"),
@@ -156,6 +206,29 @@ public class TestScenarioController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(summary = "Restore test scenario", description = "Restore a soft deleted test scenario and the test steps deleted with it")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Test scenario restored successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied - insufficient permissions"),
+            @ApiResponse(responseCode = "404", description = "Test scenario not found")
+    })
+    @PostMapping("/{testScenarioId}/restore")
+    public ResponseEntity<TestScenarioDto> restoreTestScenario(
+            @Parameter(description = "Test Scenario ID", required = true) @PathVariable Long testScenarioId,
+            @Parameter(description = "Company ID", required = true) @RequestParam Long companyId,
+            @Parameter(description = "Project ID", required = true) @RequestParam Long projectId,
+            @Parameter(description = "Platform ID", required = true) @RequestParam Long platformId,
+            @Parameter(description = "Version ID", required = true) @RequestParam Long versionId,
+            @Parameter(description = "Test Suite ID", required = true) @RequestParam Long testSuiteId,
+            @Parameter(description = "Test Feature ID", required = true) @RequestParam Long testFeatureId,
+            Authentication authentication) {
+        
+        String userEmail = authentication.getName();
+        TestScenarioDto testScenario = testScenarioService.restoreTestScenario(
+                companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, testScenarioId, userEmail);
+        return ResponseEntity.ok(testScenario);
+    }
+
     @Operation(summary = "Assign user to test scenario", description = "Assign a user to a test scenario for execution")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User assigned successfully"),
@@ -10,12 +10,15 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST controller for test step management operations.
@@ -58,6 +61,34 @@ public class TestStepController {
         return ResponseEntity.status(HttpStatus.CREATED).body(testStep);
     }
 
+    @Operation(summary = "Create or update test steps in bulk", description = "Create or update several test steps of a test scenario in one transaction")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Test steps saved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @ApiResponse(responseCode = "403", description = "Access denied - insufficient permissions"),
+            @ApiResponse(responseCode = "404", description = "Parent resource not found")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<List<TestStepDto>> bulkSaveTestSteps(
+            @Valid @RequestBody BulkTestStepsRequest request,
+            Authentication authentication) {
+        
+        String userEmail = authentication.getName();
+        TestStepRequestDto context = request.getContext();
+        List<TestStepDto> testSteps = testStepService.bulkSaveTestSteps(
+                context.getCompanyId(), 
+                context.getProjectId(), 
+                context.getPlatformId(), 
+                context.getVersionId(),
+                context.getTestSuiteId(),
+                context.getTestFeatureId(),
+                context.getTestScenarioId(),
+                request.getTestSteps(), 
+                userEmail
+        );
+        return ResponseEntity.ok(testSteps);
+    }
+
     @Operation(summary = "Get test steps by scenario", description = "Retrieve all test steps for a specific test scenario")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Test steps retrieved successfully"),
@@ -81,6 +112,56 @@ public class TestStepController {
         return ResponseEntity.ok(testSteps);
     }
 
+    @Operation(summary = "Get a page of test steps by scenario", description = "Retrieve test steps for a specific test scenario using keyset pagination ordered by step order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Test steps retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Test scenario not found")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<TestStepDto>> getTestStepsPage(
+            @Parameter(description = "Company ID", required = true) @RequestParam Long companyId,
+            @Parameter(description = "Project ID", required = true) @RequestParam Long projectId,
+            @Parameter(description = "Platform ID", required = true) @RequestParam Long platformId,
+            @Parameter(description = "Version ID", required = true) @RequestParam Long versionId,
+            @Parameter(description = "Test Suite ID", required = true) @RequestParam Long testSuiteId,
+            @Parameter(description = "Test Feature ID", required = true) @RequestParam Long testFeatureId,
+            @Parameter(description = "Test Scenario ID", required = true) @RequestParam Long testScenarioId,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 500)") @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication) {
+        
+        String userEmail = authentication.getName();
+        CursorPage<TestStepDto> page = testStepService.getTestStepsPageByTestScenario(
+                companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, testScenarioId, cursor, limit, userEmail);
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(summary = "Export test steps by scenario", description = "Stream all test steps of a specific test scenario as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Test steps streamed successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Test scenario not found")
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTestSteps(
+            @Parameter(description = "Company ID", required = true) @RequestParam Long companyId,
+            @Parameter(description = "Project ID", required = true) @RequestParam Long projectId,
+            @Parameter(description = "Platform ID", required = true) @RequestParam Long platformId,
+            @Parameter(description = "Version ID", required = true) @RequestParam Long versionId,
+            @Parameter(description = "Test Suite ID", required = true) @RequestParam Long testSuiteId,
+            @Parameter(description = "Test Feature ID", required = true) @RequestParam Long testFeatureId,
+            @Parameter(description = "Test Scenario ID", required = true) @RequestParam Long testScenarioId,
+            Authentication authentication) {
+        
+        String userEmail = authentication.getName();
+        StreamingResponseBody body = testStepService.streamTestStepsByTestScenario(
+                companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, testScenarioId, userEmail);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @Operation(summary = "Get test step by ID", description = "Retrieve a specific test step by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Test step retrieved successfully"),
@@ -186,6 +267,36 @@ public class TestStepController {
         return ResponseEntity.ok(testSteps);
     }
 
+    @Operation(summary = "Move test step", description = "Move a test step after another step of the same test scenario, or to the front")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Test step moved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @ApiResponse(responseCode = "403", description = "Access denied - insufficient permissions"),
+            @ApiResponse(responseCode = "404", description = "Test step not found")
+    })
+    @PutMapping("/{testStepId}/move")
+    public ResponseEntity<List<TestStepDto>> moveTestStep(
+            @Parameter(description = "Test Step ID", required = true) @PathVariable Long testStepId,
+            @Valid @RequestBody MoveTestStepRequest request,
+            Authentication authentication) {
+        
+        String userEmail = authentication.getName();
+        TestStepRequestDto context = request.getContext();
+        List<TestStepDto> testSteps = testStepService.moveTestStep(
+                context.getCompanyId(),
+                context.getProjectId(),
+                context.getPlatformId(),
+                context.getVersionId(),
+                context.getTestSuiteId(),
+                context.getTestFeatureId(),
+                context.getTestScenarioId(),
+                testStepId,
+                request.getAfterStepId(),
+                userEmail
+        );
+        return ResponseEntity.ok(testSteps);
+    }
+
     @Operation(summary = "Update test step execution", description = "Update the execution result of a test step")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Test step execution updated successfully"),
@@ -215,4 +326,26 @@ public class TestStepController {
         );
         return ResponseEntity.ok(testStep);
     }
+
+    @Operation(summary = "Update test step executions in bulk", description = "Record the execution results of several test steps in one transaction, appending them to a test run when one is given")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Test step executions updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid execution data"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Test step or test run not found")
+    })
+    @PutMapping("/execution/bulk")
+    public ResponseEntity<Map<String, Integer>> bulkUpdateTestStepExecution(
+            @Valid @RequestBody BulkTestStepExecutionRequest request,
+            Authentication authentication) {
+        
+        String userEmail = authentication.getName();
+        int updated = testStepService.bulkUpdateTestStepExecution(
+                request.getCompanyId(),
+                request.getTestRunId(),
+                request.getResults(),
+                userEmail
+        );
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
 }
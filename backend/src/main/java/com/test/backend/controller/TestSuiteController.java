@@ -75,6 +75,28 @@ public class TestSuiteController {
         return ResponseEntity.ok(testSuites);
     }
 
+    @Operation(summary = "Get a page of test suites by version", description = "Retrieve test suites for a specific version using keyset pagination ordered by creation time")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Test suites retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Version not found")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<TestSuiteDto>> getTestSuitePage(
+            @Parameter(description = "Company ID", required = true) @RequestParam Long companyId,
+            @Parameter(description = "Project ID", required = true) @RequestParam Long projectId,
+            @Parameter(description = "Platform ID", required = true) @RequestParam Long platformId,
+            @Parameter(description = "Version ID", required = true) @RequestParam Long versionId,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 500)") @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication) {
+        
+        String userEmail = authentication.getName();
+        CursorPage<TestSuiteDto> page = testSuiteService.getTestSuitesPageByVersion(
+                companyId, projectId, platformId, versionId, cursor, limit, userEmail);
+        return ResponseEntity.ok(page);
+    }
+
     @Operation(summary = "Get test suite by ID", description = "Retrieve a specific test suite by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Test suite retrieved successfully"),
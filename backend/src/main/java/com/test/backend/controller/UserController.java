@@ -6,6 +6,7 @@ import com.test.backend.entity.User;
 import com.test.backend.enums.UserRole;
 import com.test.backend.repository.CompanyMemberRepository;
 import com.test.backend.repository.UserRepository;
+import com.test.backend.security.AuthorizationContextProvider;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -35,6 +36,9 @@ public class UserController {
     @Autowired
     private CompanyMemberRepository companyMemberRepository;
 
+    @Autowired
+    private AuthorizationContextProvider authorizationContextProvider;
+
     @Operation(
             summary = "Get All Users",
             description = "Get list of all users (Admin and Moderator only)"
@@ -125,6 +129,7 @@ public class UserController {
         }
         
         userRepository.deleteById(userId);
+        authorizationContextProvider.invalidate(userId);
         return ResponseEntity.ok("User deleted successfully");
     }
 }
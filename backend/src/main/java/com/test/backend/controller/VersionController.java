@@ -1,8 +1,11 @@
 package com.test.backend.controller;
 
+import com.test.backend.dto.CascadeJobDto;
 import com.test.backend.dto.CreateVersionRequest;
 import com.test.backend.dto.VersionDto;
+import com.test.backend.dto.VersionTreeDto;
 import com.test.backend.service.VersionService;
+import com.test.backend.service.VersionTreeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,6 +17,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -30,6 +34,7 @@ import java.util.List;
 public class VersionController {
 
     private final VersionService versionService;
+    private final VersionTreeService versionTreeService;
 
     @Operation(summary = "Create a new version", description = "Create a new version in a platform")
     @ApiResponses(value = {
@@ -89,6 +94,33 @@ public class VersionController {
         return ResponseEntity.ok(version);
     }
 
+    @Operation(summary = "Get version tree", description = "Retrieve the test suites, features, scenarios and steps under a version, down to the given depth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Version tree retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Version tree unchanged since the given ETag"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Version, platform, project, or company not found")
+    })
+    @GetMapping("/{versionId}/tree")
+    public ResponseEntity<VersionTreeDto> getVersionTree(
+            @Parameter(description = "Company ID", required = true) @PathVariable Long companyId,
+            @Parameter(description = "Project ID", required = true) @PathVariable Long projectId,
+            @Parameter(description = "Platform ID", required = true) @PathVariable Long platformId,
+            @Parameter(description = "Version ID", required = true) @PathVariable Long versionId,
+            @Parameter(description = "Levels to load: 1 = suites, 2 = features, 3 = scenarios, 4 = steps") @RequestParam(defaultValue = "4") int depth,
+            Authentication authentication,
+            WebRequest webRequest) {
+        
+        String userEmail = authentication.getName();
+        // checkNotModified also sets the ETag header of the response
+        VersionTreeDto tree = versionTreeService.getVersionTree(companyId, projectId, platformId, versionId, depth, userEmail,
+                webRequest::checkNotModified);
+        if (tree == null) {
+            return null;
+        }
+        return ResponseEntity.ok(tree);
+    }
+
     @Operation(summary = "Update version", description = "Update an existing version's details")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Version updated successfully"),
@@ -113,12 +145,12 @@ public class VersionController {
 
     @Operation(summary = "Delete version", description = "Soft delete a version (marks as deleted but preserves data)")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "204", description = "Version deleted successfully"),
+            @ApiResponse(responseCode = "202", description = "Version deleted, subtree cascade started"),
             @ApiResponse(responseCode = "403", description = "Access denied - insufficient permissions"),
             @ApiResponse(responseCode = "404", description = "Version, platform, project, or company not found")
     })
     @DeleteMapping("/{versionId}")
-    public ResponseEntity<Void> deleteVersion(
+    public ResponseEntity<CascadeJobDto> deleteVersion(
             @Parameter(description = "Company ID", required = true) @PathVariable Long companyId,
             @Parameter(description = "Project ID", required = true) @PathVariable Long projectId,
             @Parameter(description = "Platform ID", required = true) @PathVariable Long platformId,
@@ -126,7 +158,7 @@ public class VersionController {
             Authentication authentication) {
         
         String userEmail = authentication.getName();
-        versionService.deleteVersion(companyId, projectId, platformId, versionId, userEmail);
-        return ResponseEntity.noContent().build();
+        CascadeJobDto job = versionService.deleteVersion(companyId, projectId, platformId, versionId, userEmail);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
     }
 }
@@ -0,0 +1,61 @@
+package com.test.backend.dto;
+
+import com.test.backend.enums.TestStepStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Request DTO for recording the execution results of several test steps of one company at once.
+ * Used by automated runners that write results back in batches. With a testRunId the results
+ * are also appended to the history of that test run.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTestStepExecutionRequest {
+
+    @NotNull(message = "Company ID is required")
+    private Long companyId;
+
+    private Long testRunId;
+
+    @NotEmpty(message = "Results are required")
+    @Size(max = 1000, message = "At most 1000 results can be sent at once")
+    @Valid
+    private List<StepExecutionItem> results;
+
+    /**
+     * DTO for the execution result of a single test step
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StepExecutionItem {
+
+        @NotNull(message = "Test step ID is required")
+        private Long testStepId;
+
+        @NotNull(message = "Status is required")
+        private TestStepStatus status;
+
+        @Size(max = 5000, message = "Actual result must not exceed 5000 characters")
+        private String actualResult;
+
+        @Min(value = 0, message = "Duration must not be negative")
+        private Long durationMs;
+
+        private LocalDateTime executedAt;
+
+        @Size(max = 10, message = "At most 10 artifacts can be attached to a step")
+        private List<@Size(max = 80, message = "Artifact ID must not exceed 80 characters") String> artifactIds;
+    }
+}
@@ -0,0 +1,71 @@
+package com.test.backend.dto;
+
+import com.test.backend.enums.StepActionVerb;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for creating or updating several test steps of one test scenario at once.
+ * Items with an id update that test step, items without an id create a new one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTestStepsRequest {
+
+    @NotNull(message = "Context is required")
+    @Valid
+    private TestStepRequestDto context;
+
+    @NotEmpty(message = "Test steps are required")
+    @Size(max = 500, message = "At most 500 test steps can be sent at once")
+    @Valid
+    private List<TestStepItem> testSteps;
+
+    /**
+     * DTO for a single test step in a bulk request
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TestStepItem {
+
+        private Long id;
+
+        @NotNull(message = "Step order is required")
+        @Min(value = 1, message = "Step order must be at least 1")
+        private Integer stepOrder;
+
+        @NotBlank(message = "Action is required")
+        @Size(max = 5000, message = "Action must not exceed 5000 characters")
+        private String action;
+
+        @Size(max = 5000, message = "Expected result must not exceed 5000 characters")
+        private String expectedResult;
+
+        @Size(max = 5000, message = "Notes must not exceed 5000 characters")
+        private String notes;
+
+        private StepActionVerb actionVerb;
+
+        @Size(max = 2000, message = "Action selector must not exceed 2000 characters")
+        private String actionSelector;
+
+        @Size(max = 5000, message = "Action value must not exceed 5000 characters")
+        private String actionValue;
+
+        @Min(value = 0, message = "Action timeout must not be negative")
+        @Max(value = 600000, message = "Action timeout must not exceed 600000 ms")
+        private Integer actionTimeoutMs;
+    }
+}
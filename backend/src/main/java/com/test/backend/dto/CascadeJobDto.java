@@ -0,0 +1,30 @@
+package com.test.backend.dto;
+
+import com.test.backend.enums.CascadeJobStatus;
+import com.test.backend.enums.HierarchyLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO describing the progress of a cascading soft delete or restore.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CascadeJobDto {
+
+    private String jobId;
+    private String operation;
+    private HierarchyLevel level;
+    private Long rootId;
+    private CascadeJobStatus status;
+    private int completedLevels;
+    private int totalLevels;
+    private long affectedRows;
+    private String error;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,6 @@
+package com.test.backend.dto;
+
+/**
+ * Projection holding the number of active children of a parent node.
+ */
+public record ChildCount(Long parentId, Long count) {}
@@ -0,0 +1,27 @@
+package com.test.backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for starting a test run of a test scenario or a whole test suite.
+ * Exactly one of testScenarioId and testSuiteId must be set.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateTestRunRequest {
+
+    @NotNull(message = "Company ID is required")
+    private Long companyId;
+
+    private Long testScenarioId;
+
+    private Long testSuiteId;
+
+    @Size(max = 200, message = "Test run name must not exceed 200 characters")
+    private String name;
+}
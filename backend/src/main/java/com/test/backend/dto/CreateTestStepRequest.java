@@ -1,9 +1,11 @@
 package com.test.backend.dto;
 
+import com.test.backend.enums.StepActionVerb;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -30,4 +32,16 @@ public class CreateTestStepRequest {
     
     @Size(max = 5000, message = "Notes must not exceed 5000 characters")
     private String notes;
+    
+    private StepActionVerb actionVerb;
+    
+    @Size(max = 2000, message = "Action selector must not exceed 2000 characters")
+    private String actionSelector;
+    
+    @Size(max = 5000, message = "Action value must not exceed 5000 characters")
+    private String actionValue;
+    
+    @Min(value = 0, message = "Action timeout must not be negative")
+    @Max(value = 600000, message = "Action timeout must not exceed 600000 ms")
+    private Integer actionTimeoutMs;
 }
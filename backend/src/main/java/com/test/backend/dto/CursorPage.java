@@ -0,0 +1,43 @@
+package com.test.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of a keyset-paginated list.
+ * Pass nextCursor back as the cursor parameter to fetch the following page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+
+    /**
+     * Clamp a requested page size to the allowed range.
+     */
+    public static int clampLimit(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_LIMIT);
+    }
+
+    /**
+     * Build a page from rows fetched with limit + 1, so that the extra row signals another page.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int limit, Function<List<E>, List<T>> mapper,
+                                          Function<E, String> cursor) {
+        boolean hasMore = rows.size() > limit;
+        List<E> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? cursor.apply(pageRows.get(pageRows.size() - 1)) : null;
+        return new CursorPage<>(mapper.apply(pageRows), nextCursor, hasMore);
+    }
+}
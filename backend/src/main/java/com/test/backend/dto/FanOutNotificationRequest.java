@@ -0,0 +1,43 @@
+package com.test.backend.dto;
+
+import com.test.backend.entity.CompanyRole;
+import com.test.backend.enums.NotificationType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Request DTO for sending one notification to every member of a company,
+ * optionally only to members with one of the given roles.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FanOutNotificationRequest {
+
+    @NotNull(message = "Company ID is required")
+    private Long companyId;
+
+    private Set<CompanyRole> roles;
+
+    @NotNull(message = "Notification type is required")
+    private NotificationType type;
+
+    @NotBlank(message = "Title is required")
+    @Size(max = 255, message = "Title must not exceed 255 characters")
+    private String title;
+
+    @NotBlank(message = "Message is required")
+    @Size(max = 5000, message = "Message must not exceed 5000 characters")
+    private String message;
+
+    @Size(max = 255, message = "Action URL must not exceed 255 characters")
+    private String actionUrl;
+
+    private Long relatedEntityId;
+}
@@ -0,0 +1,51 @@
+package com.test.backend.dto;
+
+import java.util.Objects;
+
+/**
+ * Projection holding the ancestor id chain of a node in the test hierarchy
+ * (company > project > platform > version > test suite > test feature > test scenario).
+ * Levels below the resolved node are null.
+ */
+public record HierarchyPath(
+    Long companyId,
+    Long projectId,
+    Long platformId,
+    Long versionId,
+    Long testSuiteId,
+    Long testFeatureId,
+    Long testScenarioId
+) {
+
+    public HierarchyPath(Long companyId, Long projectId, Long platformId) {
+        this(companyId, projectId, platformId, null, null, null, null);
+    }
+
+    public HierarchyPath(Long companyId, Long projectId, Long platformId, Long versionId) {
+        this(companyId, projectId, platformId, versionId, null, null, null);
+    }
+
+    public HierarchyPath(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId) {
+        this(companyId, projectId, platformId, versionId, testSuiteId, null, null);
+    }
+
+    public HierarchyPath(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId,
+                         Long testFeatureId) {
+        this(companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, null);
+    }
+
+    /**
+     * Check whether this path matches the given ids.
+     * Levels that are null on this path are not compared.
+     */
+    public boolean matches(Long companyId, Long projectId, Long platformId, Long versionId,
+                           Long testSuiteId, Long testFeatureId, Long testScenarioId) {
+        return Objects.equals(this.companyId, companyId)
+                && Objects.equals(this.projectId, projectId)
+                && Objects.equals(this.platformId, platformId)
+                && (this.versionId == null || this.versionId.equals(versionId))
+                && (this.testSuiteId == null || this.testSuiteId.equals(testSuiteId))
+                && (this.testFeatureId == null || this.testFeatureId.equals(testFeatureId))
+                && (this.testScenarioId == null || this.testScenarioId.equals(testScenarioId));
+    }
+}
@@ -0,0 +1,25 @@
+package com.test.backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for moving a single test step within its test scenario.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveTestStepRequest {
+
+    @NotNull(message = "Context is required")
+    @Valid
+    private TestStepRequestDto context;
+
+    /**
+     * Step to place the moved step after; null moves it to the front.
+     */
+    private Long afterStepId;
+}
@@ -0,0 +1,11 @@
+package com.test.backend.dto;
+
+/**
+ * Projection holding the id of a notification inserted by a fan-out and its recipient.
+ */
+public interface NotificationRecipient {
+
+    Long getId();
+
+    Long getUserId();
+}
@@ -0,0 +1,27 @@
+package com.test.backend.dto;
+
+import com.test.backend.enums.HierarchyLevel;
+import com.test.backend.enums.TestScenarioStatus;
+import com.test.backend.enums.TestStepStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO holding the number of active test scenarios and test steps per status below one hierarchy node.
+ * Every status is present, with zero when no item has it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusRollupDto {
+
+    private HierarchyLevel level;
+    private Long nodeId;
+    private Map<TestScenarioStatus, Long> testScenarioCounts;
+    private long testScenarioTotal;
+    private Map<TestStepStatus, Long> testStepCounts;
+    private long testStepTotal;
+}
@@ -0,0 +1,29 @@
+package com.test.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for TestRun entity.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestRunDto {
+
+    private Long id;
+    private String name;
+    private Long companyId;
+    private Long versionId;
+    private Long testSuiteId;
+    private Long testScenarioId;
+    private LocalDate runDate;
+    private Integer resultCount;
+    private Long startedById;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+}
@@ -1,11 +1,13 @@
 package com.test.backend.dto;
 
+import com.test.backend.enums.StepActionVerb;
 import com.test.backend.enums.TestStepStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * DTO for TestStep entity.
@@ -22,10 +24,17 @@ public class TestStepDto {
     private String actualResult;
     private TestStepStatus status;
     private String notes;
+    private StepActionVerb actionVerb;
+    private String actionSelector;
+    private String actionValue;
+    private Integer actionTimeoutMs;
     private Long testScenarioId;
     private String testScenarioName;
     private Long executedById;
     private String executedByName;
+    private LocalDateTime executedAt;
+    private Long durationMs;
+    private List<String> failureArtifactIds;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
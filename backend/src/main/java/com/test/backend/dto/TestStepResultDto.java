@@ -0,0 +1,27 @@
+package com.test.backend.dto;
+
+import com.test.backend.enums.TestStepStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the recorded result of a test step within a test run.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestStepResultDto {
+
+    private Long testRunId;
+    private Long testStepId;
+    private TestStepStatus status;
+    private Integer durationMs;
+    private LocalDateTime executedAt;
+    private Long executedById;
+    private String actualResult;
+    private List<String> artifactIds;
+}
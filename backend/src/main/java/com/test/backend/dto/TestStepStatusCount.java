@@ -0,0 +1,8 @@
+package com.test.backend.dto;
+
+import com.test.backend.enums.TestStepStatus;
+
+/**
+ * Projection holding the number of active test steps with one status.
+ */
+public record TestStepStatusCount(TestStepStatus status, Long count) {}
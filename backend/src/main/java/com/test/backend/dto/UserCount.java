@@ -0,0 +1,6 @@
+package com.test.backend.dto;
+
+/**
+ * Projection holding a count per user.
+ */
+public record UserCount(Long userId, Long count) {}
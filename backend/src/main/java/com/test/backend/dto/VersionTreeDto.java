@@ -0,0 +1,101 @@
+package com.test.backend.dto;
+
+import com.test.backend.enums.StepActionVerb;
+import com.test.backend.enums.TestScenarioPriority;
+import com.test.backend.enums.TestScenarioStatus;
+import com.test.backend.enums.TestStepStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the test hierarchy under a version.
+ * Child lists below the requested depth are null; loaded levels without children are empty.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VersionTreeDto {
+
+    private Long versionId;
+    private String versionName;
+    private int depth;
+    private List<TestSuiteNode> testSuites;
+
+    /**
+     * Test suite node of the tree
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TestSuiteNode {
+        private Long id;
+        private String name;
+        private String description;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private List<TestFeatureNode> testFeatures;
+    }
+
+    /**
+     * Test feature node of the tree
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TestFeatureNode {
+        private Long id;
+        private String name;
+        private String description;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private List<TestScenarioNode> testScenarios;
+    }
+
+    /**
+     * Test scenario node of the tree
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TestScenarioNode {
+        private Long id;
+        private String name;
+        private String description;
+        private String preconditions;
+        private String expectedResult;
+        private TestScenarioPriority priority;
+        private TestScenarioStatus status;
+        private Integer estimatedDurationMinutes;
+        private Long assignedToId;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private List<TestStepNode> testSteps;
+    }
+
+    /**
+     * Test step node of the tree
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TestStepNode {
+        private Long id;
+        private Integer stepOrder;
+        private String action;
+        private StepActionVerb actionVerb;
+        private String actionSelector;
+        private String actionValue;
+        private Integer actionTimeoutMs;
+        private String expectedResult;
+        private String actualResult;
+        private TestStepStatus status;
+        private String notes;
+        private Long executedById;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+}
@@ -14,6 +14,7 @@ import java.time.LocalDateTime;
 /**
  * Base entity class that provides common fields for all entities.
  * Contains id, creation timestamp, update timestamp, and soft delete functionality.
+ * Ids come from a pooled per-entity sequence so inserts can be sent as JDBC batches.
  */
 @Getter
 @Setter
@@ -22,7 +23,7 @@ import java.time.LocalDateTime;
 public abstract class BaseEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "id")
     private Long id;
     
@@ -24,6 +24,7 @@ import java.util.Objects;
 @NoArgsConstructor
 @AllArgsConstructor
 @IdClass(CompanyMember.CompanyMemberId.class)
+@EntityListeners(CompanyMemberListener.class)
 public class CompanyMember {
     
     @Id
@@ -0,0 +1,27 @@
+package com.test.backend.entity;
+
+import com.test.backend.security.CompanyMembershipChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA entity listener that announces company membership changes so cached
+ * authorization contexts can be invalidated.
+ */
+public class CompanyMemberListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onMembershipChanged(CompanyMember companyMember) {
+        if (companyMember.getUser() != null) {
+            eventPublisher.publishEvent(new CompanyMembershipChangedEvent(companyMember.getUser().getId()));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.test.backend.entity;
+
+import com.test.backend.enums.HierarchyLevel;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Number of active test scenarios or test steps with one status below a hierarchy node.
+ * The item kind is TEST_SCENARIO or TEST_STEP and the status is the name of the
+ * matching status enum. Rows are only changed through StatusRollupRepository.
+ */
+@Entity
+@Table(name = "status_rollups")
+@IdClass(StatusRollupId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusRollup {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "node_level", length = 20)
+    private HierarchyLevel nodeLevel;
+
+    @Id
+    @Column(name = "node_id")
+    private Long nodeId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "item_kind", length = 20)
+    private HierarchyLevel itemKind;
+
+    @Id
+    @Column(name = "status", length = 20)
+    private String status;
+
+    @Column(name = "item_count", nullable = false)
+    private Long itemCount;
+}
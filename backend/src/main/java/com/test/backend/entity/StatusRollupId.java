@@ -0,0 +1,22 @@
+package com.test.backend.entity;
+
+import com.test.backend.enums.HierarchyLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Composite key of {@link StatusRollup}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusRollupId implements Serializable {
+
+    private HierarchyLevel nodeLevel;
+    private Long nodeId;
+    private HierarchyLevel itemKind;
+    private String status;
+}
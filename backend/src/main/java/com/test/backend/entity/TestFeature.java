@@ -39,6 +39,10 @@ public class TestFeature extends BaseEntity {
     @JoinColumn(name = "created_by", nullable = false, foreignKey = @ForeignKey(name = "fk_test_feature_created_by"))
     private User createdBy;
     
+    // Denormalized number of active test scenarios, maintained by ChildCountService
+    @Column(name = "test_scenario_count", insertable = false, updatable = false, columnDefinition = "integer not null default 0")
+    private Integer testScenarioCount;
+    
     @OneToMany(mappedBy = "testFeature", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<TestScenario> testScenarios = new ArrayList<>();
     
@@ -0,0 +1,63 @@
+package com.test.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * TestRun entity representing one execution of a test scenario or a whole test suite.
+ * The step results of a run are appended to the partitioned result tables under the
+ * run's runDate, so every result of a run lands in the same partition.
+ * Extends BaseEntity to inherit id, createdAt, updatedAt, and deletedAt fields.
+ */
+@Entity
+@Table(name = "test_runs", indexes = {
+    @Index(name = "idx_test_run_scenario", columnList = "test_scenario_id, created_at DESC"),
+    @Index(name = "idx_test_run_suite", columnList = "test_suite_id, created_at DESC"),
+    @Index(name = "idx_test_run_run_date", columnList = "run_date")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestRun extends BaseEntity {
+
+    @Column(name = "name", length = 200)
+    private String name;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "result_count", nullable = false)
+    private Integer resultCount = 0;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id", nullable = false, foreignKey = @ForeignKey(name = "fk_test_run_company"))
+    private Company company;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "version_id", nullable = false, foreignKey = @ForeignKey(name = "fk_test_run_version"))
+    private Version version;
+
+    // Set for suite runs, null for runs of a single scenario
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "test_suite_id", foreignKey = @ForeignKey(name = "fk_test_run_suite"))
+    private TestSuite testSuite;
+
+    // Set for scenario runs, null for suite runs
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "test_scenario_id", foreignKey = @ForeignKey(name = "fk_test_run_scenario"))
+    private TestScenario testScenario;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "started_by", nullable = false, foreignKey = @ForeignKey(name = "fk_test_run_started_by"))
+    private User startedBy;
+}
@@ -60,6 +60,10 @@ public class TestScenario extends BaseEntity {
     @JoinColumn(name = "created_by", nullable = false, foreignKey = @ForeignKey(name = "fk_test_case_created_by"))
     private User createdBy;
     
+    // Denormalized number of active test steps, maintained by ChildCountService
+    @Column(name = "test_step_count", insertable = false, updatable = false, columnDefinition = "integer not null default 0")
+    private Integer testStepCount;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_to", foreignKey = @ForeignKey(name = "fk_test_case_assigned_to"))
     private User assignedTo;
@@ -1,5 +1,6 @@
 package com.test.backend.entity;
 
+import com.test.backend.enums.StepActionVerb;
 import com.test.backend.enums.TestStepStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -7,6 +8,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 /**
  * TestStep entity representing individual steps within a test scenario.
  * Each test step contains action, expected result and execution details.
@@ -43,6 +46,19 @@ public class TestStep extends BaseEntity {
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
     
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action_verb", length = 30)
+    private StepActionVerb actionVerb;
+    
+    @Column(name = "action_selector", columnDefinition = "TEXT")
+    private String actionSelector;
+    
+    @Column(name = "action_value", columnDefinition = "TEXT")
+    private String actionValue;
+    
+    @Column(name = "action_timeout_ms")
+    private Integer actionTimeoutMs;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "test_scenario_id", nullable = false, foreignKey = @ForeignKey(name = "fk_test_step_scenario"))
     private TestScenario testScenario;
@@ -50,4 +66,14 @@ public class TestStep extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "executed_by", foreignKey = @ForeignKey(name = "fk_test_step_executed_by"))
     private User executedBy;
+    
+    @Column(name = "executed_at")
+    private LocalDateTime executedAt;
+    
+    @Column(name = "duration_ms")
+    private Long durationMs;
+    
+    // Comma-separated artifact ids of the last failed execution, cleared when the step passes
+    @Column(name = "failure_artifact_ids", length = 1000)
+    private String failureArtifactIds;
 }
@@ -0,0 +1,49 @@
+package com.test.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Compact, append-only result of one test step within a test run.
+ * Rows are only inserted (see TestStepResultRepository) and never updated; large text
+ * lives in {@link TestStepResultDetail}. The status is the code of TestStepStatus.
+ */
+@Entity
+@Table(name = "test_step_results")
+@IdClass(TestStepResultId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestStepResult {
+
+    @Id
+    @Column(name = "run_date")
+    private LocalDate runDate;
+
+    @Id
+    @Column(name = "test_run_id")
+    private Long testRunId;
+
+    @Id
+    @Column(name = "test_step_id")
+    private Long testStepId;
+
+    @Column(name = "status", nullable = false)
+    private Short status;
+
+    @Column(name = "duration_ms")
+    private Integer durationMs;
+
+    @Column(name = "executed_at", nullable = false)
+    private LocalDateTime executedAt;
+
+    @Column(name = "executed_by")
+    private Long executedBy;
+}
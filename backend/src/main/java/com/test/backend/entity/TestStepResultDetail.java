@@ -0,0 +1,42 @@
+package com.test.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Large text of a {@link TestStepResult}, kept in its own table so the result rows stay small.
+ * Only written for results that have an actual result or failure artifacts.
+ */
+@Entity
+@Table(name = "test_step_result_details")
+@IdClass(TestStepResultId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestStepResultDetail {
+
+    @Id
+    @Column(name = "run_date")
+    private LocalDate runDate;
+
+    @Id
+    @Column(name = "test_run_id")
+    private Long testRunId;
+
+    @Id
+    @Column(name = "test_step_id")
+    private Long testStepId;
+
+    @Column(name = "actual_result", columnDefinition = "TEXT")
+    private String actualResult;
+
+    // Comma-separated failure artifact ids
+    @Column(name = "artifact_ids", length = 1000)
+    private String artifactIds;
+}
@@ -0,0 +1,22 @@
+package com.test.backend.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Composite key of {@link TestStepResult} and {@link TestStepResultDetail}.
+ * The run date leads the key because it is the partition key of both tables.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestStepResultId implements Serializable {
+
+    private LocalDate runDate;
+    private Long testRunId;
+    private Long testStepId;
+}
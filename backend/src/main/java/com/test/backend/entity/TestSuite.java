@@ -39,6 +39,10 @@ public class TestSuite extends BaseEntity {
     @JoinColumn(name = "created_by", nullable = false, foreignKey = @ForeignKey(name = "fk_test_suite_created_by"))
     private User createdBy;
     
+    // Denormalized number of active test features, maintained by ChildCountService
+    @Column(name = "test_feature_count", insertable = false, updatable = false, columnDefinition = "integer not null default 0")
+    private Integer testFeatureCount;
+    
     @OneToMany(mappedBy = "testSuite", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<TestFeature> testFeatures = new ArrayList<>();
     
@@ -0,0 +1,20 @@
+package com.test.backend.enums;
+
+/**
+ * Enum representing the status of a cascading soft delete or restore.
+ */
+public enum CascadeJobStatus {
+    RUNNING("Running"),
+    COMPLETED("Completed"),
+    FAILED("Failed");
+
+    private final String displayName;
+
+    CascadeJobStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,50 @@
+package com.test.backend.enums;
+
+/**
+ * Enum representing the levels of the test hierarchy, from the root down,
+ * with the table and parent foreign key column backing each level.
+ */
+public enum HierarchyLevel {
+    COMPANY("Company", "companies", null),
+    PROJECT("Project", "projects", "company_id"),
+    PLATFORM("Platform", "platforms", "project_id"),
+    VERSION("Version", "versions", "platform_id"),
+    TEST_SUITE("Test suite", "test_suites", "version_id"),
+    TEST_FEATURE("Test feature", "test_features", "test_suite_id"),
+    TEST_SCENARIO("Test scenario", "test_cases", "test_feature_id"),
+    TEST_STEP("Test step", "test_steps", "test_scenario_id");
+
+    private final String displayName;
+    private final String tableName;
+    private final String parentColumn;
+
+    HierarchyLevel(String displayName, String tableName, String parentColumn) {
+        this.displayName = displayName;
+        this.tableName = tableName;
+        this.parentColumn = parentColumn;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getParentColumn() {
+        return parentColumn;
+    }
+
+    /**
+     * Get the level directly above this one, or null for the root.
+     */
+    public HierarchyLevel getParent() {
+        return ordinal() == 0 ? null : values()[ordinal() - 1];
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,65 @@
+package com.test.backend.enums;
+
+/**
+ * Enum representing the typed action of an automated test step.
+ * Each verb maps to one web framework action; the flags tell which
+ * step fields the action needs.
+ */
+public enum StepActionVerb {
+    NAVIGATE("Navigate", false, true),
+    RELOAD("Reload", false, false),
+    GO_BACK("Go Back", false, false),
+    GO_FORWARD("Go Forward", false, false),
+    CLICK("Click", true, false),
+    DOUBLE_CLICK("Double Click", true, false),
+    RIGHT_CLICK("Right Click", true, false),
+    TYPE("Type", true, true),
+    FILL("Fill", true, true),
+    CLEAR("Clear", true, false),
+    SELECT_BY_VALUE("Select By Value", true, true),
+    SELECT_BY_TEXT("Select By Text", true, true),
+    CHECK("Check", true, false),
+    UNCHECK("Uncheck", true, false),
+    HOVER("Hover", true, false),
+    FOCUS("Focus", true, false),
+    SCROLL_INTO_VIEW("Scroll Into View", true, false),
+    WAIT_FOR_SELECTOR("Wait For Selector", true, false),
+    WAIT_FOR_TIMEOUT("Wait For Timeout", false, false),
+    WAIT_FOR_NETWORK_IDLE("Wait For Network Idle", false, false),
+    WAIT_FOR_DOM_QUIET("Wait For DOM Quiet", false, false),
+    GET_TEXT("Get Text", true, false),
+    GET_VALUE("Get Value", true, false),
+    GET_ATTRIBUTE("Get Attribute", true, true),
+    GET_PAGE_TITLE("Get Page Title", false, false),
+    GET_CURRENT_URL("Get Current URL", false, false),
+    IS_VISIBLE("Is Visible", true, false),
+    IS_ENABLED("Is Enabled", true, false),
+    IS_CHECKED("Is Checked", true, false);
+
+    private final String displayName;
+    private final boolean selectorRequired;
+    private final boolean valueRequired;
+
+    StepActionVerb(String displayName, boolean selectorRequired, boolean valueRequired) {
+        this.displayName = displayName;
+        this.selectorRequired = selectorRequired;
+        this.valueRequired = valueRequired;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public boolean isSelectorRequired() {
+        return selectorRequired;
+    }
+
+    public boolean isValueRequired() {
+        return valueRequired;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -2,22 +2,38 @@ package com.test.backend.enums;
 
 /**
  * Enum representing test step execution status.
+ * The code is the compact form stored in the execution history tables.
  */
 public enum TestStepStatus {
-    NOT_EXECUTED("Not Executed", "Test step has not been executed yet"),
-    PASSED("Passed", "Test step execution passed"),
-    FAILED("Failed", "Test step execution failed"),
-    BLOCKED("Blocked", "Test step execution is blocked"),
-    SKIPPED("Skipped", "Test step execution was skipped");
+    NOT_EXECUTED(0, "Not Executed", "Test step has not been executed yet"),
+    PASSED(1, "Passed", "Test step execution passed"),
+    FAILED(2, "Failed", "Test step execution failed"),
+    BLOCKED(3, "Blocked", "Test step execution is blocked"),
+    SKIPPED(4, "Skipped", "Test step execution was skipped");
 
+    private final short code;
     private final String displayName;
     private final String description;
 
-    TestStepStatus(String displayName, String description) {
+    TestStepStatus(int code, String displayName, String description) {
+        this.code = (short) code;
         this.displayName = displayName;
         this.description = description;
     }
 
+    public short getCode() {
+        return code;
+    }
+
+    public static TestStepStatus fromCode(short code) {
+        for (TestStepStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown test step status code: " + code);
+    }
+
     public String getDisplayName() {
         return displayName;
     }
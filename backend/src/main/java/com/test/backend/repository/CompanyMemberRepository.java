@@ -4,11 +4,13 @@ import com.test.backend.entity.Company;
 import com.test.backend.entity.CompanyMember;
 import com.test.backend.entity.CompanyRole;
 import com.test.backend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -78,4 +80,18 @@ public interface CompanyMemberRepository extends JpaRepository<CompanyMember, Co
      */
     @Query("SELECT cm FROM CompanyMember cm WHERE cm.company.id = :companyId AND cm.user.id = :userId")
     Optional<CompanyMember> findByCompanyIdAndUserId(@Param("companyId") Long companyId, @Param("userId") Long userId);
+
+    /**
+     * Find the first keyset page of company members ordered by join time.
+     */
+    @Query("SELECT cm FROM CompanyMember cm WHERE cm.company = :company ORDER BY cm.joinedAt, cm.user.id")
+    List<CompanyMember> findPageByCompany(@Param("company") Company company, Pageable pageable);
+
+    /**
+     * Find the keyset page following the given (joinedAt, userId) cursor.
+     */
+    @Query("SELECT cm FROM CompanyMember cm WHERE cm.company = :company " +
+           "AND (cm.joinedAt > :joinedAt OR (cm.joinedAt = :joinedAt AND cm.user.id > :userId)) ORDER BY cm.joinedAt, cm.user.id")
+    List<CompanyMember> findPageByCompanyAfter(@Param("company") Company company, @Param("joinedAt") LocalDateTime joinedAt,
+                                               @Param("userId") Long userId, Pageable pageable);
 }
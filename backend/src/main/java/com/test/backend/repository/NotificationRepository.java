@@ -1,14 +1,20 @@
 package com.test.backend.repository;
 
+import com.test.backend.dto.NotificationRecipient;
+import com.test.backend.dto.UserCount;
 import com.test.backend.entity.Notification;
 import com.test.backend.entity.User;
 import com.test.backend.enums.NotificationType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -33,9 +39,17 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByUserAndTypeOrderByCreatedAtDesc(User user, NotificationType type);
     
     /**
-     * Count unread notifications for a user.
+     * Count unread notifications for a user id.
      */
-    long countByUserAndIsReadFalse(User user);
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
+    long countUnreadByUserId(@Param("userId") Long userId);
+
+    /**
+     * Count unread notifications per user id; users without unread notifications are left out.
+     */
+    @Query("SELECT new com.test.backend.dto.UserCount(n.user.id, COUNT(n)) FROM Notification n " +
+           "WHERE n.user.id IN :userIds AND n.isRead = false GROUP BY n.user.id")
+    List<UserCount> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
     
     /**
      * Find notifications by related entity ID.
@@ -47,5 +61,48 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true, n.readAt = CURRENT_TIMESTAMP WHERE n.user = :user AND n.isRead = false")
-    void markAllAsReadForUser(@Param("user") User user);
+    int markAllAsReadForUser(@Param("user") User user);
+
+    /**
+     * Find the first keyset page of a user's notifications, newest first.
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user = :user ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findPageByUser(@Param("user") User user, Pageable pageable);
+
+    /**
+     * Find the keyset page following the given (createdAt, id) cursor.
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user = :user " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findPageByUserAfter(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Find a user's notifications created after the one with the given id, oldest first.
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.id > :afterId ORDER BY n.id")
+    List<Notification> findByUserIdAfterId(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Insert one notification for every member of a company with one of the given roles
+     * (all roles when null), leaving out one user, in a single statement.
+     * Returns the id and recipient of every inserted row.
+     */
+    @Transactional
+    @Query(value = "INSERT INTO notifications (user_id, type, title, message, is_read, action_url, related_entity_id, created_at) " +
+                   "SELECT cm.user_id, :type, :title, :message, false, :actionUrl, :relatedEntityId, :createdAt " +
+                   "FROM company_members cm " +
+                   "WHERE cm.company_id = :companyId AND cm.user_id <> :excludedUserId " +
+                   "AND (CAST(:roles AS text[]) IS NULL OR cm.role = ANY(CAST(:roles AS text[]))) " +
+                   "ORDER BY cm.user_id " +
+                   "RETURNING id AS \"id\", user_id AS \"userId\"", nativeQuery = true)
+    List<NotificationRecipient> insertForCompanyMembers(@Param("companyId") Long companyId,
+                                                        @Param("roles") String[] roles,
+                                                        @Param("excludedUserId") Long excludedUserId,
+                                                        @Param("type") String type,
+                                                        @Param("title") String title,
+                                                        @Param("message") String message,
+                                                        @Param("actionUrl") String actionUrl,
+                                                        @Param("relatedEntityId") Long relatedEntityId,
+                                                        @Param("createdAt") LocalDateTime createdAt);
 }
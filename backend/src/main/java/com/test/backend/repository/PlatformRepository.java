@@ -1,5 +1,6 @@
 package com.test.backend.repository;
 
+import com.test.backend.dto.HierarchyPath;
 import com.test.backend.entity.Platform;
 import com.test.backend.enums.PlatformType;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -63,4 +64,11 @@ public interface PlatformRepository extends JpaRepository<Platform, Long> {
      */
     @Query("SELECT p FROM Platform p WHERE p.id = :id AND p.deletedAt IS NULL")
     Optional<Platform> findActiveById(@Param("id") Long id);
+
+    /**
+     * Resolve the ancestor id chain of a platform in a single query.
+     */
+    @Query("SELECT new com.test.backend.dto.HierarchyPath(pr.company.id, pr.id, p.id) " +
+           "FROM Platform p JOIN p.project pr WHERE p.id = :id")
+    Optional<HierarchyPath> findHierarchyPathById(@Param("id") Long id);
 }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +34,12 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      */
     @Query("SELECT p FROM Project p WHERE p.id = :projectId AND p.company = :company AND p.deletedAt IS NULL")
     Optional<Project> findByIdAndCompany(@Param("projectId") Long projectId, @Param("company") Company company);
+
+    /**
+     * Check whether a project belongs to a company (including soft deleted ones).
+     */
+    @Query("SELECT COUNT(p) > 0 FROM Project p WHERE p.id = :projectId AND p.company = :company")
+    boolean existsByIdAndCompany(@Param("projectId") Long projectId, @Param("company") Company company);
     
     /**
      * Check if project name exists in company.
@@ -57,4 +64,10 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      */
     @Query("SELECT p FROM Project p WHERE p.id = :id AND p.deletedAt IS NULL")
     Optional<Project> findActiveById(@Param("id") Long id);
+
+    /**
+     * Find which of the given project ids are active projects of a company.
+     */
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids AND p.company.id = :companyId AND p.deletedAt IS NULL")
+    List<Long> findActiveIdsByCompanyId(@Param("ids") Collection<Long> ids, @Param("companyId") Long companyId);
 }
@@ -0,0 +1,84 @@
+package com.test.backend.repository;
+
+import com.test.backend.entity.StatusRollup;
+import com.test.backend.entity.StatusRollupId;
+import com.test.backend.enums.HierarchyLevel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for StatusRollup rows.
+ */
+@Repository
+public interface StatusRollupRepository extends JpaRepository<StatusRollup, StatusRollupId> {
+
+    /**
+     * Find the rollup rows of several nodes of one level.
+     */
+    @Query("SELECT r FROM StatusRollup r WHERE r.nodeLevel = :nodeLevel AND r.nodeId IN :nodeIds")
+    List<StatusRollup> findByNodes(@Param("nodeLevel") HierarchyLevel nodeLevel, @Param("nodeIds") Collection<Long> nodeIds);
+
+    /**
+     * Add signed deltas to several rollup rows in one statement, creating missing rows.
+     * Callers pass the rows sorted by key so concurrent writers lock them in the same order.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO status_rollups (node_level, node_id, item_kind, status, item_count) " +
+                   "SELECT v.node_level, v.node_id, v.item_kind, v.status, v.delta " +
+                   "FROM unnest(CAST(:nodeLevels AS varchar[]), CAST(:nodeIds AS bigint[]), " +
+                   "CAST(:itemKinds AS varchar[]), CAST(:statuses AS varchar[]), CAST(:deltas AS bigint[])) " +
+                   "AS v(node_level, node_id, item_kind, status, delta) " +
+                   "ON CONFLICT (node_level, node_id, item_kind, status) " +
+                   "DO UPDATE SET item_count = status_rollups.item_count + EXCLUDED.item_count", nativeQuery = true)
+    int applyDeltas(@Param("nodeLevels") String[] nodeLevels, @Param("nodeIds") Long[] nodeIds,
+                    @Param("itemKinds") String[] itemKinds, @Param("statuses") String[] statuses,
+                    @Param("deltas") Long[] deltas);
+
+    /**
+     * Check whether any rollup row exists.
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM status_rollups)", nativeQuery = true)
+    boolean hasRows();
+
+    /**
+     * Delete every rollup row.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM status_rollups", nativeQuery = true)
+    int deleteAllRows();
+
+    /**
+     * Recompute every rollup row from the active test scenarios and test steps.
+     */
+    @Modifying
+    @Query(value = "WITH scenarios AS (" +
+                   "  SELECT sc.id, sc.status, tf.id AS feature_id, su.id AS suite_id, v.id AS version_id, " +
+                   "         pl.id AS platform_id, pl.project_id " +
+                   "  FROM test_cases sc " +
+                   "  JOIN test_features tf ON tf.id = sc.test_feature_id AND tf.deleted_at IS NULL " +
+                   "  JOIN test_suites su ON su.id = tf.test_suite_id AND su.deleted_at IS NULL " +
+                   "  JOIN versions v ON v.id = su.version_id AND v.deleted_at IS NULL " +
+                   "  JOIN platforms pl ON pl.id = v.platform_id AND pl.deleted_at IS NULL " +
+                   "  WHERE sc.deleted_at IS NULL" +
+                   "), items AS (" +
+                   "  SELECT 'TEST_SCENARIO' AS item_kind, s.status, s.feature_id, s.suite_id, s.version_id, " +
+                   "         s.platform_id, s.project_id FROM scenarios s " +
+                   "  UNION ALL " +
+                   "  SELECT 'TEST_STEP', ts.status, s.feature_id, s.suite_id, s.version_id, s.platform_id, s.project_id " +
+                   "  FROM test_steps ts JOIN scenarios s ON s.id = ts.test_scenario_id WHERE ts.deleted_at IS NULL" +
+                   ") " +
+                   "INSERT INTO status_rollups (node_level, node_id, item_kind, status, item_count) " +
+                   "SELECT 'TEST_FEATURE', feature_id, item_kind, status, COUNT(*) FROM items GROUP BY feature_id, item_kind, status " +
+                   "UNION ALL SELECT 'TEST_SUITE', suite_id, item_kind, status, COUNT(*) FROM items GROUP BY suite_id, item_kind, status " +
+                   "UNION ALL SELECT 'VERSION', version_id, item_kind, status, COUNT(*) FROM items GROUP BY version_id, item_kind, status " +
+                   "UNION ALL SELECT 'PLATFORM', platform_id, item_kind, status, COUNT(*) FROM items GROUP BY platform_id, item_kind, status " +
+                   "UNION ALL SELECT 'PROJECT', project_id, item_kind, status, COUNT(*) FROM items GROUP BY project_id, item_kind, status",
+           nativeQuery = true)
+    int insertRecalculatedRows();
+}
@@ -1,12 +1,18 @@
 package com.test.backend.repository;
 
+import com.test.backend.dto.ChildCount;
+import com.test.backend.dto.HierarchyPath;
 import com.test.backend.entity.TestFeature;
 import com.test.backend.entity.TestSuite;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,4 +51,55 @@ public interface TestFeatureRepository extends JpaRepository<TestFeature, Long>
      */
     @Query("SELECT tf FROM TestFeature tf WHERE tf.testSuite.id = :testSuiteId AND tf.deletedAt IS NULL")
     List<TestFeature> findByTestSuiteId(@Param("testSuiteId") Long testSuiteId);
+
+    /**
+     * Resolve the ancestor id chain of a test feature in a single query.
+     */
+    @Query("SELECT new com.test.backend.dto.HierarchyPath(pr.company.id, pr.id, pl.id, v.id, ts.id, tf.id) " +
+           "FROM TestFeature tf JOIN tf.testSuite ts JOIN ts.version v JOIN v.platform pl JOIN pl.project pr " +
+           "WHERE tf.id = :id")
+    Optional<HierarchyPath> findHierarchyPathById(@Param("id") Long id);
+
+    /**
+     * Count active test features per test suite.
+     */
+    @Query("SELECT new com.test.backend.dto.ChildCount(tf.testSuite.id, COUNT(tf)) FROM TestFeature tf " +
+           "WHERE tf.testSuite.id IN :testSuiteIds AND tf.deletedAt IS NULL GROUP BY tf.testSuite.id")
+    List<ChildCount> countActiveByTestSuiteIds(@Param("testSuiteIds") Collection<Long> testSuiteIds);
+
+    /**
+     * Adjust the denormalized test scenario counter of a test feature.
+     */
+    @Modifying
+    @Query(value = "UPDATE test_features SET test_scenario_count = test_scenario_count + :delta WHERE id = :id", nativeQuery = true)
+    void adjustTestScenarioCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * Recalculate the denormalized test scenario counters of all test features.
+     */
+    @Modifying
+    @Query(value = "UPDATE test_features f SET test_scenario_count = " +
+                   "(SELECT COUNT(*) FROM test_cases c WHERE c.test_feature_id = f.id AND c.deleted_at IS NULL)",
+           nativeQuery = true)
+    int recalculateTestScenarioCounts();
+
+    /**
+     * Find the first keyset page of test features in a test suite ordered by creation time.
+     */
+    @Query("SELECT tf FROM TestFeature tf WHERE tf.testSuite = :testSuite AND tf.deletedAt IS NULL ORDER BY tf.createdAt, tf.id")
+    List<TestFeature> findPageByTestSuite(@Param("testSuite") TestSuite testSuite, Pageable pageable);
+
+    /**
+     * Find the keyset page following the given (createdAt, id) cursor.
+     */
+    @Query("SELECT tf FROM TestFeature tf WHERE tf.testSuite = :testSuite AND tf.deletedAt IS NULL " +
+           "AND (tf.createdAt > :createdAt OR (tf.createdAt = :createdAt AND tf.id > :id)) ORDER BY tf.createdAt, tf.id")
+    List<TestFeature> findPageByTestSuiteAfter(@Param("testSuite") TestSuite testSuite, @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Find the active test features of several test suites for the hierarchy tree.
+     */
+    @Query("SELECT tf FROM TestFeature tf WHERE tf.testSuite.id IN :testSuiteIds AND tf.deletedAt IS NULL ORDER BY tf.createdAt, tf.id")
+    List<TestFeature> findTreeByTestSuiteIds(@Param("testSuiteIds") Collection<Long> testSuiteIds);
 }
@@ -0,0 +1,68 @@
+package com.test.backend.repository;
+
+import com.test.backend.entity.TestRun;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for TestRun entity and the partitions of the result tables.
+ */
+@Repository
+public interface TestRunRepository extends JpaRepository<TestRun, Long> {
+
+    /**
+     * Find test run by id (excluding soft deleted).
+     */
+    @Query("SELECT tr FROM TestRun tr WHERE tr.id = :id AND tr.deletedAt IS NULL")
+    Optional<TestRun> findActiveById(@Param("id") Long id);
+
+    /**
+     * Find the latest test runs of a test scenario (excluding soft deleted).
+     */
+    @Query("SELECT tr FROM TestRun tr WHERE tr.testScenario.id = :testScenarioId AND tr.deletedAt IS NULL " +
+           "ORDER BY tr.createdAt DESC")
+    List<TestRun> findLatestByTestScenarioId(@Param("testScenarioId") Long testScenarioId, Pageable pageable);
+
+    /**
+     * Find the latest test runs of a test suite (excluding soft deleted).
+     */
+    @Query("SELECT tr FROM TestRun tr WHERE tr.testSuite.id = :testSuiteId AND tr.deletedAt IS NULL " +
+           "ORDER BY tr.createdAt DESC")
+    List<TestRun> findLatestByTestSuiteId(@Param("testSuiteId") Long testSuiteId, Pageable pageable);
+
+    /**
+     * Add to the result count of a test run without loading it.
+     */
+    @Modifying
+    @Query("UPDATE TestRun tr SET tr.resultCount = tr.resultCount + :count WHERE tr.id = :id")
+    int incrementResultCount(@Param("id") Long id, @Param("count") int count);
+
+    /**
+     * Delete the test runs whose run date lies before the cutoff.
+     * Their results go with the dropped partitions.
+     */
+    @Modifying
+    @Query("DELETE FROM TestRun tr WHERE tr.runDate < :cutoff")
+    int deleteByRunDateBefore(@Param("cutoff") LocalDate cutoff);
+
+    /**
+     * Create the result partitions for the month of the given date if they do not exist.
+     */
+    @Query(value = "SELECT CAST(ensure_test_result_partitions(CAST(:month AS date)) AS text)", nativeQuery = true)
+    String ensureResultPartitions(@Param("month") LocalDate month);
+
+    /**
+     * Drop the result partitions of the months before the month of the cutoff.
+     * Returns the number of partitions dropped.
+     */
+    @Query(value = "SELECT drop_test_result_partitions_before(CAST(:cutoff AS date))", nativeQuery = true)
+    int dropResultPartitionsBefore(@Param("cutoff") LocalDate cutoff);
+}
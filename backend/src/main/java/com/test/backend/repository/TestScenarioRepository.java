@@ -1,15 +1,24 @@
 package com.test.backend.repository;
 
+import com.test.backend.dto.ChildCount;
+import com.test.backend.dto.HierarchyPath;
 import com.test.backend.entity.TestScenario;
 import com.test.backend.entity.TestFeature;
 import com.test.backend.enums.TestScenarioStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for TestScenario entity.
@@ -58,4 +67,62 @@ public interface TestScenarioRepository extends JpaRepository<TestScenario, Long
      */
     @Query("SELECT ts FROM TestScenario ts WHERE ts.assignedTo.id = :userId AND ts.deletedAt IS NULL")
     List<TestScenario> findByAssignedToId(@Param("userId") Long userId);
+
+    /**
+     * Resolve the ancestor id chain of a test scenario in a single query.
+     */
+    @Query("SELECT new com.test.backend.dto.HierarchyPath(pr.company.id, pr.id, pl.id, v.id, su.id, tf.id, ts.id) " +
+           "FROM TestScenario ts JOIN ts.testFeature tf JOIN tf.testSuite su JOIN su.version v " +
+           "JOIN v.platform pl JOIN pl.project pr WHERE ts.id = :id")
+    Optional<HierarchyPath> findHierarchyPathById(@Param("id") Long id);
+
+    /**
+     * Count active test scenarios per test feature.
+     */
+    @Query("SELECT new com.test.backend.dto.ChildCount(ts.testFeature.id, COUNT(ts)) FROM TestScenario ts " +
+           "WHERE ts.testFeature.id IN :testFeatureIds AND ts.deletedAt IS NULL GROUP BY ts.testFeature.id")
+    List<ChildCount> countActiveByTestFeatureIds(@Param("testFeatureIds") Collection<Long> testFeatureIds);
+
+    /**
+     * Adjust the denormalized test step counter of a test scenario.
+     */
+    @Modifying
+    @Query(value = "UPDATE test_cases SET test_step_count = test_step_count + :delta WHERE id = :id", nativeQuery = true)
+    void adjustTestStepCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * Recalculate the denormalized test step counters of all test scenarios.
+     */
+    @Modifying
+    @Query(value = "UPDATE test_cases tc SET test_step_count = " +
+                   "(SELECT COUNT(*) FROM test_steps s WHERE s.test_scenario_id = tc.id AND s.deleted_at IS NULL)",
+           nativeQuery = true)
+    int recalculateTestStepCounts();
+
+    /**
+     * Find the first keyset page of test scenarios in a test feature ordered by creation time.
+     */
+    @Query("SELECT ts FROM TestScenario ts WHERE ts.testFeature = :testFeature AND ts.deletedAt IS NULL ORDER BY ts.createdAt, ts.id")
+    List<TestScenario> findPageByTestFeature(@Param("testFeature") TestFeature testFeature, Pageable pageable);
+
+    /**
+     * Find the keyset page following the given (createdAt, id) cursor.
+     */
+    @Query("SELECT ts FROM TestScenario ts WHERE ts.testFeature = :testFeature AND ts.deletedAt IS NULL " +
+           "AND (ts.createdAt > :createdAt OR (ts.createdAt = :createdAt AND ts.id > :id)) ORDER BY ts.createdAt, ts.id")
+    List<TestScenario> findPageByTestFeatureAfter(@Param("testFeature") TestFeature testFeature, @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Stream all active test scenarios of a test feature for export.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT ts FROM TestScenario ts WHERE ts.testFeature = :testFeature AND ts.deletedAt IS NULL ORDER BY ts.createdAt, ts.id")
+    Stream<TestScenario> streamByTestFeature(@Param("testFeature") TestFeature testFeature);
+
+    /**
+     * Find the active test scenarios of several test features for the hierarchy tree.
+     */
+    @Query("SELECT ts FROM TestScenario ts WHERE ts.testFeature.id IN :testFeatureIds AND ts.deletedAt IS NULL ORDER BY ts.createdAt, ts.id")
+    List<TestScenario> findTreeByTestFeatureIds(@Param("testFeatureIds") Collection<Long> testFeatureIds);
 }
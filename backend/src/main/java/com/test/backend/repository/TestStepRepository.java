@@ -1,15 +1,24 @@
 package com.test.backend.repository;
 
+import com.test.backend.dto.ChildCount;
+import com.test.backend.dto.HierarchyPath;
+import com.test.backend.dto.TestStepStatusCount;
 import com.test.backend.entity.TestStep;
 import com.test.backend.entity.TestScenario;
 import com.test.backend.enums.TestStepStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for TestStep entity.
@@ -58,4 +67,74 @@ public interface TestStepRepository extends JpaRepository<TestStep, Long> {
      */
     @Query("SELECT COUNT(ts) FROM TestStep ts WHERE ts.testScenario = :testScenario AND ts.deletedAt IS NULL")
     Long countByTestScenario(@Param("testScenario") TestScenario testScenario);
+
+    /**
+     * Resolve the ancestor id chain of a test step in a single query.
+     */
+    @Query("SELECT new com.test.backend.dto.HierarchyPath(pr.company.id, pr.id, pl.id, v.id, su.id, tf.id, sc.id) " +
+           "FROM TestStep ts JOIN ts.testScenario sc JOIN sc.testFeature tf JOIN tf.testSuite su " +
+           "JOIN su.version v JOIN v.platform pl JOIN pl.project pr WHERE ts.id = :id")
+    Optional<HierarchyPath> findHierarchyPathById(@Param("id") Long id);
+
+    /**
+     * Count active test steps per test scenario.
+     */
+    @Query("SELECT new com.test.backend.dto.ChildCount(ts.testScenario.id, COUNT(ts)) FROM TestStep ts " +
+           "WHERE ts.testScenario.id IN :testScenarioIds AND ts.deletedAt IS NULL GROUP BY ts.testScenario.id")
+    List<ChildCount> countActiveByTestScenarioIds(@Param("testScenarioIds") Collection<Long> testScenarioIds);
+
+    /**
+     * Count the active test steps of a test scenario per status.
+     */
+    @Query("SELECT new com.test.backend.dto.TestStepStatusCount(ts.status, COUNT(ts)) FROM TestStep ts " +
+           "WHERE ts.testScenario.id = :testScenarioId AND ts.deletedAt IS NULL GROUP BY ts.status")
+    List<TestStepStatusCount> countActiveByTestScenarioIdGroupByStatus(@Param("testScenarioId") Long testScenarioId);
+
+    /**
+     * Find the first keyset page of test steps ordered by step order.
+     */
+    @Query("SELECT ts FROM TestStep ts WHERE ts.testScenario = :testScenario AND ts.deletedAt IS NULL ORDER BY ts.stepOrder, ts.id")
+    List<TestStep> findPageByTestScenario(@Param("testScenario") TestScenario testScenario, Pageable pageable);
+
+    /**
+     * Find the keyset page following the given (stepOrder, id) cursor.
+     */
+    @Query("SELECT ts FROM TestStep ts WHERE ts.testScenario = :testScenario AND ts.deletedAt IS NULL " +
+           "AND (ts.stepOrder > :stepOrder OR (ts.stepOrder = :stepOrder AND ts.id > :id)) ORDER BY ts.stepOrder, ts.id")
+    List<TestStep> findPageByTestScenarioAfter(@Param("testScenario") TestScenario testScenario,
+                                               @Param("stepOrder") Integer stepOrder, @Param("id") Long id,
+                                               Pageable pageable);
+
+    /**
+     * Stream all active test steps of a test scenario for export.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT ts FROM TestStep ts WHERE ts.testScenario = :testScenario AND ts.deletedAt IS NULL ORDER BY ts.stepOrder, ts.id")
+    Stream<TestStep> streamByTestScenario(@Param("testScenario") TestScenario testScenario);
+
+    /**
+     * Set the step order of several test steps of a test scenario in one statement.
+     * Rows outside the scenario or soft deleted are left untouched; returns the number of rows updated.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE test_steps SET step_order = v.step_order, updated_at = now() " +
+                   "FROM unnest(CAST(:ids AS bigint[]), CAST(:stepOrders AS integer[])) AS v(id, step_order) " +
+                   "WHERE test_steps.id = v.id AND test_steps.test_scenario_id = :testScenarioId " +
+                   "AND test_steps.deleted_at IS NULL", nativeQuery = true)
+    int updateStepOrders(@Param("testScenarioId") Long testScenarioId, @Param("ids") Long[] ids,
+                         @Param("stepOrders") Integer[] stepOrders);
+
+    /**
+     * Find the active test steps of several test scenarios for the hierarchy tree.
+     */
+    @Query("SELECT ts FROM TestStep ts WHERE ts.testScenario.id IN :testScenarioIds AND ts.deletedAt IS NULL ORDER BY ts.stepOrder, ts.id")
+    List<TestStep> findTreeByTestScenarioIds(@Param("testScenarioIds") Collection<Long> testScenarioIds);
+
+    /**
+     * Find active test steps by id that belong to the given company.
+     */
+    @Query("SELECT ts FROM TestStep ts JOIN FETCH ts.testScenario sc JOIN sc.testFeature tf JOIN tf.testSuite su " +
+           "JOIN su.version v JOIN v.platform pl JOIN pl.project pr " +
+           "WHERE ts.id IN :ids AND pr.company.id = :companyId AND ts.deletedAt IS NULL")
+    List<TestStep> findActiveByIdsAndCompanyId(@Param("ids") Collection<Long> ids, @Param("companyId") Long companyId);
 }
@@ -0,0 +1,80 @@
+package com.test.backend.repository;
+
+import com.test.backend.entity.TestStepResult;
+import com.test.backend.entity.TestStepResultDetail;
+import com.test.backend.entity.TestStepResultId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for the append-only TestStepResult and TestStepResultDetail rows.
+ * Rows are inserted with one set-based statement per table and never updated.
+ */
+@Repository
+public interface TestStepResultRepository extends JpaRepository<TestStepResult, TestStepResultId> {
+
+    /**
+     * Append the results of several test steps to a test run in one statement.
+     * A step already recorded in the run keeps its first result; returns the number of rows inserted.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO test_step_results (run_date, test_run_id, test_step_id, status, duration_ms, executed_at, executed_by) " +
+                   "SELECT :runDate, :testRunId, v.test_step_id, v.status, v.duration_ms, v.executed_at, :executedBy " +
+                   "FROM unnest(CAST(:testStepIds AS bigint[]), CAST(:statuses AS smallint[]), " +
+                   "CAST(:durations AS integer[]), CAST(:executedAts AS timestamp[])) " +
+                   "AS v(test_step_id, status, duration_ms, executed_at) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int appendResults(@Param("runDate") LocalDate runDate, @Param("testRunId") Long testRunId,
+                      @Param("executedBy") Long executedBy, @Param("testStepIds") Long[] testStepIds,
+                      @Param("statuses") Short[] statuses, @Param("durations") Integer[] durations,
+                      @Param("executedAts") String[] executedAts);
+
+    /**
+     * Append the large text of several test step results in one statement.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO test_step_result_details (run_date, test_run_id, test_step_id, actual_result, artifact_ids) " +
+                   "SELECT :runDate, :testRunId, v.test_step_id, v.actual_result, v.artifact_ids " +
+                   "FROM unnest(CAST(:testStepIds AS bigint[]), CAST(:actualResults AS text[]), " +
+                   "CAST(:artifactIds AS text[])) AS v(test_step_id, actual_result, artifact_ids) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int appendDetails(@Param("runDate") LocalDate runDate, @Param("testRunId") Long testRunId,
+                      @Param("testStepIds") Long[] testStepIds, @Param("actualResults") String[] actualResults,
+                      @Param("artifactIds") String[] artifactIds);
+
+    /**
+     * Find the results of a test run. The run date restricts the scan to one partition.
+     */
+    @Query("SELECT r FROM TestStepResult r WHERE r.runDate = :runDate AND r.testRunId = :testRunId " +
+           "ORDER BY r.executedAt, r.testStepId")
+    List<TestStepResult> findByRun(@Param("runDate") LocalDate runDate, @Param("testRunId") Long testRunId);
+
+    /**
+     * Find the result details of a test run.
+     */
+    @Query("SELECT d FROM TestStepResultDetail d WHERE d.runDate = :runDate AND d.testRunId = :testRunId")
+    List<TestStepResultDetail> findDetailsByRun(@Param("runDate") LocalDate runDate, @Param("testRunId") Long testRunId);
+
+    /**
+     * Find the latest results of a test step across runs, newest first.
+     */
+    @Query("SELECT r FROM TestStepResult r WHERE r.testStepId = :testStepId ORDER BY r.executedAt DESC")
+    List<TestStepResult> findLatestByTestStepId(@Param("testStepId") Long testStepId, Pageable pageable);
+
+    /**
+     * Find the result details of a test step in the given runs.
+     */
+    @Query("SELECT d FROM TestStepResultDetail d WHERE d.testStepId = :testStepId AND d.testRunId IN :testRunIds " +
+           "AND d.runDate IN :runDates")
+    List<TestStepResultDetail> findDetailsByTestStepId(@Param("testStepId") Long testStepId,
+                                                       @Param("testRunIds") Collection<Long> testRunIds,
+                                                       @Param("runDates") Collection<LocalDate> runDates);
+}
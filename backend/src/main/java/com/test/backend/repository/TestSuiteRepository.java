@@ -1,12 +1,16 @@
 package com.test.backend.repository;
 
+import com.test.backend.dto.HierarchyPath;
 import com.test.backend.entity.TestSuite;
 import com.test.backend.entity.Version;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,4 +49,47 @@ public interface TestSuiteRepository extends JpaRepository<TestSuite, Long> {
      */
     @Query("SELECT ts FROM TestSuite ts WHERE ts.version.id = :versionId AND ts.deletedAt IS NULL")
     List<TestSuite> findByVersionId(@Param("versionId") Long versionId);
+
+    /**
+     * Resolve the ancestor id chain of a test suite in a single query.
+     */
+    @Query("SELECT new com.test.backend.dto.HierarchyPath(pr.company.id, pr.id, pl.id, v.id, ts.id) " +
+           "FROM TestSuite ts JOIN ts.version v JOIN v.platform pl JOIN pl.project pr WHERE ts.id = :id")
+    Optional<HierarchyPath> findHierarchyPathById(@Param("id") Long id);
+
+    /**
+     * Adjust the denormalized test feature counter of a test suite.
+     */
+    @Modifying
+    @Query(value = "UPDATE test_suites SET test_feature_count = test_feature_count + :delta WHERE id = :id", nativeQuery = true)
+    void adjustTestFeatureCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * Recalculate the denormalized test feature counters of all test suites.
+     */
+    @Modifying
+    @Query(value = "UPDATE test_suites s SET test_feature_count = " +
+                   "(SELECT COUNT(*) FROM test_features f WHERE f.test_suite_id = s.id AND f.deleted_at IS NULL)",
+           nativeQuery = true)
+    int recalculateTestFeatureCounts();
+
+    /**
+     * Find the first keyset page of test suites in a version ordered by creation time.
+     */
+    @Query("SELECT ts FROM TestSuite ts WHERE ts.version = :version AND ts.deletedAt IS NULL ORDER BY ts.createdAt, ts.id")
+    List<TestSuite> findPageByVersion(@Param("version") Version version, Pageable pageable);
+
+    /**
+     * Find the keyset page following the given (createdAt, id) cursor.
+     */
+    @Query("SELECT ts FROM TestSuite ts WHERE ts.version = :version AND ts.deletedAt IS NULL " +
+           "AND (ts.createdAt > :createdAt OR (ts.createdAt = :createdAt AND ts.id > :id)) ORDER BY ts.createdAt, ts.id")
+    List<TestSuite> findPageByVersionAfter(@Param("version") Version version, @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Find the active test suites of a version for the hierarchy tree.
+     */
+    @Query("SELECT ts FROM TestSuite ts WHERE ts.version.id = :versionId AND ts.deletedAt IS NULL ORDER BY ts.createdAt, ts.id")
+    List<TestSuite> findTreeByVersionId(@Param("versionId") Long versionId);
 }
@@ -1,5 +1,6 @@
 package com.test.backend.repository;
 
+import com.test.backend.dto.HierarchyPath;
 import com.test.backend.entity.Platform;
 import com.test.backend.entity.Project;
 import com.test.backend.entity.Version;
@@ -107,4 +108,28 @@ public interface VersionRepository extends JpaRepository<Version, Long> {
     @Deprecated
     @Query("SELECT v FROM Version v WHERE v.versionName = :versionName AND v.platform.project = :project AND v.deletedAt IS NULL")
     Optional<Version> findByVersionNameAndProject(@Param("versionName") String versionName, @Param("project") Project project);
+
+    /**
+     * Resolve the ancestor id chain of a version in a single query.
+     */
+    @Query("SELECT new com.test.backend.dto.HierarchyPath(pr.company.id, pr.id, pl.id, v.id) " +
+           "FROM Version v JOIN v.platform pl JOIN pl.project pr WHERE v.id = :id")
+    Optional<HierarchyPath> findHierarchyPathById(@Param("id") Long id);
+
+    /**
+     * Summarize every row under a version, deleted ones included, as its row count and the
+     * sum of a hash of each row's id, update time and delete time (and step order). Unlike the latest update
+     * time, the sum changes for every write, including ones committed after a later-stamped edit.
+     */
+    @Query(value = "SELECT COUNT(*) AS row_count, COALESCE(SUM(hashtextextended(t.row_key, 0)), 0) AS fingerprint FROM (" +
+                   "SELECT 'v:' || v.id || ':' || COALESCE(v.updated_at::text, '') || ':' || COALESCE(v.deleted_at::text, '') AS row_key FROM versions v WHERE v.id = :versionId " +
+                   "UNION ALL SELECT 'su:' || su.id || ':' || COALESCE(su.updated_at::text, '') || ':' || COALESCE(su.deleted_at::text, '') AS row_key FROM test_suites su WHERE su.version_id = :versionId " +
+                   "UNION ALL SELECT 'tf:' || tf.id || ':' || COALESCE(tf.updated_at::text, '') || ':' || COALESCE(tf.deleted_at::text, '') AS row_key FROM test_features tf " +
+                   "JOIN test_suites su ON tf.test_suite_id = su.id WHERE su.version_id = :versionId " +
+                   "UNION ALL SELECT 'tc:' || tc.id || ':' || COALESCE(tc.updated_at::text, '') || ':' || COALESCE(tc.deleted_at::text, '') AS row_key FROM test_cases tc JOIN test_features tf ON tc.test_feature_id = tf.id " +
+                   "JOIN test_suites su ON tf.test_suite_id = su.id WHERE su.version_id = :versionId " +
+                   "UNION ALL SELECT 'st:' || st.id || ':' || COALESCE(st.step_order::text, '') || ':' || COALESCE(st.updated_at::text, '') || ':' || COALESCE(st.deleted_at::text, '') AS row_key FROM test_steps st JOIN test_cases tc ON st.test_scenario_id = tc.id " +
+                   "JOIN test_features tf ON tc.test_feature_id = tf.id " +
+                   "JOIN test_suites su ON tf.test_suite_id = su.id WHERE su.version_id = :versionId) t", nativeQuery = true)
+    List<Object[]> summarizeTree(@Param("versionId") Long versionId);
 }
@@ -0,0 +1,46 @@
+package com.test.backend.security;
+
+import com.test.backend.entity.CompanyRole;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Snapshot of the authenticated user's identity and company roles.
+ * Resolved once per request by {@link AuthorizationContextProvider}.
+ */
+public record AuthorizationContext(Long userId, String email, Map<Long, CompanyRole> companyRoles) {
+
+    /**
+     * Get the user's role in a company, or null if the user is not a member.
+     */
+    public CompanyRole getRole(Long companyId) {
+        return companyRoles.get(companyId);
+    }
+
+    /**
+     * Check if the user is a member of a company.
+     */
+    public boolean isMember(Long companyId) {
+        return companyRoles.containsKey(companyId);
+    }
+
+    /**
+     * Check if the user has one of the given roles in a company.
+     */
+    public boolean hasAnyRole(Long companyId, CompanyRole... roles) {
+        CompanyRole role = companyRoles.get(companyId);
+        return role != null && Arrays.asList(roles).contains(role);
+    }
+
+    /**
+     * Get the user's role in a company or throw with the given message if the user is not a member.
+     */
+    public CompanyRole requireMembership(Long companyId, String message) {
+        CompanyRole role = companyRoles.get(companyId);
+        if (role == null) {
+            throw new RuntimeException(message);
+        }
+        return role;
+    }
+}
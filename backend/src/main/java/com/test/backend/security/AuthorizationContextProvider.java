@@ -0,0 +1,99 @@
+package com.test.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.test.backend.entity.CompanyMember;
+import com.test.backend.entity.CompanyRole;
+import com.test.backend.entity.User;
+import com.test.backend.repository.CompanyMemberRepository;
+import com.test.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves the {@link AuthorizationContext} of a user.
+ * Contexts are memoized on the current request and backed by a bounded cache
+ * that is invalidated whenever the user's company memberships change.
+ */
+@Component
+public class AuthorizationContextProvider {
+
+    private static final String REQUEST_ATTRIBUTE = AuthorizationContextProvider.class.getName() + ".CONTEXT";
+
+    private final UserRepository userRepository;
+    private final CompanyMemberRepository companyMemberRepository;
+    private final Cache<String, AuthorizationContext> cache;
+
+    public AuthorizationContextProvider(UserRepository userRepository,
+                                        CompanyMemberRepository companyMemberRepository,
+                                        @Value("${authorization.cache.max-size:10000}") long maxSize,
+                                        @Value("${authorization.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.companyMemberRepository = companyMemberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * Get the authorization context of a user.
+     */
+    public AuthorizationContext get(String userEmail) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null &&
+            attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof AuthorizationContext context &&
+            context.email().equals(userEmail)) {
+            return context;
+        }
+
+        AuthorizationContext context = cache.get(userEmail, this::load);
+        if (context == null) {
+            throw new RuntimeException("User not found");
+        }
+
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE, context, RequestAttributes.SCOPE_REQUEST);
+        }
+        return context;
+    }
+
+    /**
+     * Drop any cached context of a user.
+     */
+    public void invalidate(Long userId) {
+        cache.asMap().values().removeIf(context -> context.userId().equals(userId));
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null &&
+            attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof AuthorizationContext context &&
+            context.userId().equals(userId)) {
+            attributes.removeAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(CompanyMembershipChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    private AuthorizationContext load(String userEmail) {
+        User user = userRepository.findByEmail(userEmail).orElse(null);
+        if (user == null) {
+            return null;
+        }
+
+        Map<Long, CompanyRole> companyRoles = new HashMap<>();
+        for (CompanyMember companyMember : companyMemberRepository.findByUser(user)) {
+            companyRoles.put(companyMember.getCompany().getId(), companyMember.getRole());
+        }
+        return new AuthorizationContext(user.getId(), user.getEmail(), Map.copyOf(companyRoles));
+    }
+}
@@ -0,0 +1,6 @@
+package com.test.backend.security;
+
+/**
+ * Published whenever a company_members row of a user is inserted, updated or removed.
+ */
+public record CompanyMembershipChangedEvent(Long userId) {}
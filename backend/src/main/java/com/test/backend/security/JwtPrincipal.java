@@ -0,0 +1,15 @@
+package com.test.backend.security;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * Authenticated principal built from verified JWT claims only.
+ */
+public record JwtPrincipal(String email, Instant expiresAt) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
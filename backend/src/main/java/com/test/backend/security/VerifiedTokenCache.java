@@ -0,0 +1,91 @@
+package com.test.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.test.backend.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Cache of verified JWTs keyed by the SHA-256 hash of the token.
+ * Entries live until the token expires, so a token is parsed and verified at most once.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, JwtPrincipal> cache;
+
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              @Value("${jwt.cache.max-size:10000}") long maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), principal.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, principal, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtPrincipal principal, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Get the principal of a token, verifying it only if it is not cached yet.
+     * Returns null if the token is invalid or expired.
+     */
+    public JwtPrincipal verify(String token) {
+        String key = hash(token);
+        JwtPrincipal principal = cache.getIfPresent(key);
+        if (principal != null && principal.expiresAt().isAfter(Instant.now())) {
+            return principal;
+        }
+
+        try {
+            Claims claims = jwtUtil.extractAllClaims(token);
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                return null;
+            }
+            principal = new JwtPrincipal(claims.getSubject(), claims.getExpiration().toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JWT token verification failed: {}", e.getMessage());
+            return null;
+        }
+
+        cache.put(key, principal);
+        return principal;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.test.backend.service;
+
+import com.test.backend.dto.ChildCount;
+import com.test.backend.entity.TestFeature;
+import com.test.backend.entity.TestScenario;
+import com.test.backend.entity.TestSuite;
+import com.test.backend.repository.TestFeatureRepository;
+import com.test.backend.repository.TestScenarioRepository;
+import com.test.backend.repository.TestStepRepository;
+import com.test.backend.repository.TestSuiteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Service providing child counts for list DTOs.
+ * Counts come from one grouped COUNT query per page, or from denormalized
+ * counter columns when hierarchy.child-counts.denormalized is enabled.
+ * The counter columns are kept in sync on create and delete either way.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChildCountService {
+
+    private final TestSuiteRepository testSuiteRepository;
+    private final TestFeatureRepository testFeatureRepository;
+    private final TestScenarioRepository testScenarioRepository;
+    private final TestStepRepository testStepRepository;
+
+    @Value("${hierarchy.child-counts.denormalized:false}")
+    private boolean denormalized;
+
+    /**
+     * Get the number of active test features per test suite id.
+     */
+    public Map<Long, Integer> countTestFeatures(Collection<TestSuite> testSuites) {
+        if (denormalized) {
+            return fromColumn(testSuites, TestSuite::getId, TestSuite::getTestFeatureCount);
+        }
+        return toMap(testSuites.isEmpty() ? List.of() :
+                testFeatureRepository.countActiveByTestSuiteIds(testSuites.stream().map(TestSuite::getId).toList()));
+    }
+
+    /**
+     * Get the number of active test scenarios per test feature id.
+     */
+    public Map<Long, Integer> countTestScenarios(Collection<TestFeature> testFeatures) {
+        if (denormalized) {
+            return fromColumn(testFeatures, TestFeature::getId, TestFeature::getTestScenarioCount);
+        }
+        return toMap(testFeatures.isEmpty() ? List.of() :
+                testScenarioRepository.countActiveByTestFeatureIds(testFeatures.stream().map(TestFeature::getId).toList()));
+    }
+
+    /**
+     * Get the number of active test steps per test scenario id.
+     */
+    public Map<Long, Integer> countTestSteps(Collection<TestScenario> testScenarios) {
+        if (denormalized) {
+            return fromColumn(testScenarios, TestScenario::getId, TestScenario::getTestStepCount);
+        }
+        return toMap(testScenarios.isEmpty() ? List.of() :
+                testStepRepository.countActiveByTestScenarioIds(testScenarios.stream().map(TestScenario::getId).toList()));
+    }
+
+    public void testFeaturesAdded(Long testSuiteId, int count) {
+        testSuiteRepository.adjustTestFeatureCount(testSuiteId, count);
+    }
+
+    public void testFeaturesRemoved(Long testSuiteId, int count) {
+        testSuiteRepository.adjustTestFeatureCount(testSuiteId, -count);
+    }
+
+    public void testScenariosAdded(Long testFeatureId, int count) {
+        testFeatureRepository.adjustTestScenarioCount(testFeatureId, count);
+    }
+
+    public void testScenariosRemoved(Long testFeatureId, int count) {
+        testFeatureRepository.adjustTestScenarioCount(testFeatureId, -count);
+    }
+
+    public void testStepsAdded(Long testScenarioId, int count) {
+        testScenarioRepository.adjustTestStepCount(testScenarioId, count);
+    }
+
+    public void testStepsRemoved(Long testScenarioId, int count) {
+        testScenarioRepository.adjustTestStepCount(testScenarioId, -count);
+    }
+
+    /**
+     * Rebuild all counter columns at startup before they are served,
+     * covering rows written before the counters existed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileCounters() {
+        if (!denormalized) {
+            return;
+        }
+        testSuiteRepository.recalculateTestFeatureCounts();
+        testFeatureRepository.recalculateTestScenarioCounts();
+        testScenarioRepository.recalculateTestStepCounts();
+    }
+
+    private static Map<Long, Integer> toMap(List<ChildCount> counts) {
+        Map<Long, Integer> result = new HashMap<>();
+        for (ChildCount count : counts) {
+            result.put(count.parentId(), count.count().intValue());
+        }
+        return result;
+    }
+
+    private static <T> Map<Long, Integer> fromColumn(Collection<T> parents, Function<T, Long> id,
+                                                     Function<T, Integer> counter) {
+        Map<Long, Integer> result = new HashMap<>();
+        for (T parent : parents) {
+            Integer count = counter.apply(parent);
+            result.put(id.apply(parent), count != null ? count : 0);
+        }
+        return result;
+    }
+}
@@ -6,6 +6,8 @@ import com.test.backend.entity.*;
 import com.test.backend.enums.InvitationStatus;
 import com.test.backend.enums.NotificationType;
 import com.test.backend.repository.*;
+import com.test.backend.security.AuthorizationContext;
+import com.test.backend.security.AuthorizationContextProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,20 +38,22 @@ public class CompanyInvitationService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private AuthorizationContextProvider authorizationContextProvider;
+
     /**
      * Send company invitation.
      */
     @Transactional
     public CompanyInvitationDto sendInvitation(Long companyId, CreateInvitationRequest request, String inviterEmail) {
-        User inviter = userRepository.findByEmail(inviterEmail)
-                .orElseThrow(() -> new RuntimeException("Inviter user not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(inviterEmail);
+        User inviter = userRepository.getReferenceById(auth.userId());
 
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
 
         // Check if inviter has permission (must be OWNER or ADMIN)
-        if (!companyMemberRepository.hasRole(inviter, company, CompanyRole.OWNER) &&
-            !companyMemberRepository.hasRole(inviter, company, CompanyRole.ADMIN)) {
+        if (!auth.hasAnyRole(company.getId(), CompanyRole.OWNER, CompanyRole.ADMIN)) {
             throw new RuntimeException("Only company owners and admins can send invitations");
         }
 
@@ -101,8 +105,8 @@ public class CompanyInvitationService {
      * Get invitations for a user.
      */
     public List<CompanyInvitationDto> getUserInvitations(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        User user = userRepository.getReferenceById(auth.userId());
 
         List<CompanyInvitation> invitations = invitationRepository.findByInvitedUserOrderByCreatedAtDesc(user);
         return invitations.stream()
@@ -114,8 +118,8 @@ public class CompanyInvitationService {
      * Get pending invitations for a user.
      */
     public List<CompanyInvitationDto> getPendingInvitations(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        User user = userRepository.getReferenceById(auth.userId());
 
         List<CompanyInvitation> invitations = invitationRepository.findByInvitedUserAndStatusOrderByCreatedAtDesc(user, InvitationStatus.PENDING);
         return invitations.stream()
@@ -131,11 +135,11 @@ public class CompanyInvitationService {
         CompanyInvitation invitation = invitationRepository.findByInvitationToken(token)
                 .orElseThrow(() -> new RuntimeException("Invalid invitation token"));
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        User user = userRepository.getReferenceById(auth.userId());
 
         // Check if invitation belongs to user
-        if (!invitation.getInvitedUser().getId().equals(user.getId())) {
+        if (!invitation.getInvitedUser().getId().equals(auth.userId())) {
             throw new RuntimeException("This invitation is not for you");
         }
 
@@ -152,7 +156,7 @@ public class CompanyInvitationService {
         }
 
         // Check if user is already a member
-        if (companyMemberRepository.existsByUserAndCompany(user, invitation.getCompany())) {
+        if (auth.isMember(invitation.getCompany().getId())) {
             throw new RuntimeException("You are already a member of this company");
         }
 
@@ -196,11 +200,11 @@ public class CompanyInvitationService {
         CompanyInvitation invitation = invitationRepository.findByInvitationToken(token)
                 .orElseThrow(() -> new RuntimeException("Invalid invitation token"));
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        User user = userRepository.getReferenceById(auth.userId());
 
         // Check if invitation belongs to user
-        if (!invitation.getInvitedUser().getId().equals(user.getId())) {
+        if (!invitation.getInvitedUser().getId().equals(auth.userId())) {
             throw new RuntimeException("This invitation is not for you");
         }
 
@@ -237,15 +241,14 @@ public class CompanyInvitationService {
      * Get company invitations (sent by company).
      */
     public List<CompanyInvitationDto> getCompanyInvitations(Long companyId, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        User user = userRepository.getReferenceById(auth.userId());
 
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
 
         // Check if user has permission
-        if (!companyMemberRepository.hasRole(user, company, CompanyRole.OWNER) &&
-            !companyMemberRepository.hasRole(user, company, CompanyRole.ADMIN)) {
+        if (!auth.hasAnyRole(company.getId(), CompanyRole.OWNER, CompanyRole.ADMIN)) {
             throw new RuntimeException("Access denied");
         }
 
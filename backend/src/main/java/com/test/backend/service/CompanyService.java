@@ -1,21 +1,24 @@
 package com.test.backend.service;
 
+import com.test.backend.dto.CascadeJobDto;
 import com.test.backend.dto.CompanyDto;
 import com.test.backend.dto.CompanyMemberDto;
 import com.test.backend.dto.CreateCompanyRequest;
+import com.test.backend.dto.CursorPage;
 import com.test.backend.dto.UserCompanyDto;
 import com.test.backend.entity.Company;
 import com.test.backend.entity.CompanyMember;
 import com.test.backend.entity.CompanyRole;
-import com.test.backend.entity.Project;
 import com.test.backend.entity.User;
-import com.test.backend.entity.Version;
+import com.test.backend.enums.HierarchyLevel;
 import com.test.backend.repository.CompanyMemberRepository;
 import com.test.backend.repository.CompanyRepository;
-import com.test.backend.repository.ProjectRepository;
 import com.test.backend.repository.UserRepository;
-import com.test.backend.repository.VersionRepository;
+import com.test.backend.security.AuthorizationContext;
+import com.test.backend.security.AuthorizationContextProvider;
+import com.test.backend.util.CursorCodec;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,18 +42,18 @@ public class CompanyService {
     private UserRepository userRepository;
 
     @Autowired
-    private ProjectRepository projectRepository;
+    private AuthorizationContextProvider authorizationContextProvider;
 
     @Autowired
-    private VersionRepository versionRepository;
+    private SoftDeleteService softDeleteService;
 
     /**
      * Create a new company with the user as owner.
      */
     @Transactional
     public CompanyDto createCompany(CreateCompanyRequest request, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        User user = userRepository.getReferenceById(auth.userId());
 
         // Check if company name already exists globally
         if (companyRepository.existsByNameAndNotDeleted(request.getName())) {
@@ -78,8 +81,8 @@ public class CompanyService {
      * Get all companies where user is a member.
      */
     public List<CompanyDto> getUserCompanies(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        User user = userRepository.getReferenceById(auth.userId());
 
         List<CompanyMember> companyMembers = companyMemberRepository.findActiveCompaniesByUser(user);
         
@@ -92,8 +95,8 @@ public class CompanyService {
      * Get all companies where user is a member with user's role information.
      */
     public List<UserCompanyDto> getUserCompaniesWithRole(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        User user = userRepository.getReferenceById(auth.userId());
 
         List<CompanyMember> companyMembers = companyMemberRepository.findActiveCompaniesByUser(user);
         
@@ -106,8 +109,8 @@ public class CompanyService {
      * Get companies owned by user.
      */
     public List<CompanyDto> getOwnedCompanies(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        User user = userRepository.getReferenceById(auth.userId());
 
         List<Company> companies = companyRepository.findActiveCompaniesByOwner(user);
         
@@ -120,8 +123,7 @@ public class CompanyService {
      * Get company by ID if user has access.
      */
     public CompanyDto getCompany(Long companyId, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
@@ -132,7 +134,7 @@ public class CompanyService {
         }
 
         // Check if user is member of this company
-        if (!companyMemberRepository.existsByUserAndCompany(user, company)) {
+        if (!auth.isMember(company.getId())) {
             throw new RuntimeException("Access denied to this company");
         }
 
@@ -143,14 +145,13 @@ public class CompanyService {
      * Get all members of a company.
      */
     public List<CompanyMemberDto> getCompanyMembers(Long companyId, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
 
         // Check if user is member of this company
-        if (!companyMemberRepository.existsByUserAndCompany(user, company)) {
+        if (!auth.isMember(company.getId())) {
             throw new RuntimeException("Access denied to this company");
         }
 
@@ -162,19 +163,44 @@ public class CompanyService {
     }
 
     /**
-     * Get user's role in a specific company.
+     * Get a keyset page of company members, ordered by join time.
      */
-    public CompanyRole getUserRoleInCompany(Long companyId, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public CursorPage<CompanyMemberDto> getCompanyMembersPage(Long companyId, String cursor, int limit, String userEmail) {
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
 
-        CompanyMember companyMember = companyMemberRepository.findByUserAndCompany(user, company)
-                .orElseThrow(() -> new RuntimeException("User is not a member of this company"));
+        // Check if user is member of this company
+        if (!auth.isMember(company.getId())) {
+            throw new RuntimeException("Access denied to this company");
+        }
+
+        int pageSize = CursorPage.clampLimit(limit);
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<CompanyMember> members;
+        if (cursor == null) {
+            members = companyMemberRepository.findPageByCompany(company, pageRequest);
+        } else {
+            CursorCodec.TimeCursor after = CursorCodec.decodeTime(cursor);
+            members = companyMemberRepository.findPageByCompanyAfter(company, after.createdAt(), after.id(), pageRequest);
+        }
+        return CursorPage.of(members, pageSize,
+                page -> page.stream().map(this::convertToMemberDto).collect(Collectors.toList()),
+                member -> CursorCodec.encode(member.getJoinedAt(), member.getUser().getId()));
+    }
+
+    /**
+     * Get user's role in a specific company.
+     */
+    public CompanyRole getUserRoleInCompany(Long companyId, String userEmail) {
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+
+        if (!companyRepository.existsById(companyId)) {
+            throw new RuntimeException("Company not found");
+        }
 
-        return companyMember.getRole();
+        return auth.requireMembership(companyId, "User is not a member of this company");
     }
 
     /**
@@ -182,14 +208,14 @@ public class CompanyService {
      */
     @Transactional
     public CompanyDto updateCompany(Long companyId, CreateCompanyRequest request, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        User user = userRepository.getReferenceById(auth.userId());
 
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
 
         // Check if user is owner of this company
-        if (!companyMemberRepository.hasRole(user, company, CompanyRole.OWNER)) {
+        if (!auth.hasAnyRole(company.getId(), CompanyRole.OWNER)) {
             throw new RuntimeException("Only company owner can update company information");
         }
 
@@ -207,39 +233,41 @@ public class CompanyService {
 
     /**
      * Soft delete company (only owner can do this).
-     * Also soft deletes all projects in the company.
+     * Everything below the company is soft deleted in the background.
      */
     @Transactional
-    public void deleteCompany(Long companyId, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public CascadeJobDto deleteCompany(Long companyId, String userEmail) {
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
 
         // Check if user is owner of this company
-        if (!companyMemberRepository.hasRole(user, company, CompanyRole.OWNER)) {
+        if (!auth.hasAnyRole(company.getId(), CompanyRole.OWNER)) {
             throw new RuntimeException("Only company owner can delete company");
         }
 
-        // First, soft delete all projects in this company
-        List<Project> companyProjects = projectRepository.findByCompany(company);
-        for (Project project : companyProjects) {
-            // First, soft delete all versions in this project
-            List<Version> projectVersions = versionRepository.findByProject(project);
-            for (Version version : projectVersions) {
-                version.markAsDeleted();
-            }
-            versionRepository.saveAll(projectVersions);
-            
-            // Then, soft delete the project
-            project.markAsDeleted();
+        // Soft delete the company, then its whole subtree
+        return softDeleteService.delete(HierarchyLevel.COMPANY, company.getId(), auth.userId());
+    }
+
+    /**
+     * Restore a soft deleted company (only owner can do this).
+     * Everything deleted together with the company is restored in the background.
+     */
+    @Transactional
+    public CascadeJobDto restoreCompany(Long companyId, String userEmail) {
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new RuntimeException("Company not found"));
+
+        // Check if user is owner of this company
+        if (!auth.hasAnyRole(company.getId(), CompanyRole.OWNER)) {
+            throw new RuntimeException("Only company owner can restore company");
         }
-        projectRepository.saveAll(companyProjects);
 
-        // Then, soft delete the company
-        company.markAsDeleted();
-        companyRepository.save(company);
+        return softDeleteService.restore(HierarchyLevel.COMPANY, company.getId(), auth.userId());
     }
 
     /**
@@ -0,0 +1,151 @@
+package com.test.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.test.backend.dto.HierarchyPath;
+import com.test.backend.repository.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Resolves the ancestor id chain of platforms, versions, test suites, test features,
+ * test scenarios and test steps with a single projection query per node.
+ * Parent links never change after creation, so resolved chains are cached by node id.
+ */
+@Service
+public class HierarchyResolver {
+
+    private enum Level {
+        PLATFORM, VERSION, TEST_SUITE, TEST_FEATURE, TEST_SCENARIO, TEST_STEP
+    }
+
+    private record NodeKey(Level level, Long id) {}
+
+    private final PlatformRepository platformRepository;
+    private final VersionRepository versionRepository;
+    private final TestSuiteRepository testSuiteRepository;
+    private final TestFeatureRepository testFeatureRepository;
+    private final TestScenarioRepository testScenarioRepository;
+    private final TestStepRepository testStepRepository;
+    private final Cache<NodeKey, HierarchyPath> cache;
+
+    public HierarchyResolver(PlatformRepository platformRepository,
+                             VersionRepository versionRepository,
+                             TestSuiteRepository testSuiteRepository,
+                             TestFeatureRepository testFeatureRepository,
+                             TestScenarioRepository testScenarioRepository,
+                             TestStepRepository testStepRepository,
+                             @Value("${hierarchy.cache.max-size:100000}") long maxSize) {
+        this.platformRepository = platformRepository;
+        this.versionRepository = versionRepository;
+        this.testSuiteRepository = testSuiteRepository;
+        this.testFeatureRepository = testFeatureRepository;
+        this.testScenarioRepository = testScenarioRepository;
+        this.testStepRepository = testStepRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public HierarchyPath resolvePlatform(Long platformId) {
+        return resolve(Level.PLATFORM, platformId, platformRepository::findHierarchyPathById);
+    }
+
+    public HierarchyPath resolveVersion(Long versionId) {
+        return resolve(Level.VERSION, versionId, versionRepository::findHierarchyPathById);
+    }
+
+    public HierarchyPath resolveTestSuite(Long testSuiteId) {
+        return resolve(Level.TEST_SUITE, testSuiteId, testSuiteRepository::findHierarchyPathById);
+    }
+
+    public HierarchyPath resolveTestFeature(Long testFeatureId) {
+        return resolve(Level.TEST_FEATURE, testFeatureId, testFeatureRepository::findHierarchyPathById);
+    }
+
+    public HierarchyPath resolveTestScenario(Long testScenarioId) {
+        return resolve(Level.TEST_SCENARIO, testScenarioId, testScenarioRepository::findHierarchyPathById);
+    }
+
+    public HierarchyPath resolveTestStep(Long testStepId) {
+        return resolve(Level.TEST_STEP, testStepId, testStepRepository::findHierarchyPathById);
+    }
+
+    /**
+     * Verify that a platform belongs to the given project and company.
+     */
+    public void verifyPlatform(Long platformId, Long companyId, Long projectId) {
+        HierarchyPath path = resolvePlatform(platformId);
+        if (path == null || !path.matches(companyId, projectId, platformId, null, null, null, null)) {
+            throw new RuntimeException("Platform does not belong to the specified project/company");
+        }
+    }
+
+    /**
+     * Verify that a version belongs to the given hierarchy.
+     */
+    public void verifyVersion(Long versionId, Long companyId, Long projectId, Long platformId) {
+        HierarchyPath path = resolveVersion(versionId);
+        if (path == null || !path.matches(companyId, projectId, platformId, versionId, null, null, null)) {
+            throw new RuntimeException("Version does not belong to the specified hierarchy");
+        }
+    }
+
+    /**
+     * Verify that a test suite belongs to the given hierarchy.
+     */
+    public void verifyTestSuite(Long testSuiteId, Long companyId, Long projectId, Long platformId, Long versionId) {
+        HierarchyPath path = resolveTestSuite(testSuiteId);
+        if (path == null || !path.matches(companyId, projectId, platformId, versionId, testSuiteId, null, null)) {
+            throw new RuntimeException("Test suite does not belong to the specified hierarchy");
+        }
+    }
+
+    /**
+     * Verify that a test feature belongs to the given hierarchy.
+     */
+    public void verifyTestFeature(Long testFeatureId, Long companyId, Long projectId, Long platformId, Long versionId,
+                                  Long testSuiteId) {
+        HierarchyPath path = resolveTestFeature(testFeatureId);
+        if (path == null || !path.matches(companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, null)) {
+            throw new RuntimeException("Test feature does not belong to the specified hierarchy");
+        }
+    }
+
+    /**
+     * Verify that a test scenario belongs to the given hierarchy.
+     */
+    public void verifyTestScenario(Long testScenarioId, Long companyId, Long projectId, Long platformId, Long versionId,
+                                   Long testSuiteId, Long testFeatureId) {
+        HierarchyPath path = resolveTestScenario(testScenarioId);
+        if (path == null || !path.matches(companyId, projectId, platformId, versionId, testSuiteId, testFeatureId,
+                testScenarioId)) {
+            throw new RuntimeException("Test scenario does not belong to the specified hierarchy");
+        }
+    }
+
+    /**
+     * Verify that a test step belongs to the given hierarchy.
+     */
+    public void verifyTestStep(Long testStepId, Long companyId, Long projectId, Long platformId, Long versionId,
+                               Long testSuiteId, Long testFeatureId, Long testScenarioId) {
+        HierarchyPath path = resolveTestStep(testStepId);
+        if (path == null || !path.matches(companyId, projectId, platformId, versionId, testSuiteId, testFeatureId,
+                testScenarioId)) {
+            throw new RuntimeException("Test step does not belong to the specified hierarchy");
+        }
+    }
+
+    /**
+     * Load a path through the cache. Unknown ids are not cached.
+     */
+    private HierarchyPath resolve(Level level, Long id, Function<Long, Optional<HierarchyPath>> loader) {
+        if (id == null) {
+            return null;
+        }
+        return cache.get(new NodeKey(level, id), key -> loader.apply(key.id()).orElse(null));
+    }
+}
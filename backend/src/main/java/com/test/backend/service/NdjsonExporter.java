@@ -0,0 +1,78 @@
+package com.test.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes repository streams as newline-delimited JSON.
+ * Rows are read inside a read-only transaction, mapped in batches and
+ * evicted from the persistence context after each batch, so exports of
+ * any size run in constant heap.
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonExporter {
+
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${export.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Create a response body streaming the query results, mapped batch by batch.
+     */
+    public <E, T> StreamingResponseBody export(Supplier<Stream<E>> query, Function<List<E>, List<T>> mapper) {
+        return outputStream -> {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<E> rows = query.get()) {
+                    List<E> batch = new ArrayList<>(batchSize);
+                    Iterator<E> iterator = rows.iterator();
+                    while (iterator.hasNext()) {
+                        batch.add(iterator.next());
+                        if (batch.size() == batchSize) {
+                            writeBatch(outputStream, mapper.apply(batch));
+                            batch.clear();
+                            entityManager.clear();
+                        }
+                    }
+                    if (!batch.isEmpty()) {
+                        writeBatch(outputStream, mapper.apply(batch));
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+    }
+
+    private <T> void writeBatch(OutputStream outputStream, List<T> items) throws IOException {
+        for (T item : items) {
+            outputStream.write(objectMapper.writeValueAsBytes(item));
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+    }
+}
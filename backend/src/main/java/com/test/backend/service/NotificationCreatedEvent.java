@@ -0,0 +1,18 @@
+package com.test.backend.service;
+
+import com.test.backend.dto.NotificationDto;
+
+import java.util.List;
+
+/**
+ * Published when notifications are created; delivered to the recipients' open streams after commit.
+ * A fan-out publishes all its notifications in one event.
+ */
+public record NotificationCreatedEvent(List<Recipient> recipients) {
+
+    public NotificationCreatedEvent(Long userId, NotificationDto notification) {
+        this(List.of(new Recipient(userId, notification)));
+    }
+
+    public record Recipient(Long userId, NotificationDto notification) {}
+}
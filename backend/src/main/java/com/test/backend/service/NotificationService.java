@@ -1,15 +1,28 @@
 package com.test.backend.service;
 
+import com.test.backend.dto.CursorPage;
+import com.test.backend.dto.FanOutNotificationRequest;
 import com.test.backend.dto.NotificationDto;
+import com.test.backend.dto.NotificationRecipient;
+import com.test.backend.entity.CompanyRole;
 import com.test.backend.entity.Notification;
 import com.test.backend.entity.User;
 import com.test.backend.enums.NotificationType;
 import com.test.backend.repository.NotificationRepository;
 import com.test.backend.repository.UserRepository;
+import com.test.backend.security.AuthorizationContext;
+import com.test.backend.security.AuthorizationContextProvider;
+import com.test.backend.util.CursorCodec;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,14 +38,29 @@ public class NotificationService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AuthorizationContextProvider authorizationContextProvider;
+
+    @Autowired
+    private NotificationStreamService notificationStreamService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private UnreadCountCache unreadCountCache;
+
+    @Value("${notifications.stream.replay-limit:100}")
+    private int replayLimit;
+
     /**
      * Create a new notification.
      */
     @Transactional
     public NotificationDto createNotification(String userEmail, NotificationType type, String title, 
                                             String message, String actionUrl, Long relatedEntityId) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        User user = userRepository.getReferenceById(auth.userId());
 
         Notification notification = new Notification();
         notification.setUser(user);
@@ -43,15 +71,91 @@ public class NotificationService {
         notification.setRelatedEntityId(relatedEntityId);
 
         notification = notificationRepository.save(notification);
-        return convertToDto(notification);
+        NotificationDto dto = convertToDto(notification);
+        unreadCountCache.adjustAfterCommit(auth.userId(), 1);
+        eventPublisher.publishEvent(new NotificationCreatedEvent(auth.userId(), dto));
+        return dto;
+    }
+
+    /**
+     * Send one notification to every member of a company, or to the members with one of
+     * the given roles. Only company owners and admins can fan out; the sender is left out.
+     * Recipients are resolved and all rows inserted by one statement, and the notifications
+     * reach the recipients' streams and unread counters after commit.
+     *
+     * @return the number of notifications created
+     */
+    @Transactional
+    public int fanOutNotification(FanOutNotificationRequest request, String userEmail) {
+        // Validate user and permissions
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        CompanyRole userRole = auth.requireMembership(request.getCompanyId(), "Access denied to this company");
+
+        if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
+            throw new RuntimeException("Access denied. Only company owners and admins can notify company members.");
+        }
+
+        String[] roles = request.getRoles() == null || request.getRoles().isEmpty() ? null
+                : request.getRoles().stream().map(CompanyRole::name).toArray(String[]::new);
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<NotificationRecipient> inserted = notificationRepository.insertForCompanyMembers(request.getCompanyId(),
+                roles, auth.userId(), request.getType().name(), request.getTitle(), request.getMessage(),
+                request.getActionUrl(), request.getRelatedEntityId(), createdAt);
+        if (inserted.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> userIds = new ArrayList<>(inserted.size());
+        List<NotificationCreatedEvent.Recipient> recipients = new ArrayList<>(inserted.size());
+        for (NotificationRecipient row : inserted) {
+            NotificationDto dto = new NotificationDto(row.getId(), request.getType(), request.getTitle(),
+                    request.getMessage(), false, request.getActionUrl(), request.getRelatedEntityId(), createdAt, null);
+            userIds.add(row.getUserId());
+            recipients.add(new NotificationCreatedEvent.Recipient(row.getUserId(), dto));
+        }
+        unreadCountCache.incrementAllAfterCommit(userIds);
+        eventPublisher.publishEvent(new NotificationCreatedEvent(recipients));
+        return inserted.size();
+    }
+
+    /**
+     * Open a notification stream for a user.
+     * With the id of the last notification the client received, the notifications created
+     * since are sent first; when more than notifications.stream.replay-limit were missed a
+     * resync event tells the client to reload its list instead.
+     */
+    public SseEmitter subscribe(String userEmail, Long lastEventId) {
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+
+        // Registered before the replay query so nothing created in between is lost
+        NotificationStreamService.Connection connection = notificationStreamService.open(auth.userId());
+        try {
+            List<NotificationDto> missed = List.of();
+            boolean truncated = false;
+            if (lastEventId != null) {
+                List<Notification> notifications = notificationRepository.findByUserIdAfterId(auth.userId(), lastEventId,
+                        PageRequest.of(0, replayLimit + 1));
+                truncated = notifications.size() > replayLimit;
+                missed = notifications.stream()
+                        .limit(replayLimit)
+                        .map(this::convertToDto)
+                        .collect(Collectors.toList());
+            }
+            connection.replay(missed, truncated);
+        } catch (RuntimeException e) {
+            // Do not leave a connection buffering in replay mode and holding a connection slot
+            connection.close();
+            throw e;
+        }
+        return connection.getEmitter();
     }
 
     /**
      * Get all notifications for a user.
      */
     public List<NotificationDto> getUserNotifications(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        User user = userRepository.getReferenceById(auth.userId());
 
         List<Notification> notifications = notificationRepository.findByUserOrderByCreatedAtDesc(user);
         List<NotificationDto> dtos = notifications.stream()
@@ -61,12 +165,33 @@ public class NotificationService {
         return dtos;
     }
 
+    /**
+     * Get a keyset page of notifications for a user, newest first.
+     */
+    public CursorPage<NotificationDto> getUserNotificationsPage(String userEmail, String cursor, int limit) {
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        User user = userRepository.getReferenceById(auth.userId());
+
+        int pageSize = CursorPage.clampLimit(limit);
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<Notification> notifications;
+        if (cursor == null) {
+            notifications = notificationRepository.findPageByUser(user, pageRequest);
+        } else {
+            CursorCodec.TimeCursor after = CursorCodec.decodeTime(cursor);
+            notifications = notificationRepository.findPageByUserAfter(user, after.createdAt(), after.id(), pageRequest);
+        }
+        return CursorPage.of(notifications, pageSize,
+                page -> page.stream().map(this::convertToDto).collect(Collectors.toList()),
+                notification -> CursorCodec.encode(notification.getCreatedAt(), notification.getId()));
+    }
+
     /**
      * Get unread notifications for a user.
      */
     public List<NotificationDto> getUnreadNotifications(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        User user = userRepository.getReferenceById(auth.userId());
 
         List<Notification> notifications = notificationRepository.findByUserAndIsReadFalseOrderByCreatedAtDesc(user);
         return notifications.stream()
@@ -79,17 +204,19 @@ public class NotificationService {
      */
     @Transactional
     public NotificationDto markAsRead(Long notificationId, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new RuntimeException("Notification not found"));
 
         // Check if notification belongs to user
-        if (!notification.getUser().getId().equals(user.getId())) {
+        if (!notification.getUser().getId().equals(auth.userId())) {
             throw new RuntimeException("Access denied to this notification");
         }
 
+        if (!notification.getIsRead()) {
+            unreadCountCache.adjustAfterCommit(auth.userId(), -1);
+        }
         notification.markAsRead();
         notification = notificationRepository.save(notification);
         return convertToDto(notification);
@@ -100,20 +227,19 @@ public class NotificationService {
      */
     @Transactional
     public void markAllAsRead(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        User user = userRepository.getReferenceById(auth.userId());
 
         notificationRepository.markAllAsReadForUser(user);
+        unreadCountCache.resetAfterCommit(auth.userId());
     }
 
     /**
-     * Get notification count for a user.
+     * Get the unread notification count for a user from the in-memory counter.
      */
     public long getUnreadCount(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        return notificationRepository.countByUserAndIsReadFalse(user);
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        return unreadCountCache.get(auth.userId());
     }
 
     /**
@@ -121,17 +247,19 @@ public class NotificationService {
      */
     @Transactional
     public void deleteNotification(Long notificationId, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new RuntimeException("Notification not found"));
 
         // Check if notification belongs to user
-        if (!notification.getUser().getId().equals(user.getId())) {
+        if (!notification.getUser().getId().equals(auth.userId())) {
             throw new RuntimeException("Access denied to this notification");
         }
 
+        if (!notification.getIsRead()) {
+            unreadCountCache.adjustAfterCommit(auth.userId(), -1);
+        }
         notificationRepository.delete(notification);
     }
 
@@ -140,14 +268,17 @@ public class NotificationService {
      */
     @Transactional
     public void deleteInvitationNotification(String userEmail, String invitationToken) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        User user = userRepository.getReferenceById(auth.userId());
 
         // Find notification with the invitation token in actionUrl
         List<Notification> notifications = notificationRepository.findByUserAndTypeOrderByCreatedAtDesc(user, NotificationType.COMPANY_INVITATION);
         
         for (Notification notification : notifications) {
             if (notification.getActionUrl() != null && notification.getActionUrl().contains(invitationToken)) {
+                if (!notification.getIsRead()) {
+                    unreadCountCache.adjustAfterCommit(auth.userId(), -1);
+                }
                 notificationRepository.delete(notification);
                 break; // Only delete the first matching notification
             }
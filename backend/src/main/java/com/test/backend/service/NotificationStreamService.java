@@ -0,0 +1,378 @@
+package com.test.backend.service;
+
+import com.test.backend.dto.NotificationDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory per-user notification channels served as Server-Sent Events.
+ * Open streams are async servlet requests, so an idle connection holds no thread.
+ * Every connection has a bounded buffer drained by a small shared sender pool; a
+ * connection whose buffer overflows is closed and the client resumes through
+ * Last-Event-ID, which is the id of the last notification it received. Comment
+ * heartbeats keep idle connections open through proxies. Sends are blocking servlet
+ * writes, so a watchdog drops connections whose send runs past a deadline and lends
+ * the pool a replacement thread until the stalled write fails or returns; slow clients
+ * cannot stall delivery to everyone else.
+ */
+@Slf4j
+@Service
+public class NotificationStreamService {
+
+    private static final String NOTIFICATION_EVENT = "notification";
+    private static final String RESYNC_EVENT = "resync";
+
+    @Value("${notifications.stream.timeout-minutes:30}")
+    private long timeoutMinutes;
+
+    @Value("${notifications.stream.heartbeat-seconds:25}")
+    private long heartbeatSeconds;
+
+    @Value("${notifications.stream.reconnect-ms:3000}")
+    private long reconnectMs;
+
+    @Value("${notifications.stream.buffer-size:100}")
+    private int bufferSize;
+
+    @Value("${notifications.stream.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${notifications.stream.sender-threads:2}")
+    private int senderThreads;
+
+    @Value("${notifications.stream.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    @Value("${notifications.stream.max-stalled-senders:20}")
+    private int maxStalledSenders;
+
+    private final Map<Long, Set<Connection>> channels = new ConcurrentHashMap<>();
+    private ScheduledExecutorService heartbeats;
+    private ThreadPoolExecutor senders;
+    // Sender threads blocked in the write of a dropped connection
+    private int stalledSenders;
+
+    @PostConstruct
+    void init() {
+        heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadCount = new AtomicInteger();
+        senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-sender-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        heartbeats.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        long watchdogMs = Math.max(100, sendTimeoutMs / 2);
+        heartbeats.scheduleWithFixedDelay(this::dropStalledConnections, watchdogMs, watchdogMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        channels.values().forEach(connections -> connections.forEach(Connection::close));
+        senders.shutdown();
+    }
+
+    /**
+     * Open a stream for a user. Notifications created while the missed ones are loaded
+     * are held back until {@link Connection#replay} has queued the missed ones first.
+     */
+    Connection open(Long userId) {
+        Set<Connection> connections = channels.computeIfAbsent(userId, id -> new CopyOnWriteArraySet<>());
+        if (connections.size() >= maxConnectionsPerUser) {
+            // Drop the oldest stream of the user, typically a tab that went away without closing
+            connections.stream().findFirst().ifPresent(Connection::close);
+        }
+
+        SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(timeoutMinutes));
+        Connection connection = new Connection(userId, emitter);
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(connection::close);
+        emitter.onError(error -> remove(connection));
+        connections.add(connection);
+        return connection;
+    }
+
+    /**
+     * Deliver created notifications to the recipients' open streams once their transaction committed.
+     * Large fan-outs are handed to the sender pool so the committing thread does not walk them.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        if (event.recipients().size() == 1) {
+            deliver(event.recipients());
+        } else {
+            senders.execute(() -> deliver(event.recipients()));
+        }
+    }
+
+    private void deliver(List<NotificationCreatedEvent.Recipient> recipients) {
+        for (NotificationCreatedEvent.Recipient recipient : recipients) {
+            Set<Connection> connections = channels.get(recipient.userId());
+            if (connections == null) {
+                continue;
+            }
+            for (Connection connection : connections) {
+                connection.enqueue(new StreamEvent(recipient.notification()));
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        long idleBefore = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(heartbeatSeconds);
+        for (Set<Connection> connections : channels.values()) {
+            for (Connection connection : connections) {
+                if (connection.lastSentAt < idleBefore) {
+                    connection.enqueue(StreamEvent.HEARTBEAT);
+                }
+            }
+        }
+    }
+
+    private void dropStalledConnections() {
+        long startedBefore = System.currentTimeMillis() - sendTimeoutMs;
+        for (Set<Connection> connections : channels.values()) {
+            for (Connection connection : connections) {
+                long sendStartedAt = connection.sendStartedAt;
+                if (sendStartedAt != 0 && sendStartedAt < startedBefore && connection.markStalled()) {
+                    log.debug("Dropping notification stream of user {}: send blocked for over {} ms",
+                            connection.userId, sendTimeoutMs);
+                    remove(connection);
+                    resizeSenders(1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Keep senderThreads threads free for healthy connections while others are blocked
+     * in the write of a dropped one, lending at most max-stalled-senders extra threads.
+     */
+    private synchronized void resizeSenders(int stalledDelta) {
+        stalledSenders += stalledDelta;
+        int size = senderThreads + Math.min(stalledSenders, maxStalledSenders);
+        if (size > senders.getMaximumPoolSize()) {
+            senders.setMaximumPoolSize(size);
+            senders.setCorePoolSize(size);
+        } else if (size < senders.getCorePoolSize()) {
+            senders.setCorePoolSize(size);
+            senders.setMaximumPoolSize(size);
+        }
+    }
+
+    private void remove(Connection connection) {
+        connection.closed = true;
+        channels.computeIfPresent(connection.userId, (userId, connections) -> {
+            connections.remove(connection);
+            return connections.isEmpty() ? null : connections;
+        });
+    }
+
+    /**
+     * One entry of a connection buffer: a notification, a named marker event or a comment.
+     */
+    private record StreamEvent(NotificationDto notification, String name, String comment) {
+
+        private static final StreamEvent CONNECTED = new StreamEvent(null, null, "connected");
+        private static final StreamEvent HEARTBEAT = new StreamEvent(null, null, "heartbeat");
+        private static final StreamEvent RESYNC = new StreamEvent(null, RESYNC_EVENT, null);
+
+        private StreamEvent(NotificationDto notification) {
+            this(notification, NOTIFICATION_EVENT, null);
+        }
+
+        private SseEmitter.SseEventBuilder toSse() {
+            if (notification != null) {
+                return SseEmitter.event().id(String.valueOf(notification.getId())).name(name).data(notification);
+            }
+            return name != null ? SseEmitter.event().name(name).data("") : SseEmitter.event().comment(comment);
+        }
+    }
+
+    /**
+     * One open stream. The buffer and the flags are guarded by the connection's monitor;
+     * at most one sender thread drains a connection at a time.
+     */
+    final class Connection {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<StreamEvent> buffer = new ArrayDeque<>();
+        private boolean replaying = true;
+        // Raised by the replayed backlog until the buffer has been drained once
+        private int capacity = bufferSize;
+        private boolean draining;
+        private volatile boolean closed;
+        private volatile long lastSentAt = System.currentTimeMillis();
+        // Start of the send in progress, 0 while no send is in progress
+        private volatile long sendStartedAt;
+        private boolean stalled;
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        SseEmitter getEmitter() {
+            return emitter;
+        }
+
+        /**
+         * Queue the notifications missed since Last-Event-ID ahead of any held back live ones
+         * and start delivering.
+         *
+         * @param missed Missed notifications, oldest first
+         * @param truncated Whether more were missed than loaded; the client is told to refetch
+         */
+        synchronized void replay(List<NotificationDto> missed, boolean truncated) {
+            List<StreamEvent> head = new ArrayList<>(missed.size() + 2);
+            head.add(StreamEvent.CONNECTED);
+            if (truncated) {
+                head.add(StreamEvent.RESYNC);
+            }
+            Set<Long> replayedIds = new HashSet<>();
+            for (NotificationDto notification : missed) {
+                head.add(new StreamEvent(notification));
+                replayedIds.add(notification.getId());
+            }
+            for (Iterator<StreamEvent> it = buffer.iterator(); it.hasNext(); ) {
+                StreamEvent live = it.next();
+                if (live.notification() != null && replayedIds.contains(live.notification().getId())) {
+                    it.remove();
+                }
+            }
+            for (int i = head.size() - 1; i >= 0; i--) {
+                buffer.addFirst(head.get(i));
+            }
+            capacity = bufferSize + head.size();
+            replaying = false;
+            scheduleDrain();
+        }
+
+        synchronized void enqueue(StreamEvent event) {
+            if (closed) {
+                return;
+            }
+            if (buffer.size() >= capacity) {
+                log.debug("Closing notification stream of user {}: buffer full", userId);
+                close();
+                return;
+            }
+            buffer.addLast(event);
+            if (!replaying) {
+                scheduleDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (!draining && !buffer.isEmpty()) {
+                draining = true;
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                StreamEvent next;
+                synchronized (this) {
+                    next = closed ? null : buffer.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        capacity = bufferSize;
+                        return;
+                    }
+                }
+                try {
+                    SseEmitter.SseEventBuilder event = next.toSse();
+                    if (next == StreamEvent.CONNECTED) {
+                        event.reconnectTime(reconnectMs);
+                    }
+                    sendStartedAt = System.currentTimeMillis();
+                    emitter.send(event);
+                    lastSentAt = System.currentTimeMillis();
+                } catch (IOException | IllegalStateException e) {
+                    remove(this);
+                    finishStalled();
+                    return;
+                } finally {
+                    sendStartedAt = 0;
+                }
+                if (finishStalled()) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Flag the connection as dropped by the watchdog while a send is blocked.
+         *
+         * @return false if the send finished or the connection was already dropped
+         */
+        private synchronized boolean markStalled() {
+            if (stalled || sendStartedAt == 0) {
+                return false;
+            }
+            stalled = true;
+            return true;
+        }
+
+        /**
+         * After a send returned, complete a connection the watchdog dropped meanwhile and
+         * give its lent sender thread back.
+         */
+        private boolean finishStalled() {
+            synchronized (this) {
+                if (!stalled) {
+                    return false;
+                }
+                draining = false;
+            }
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // Already completed by the container
+            }
+            resizeSenders(-1);
+            return true;
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            remove(this);
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // Already completed by the container
+            }
+        }
+    }
+}
@@ -1,17 +1,18 @@
 package com.test.backend.service;
 
+import com.test.backend.dto.CascadeJobDto;
 import com.test.backend.dto.CreatePlatformRequest;
 import com.test.backend.dto.PlatformDto;
 import com.test.backend.dto.UpdatePlatformRequest;
 import com.test.backend.entity.Platform;
 import com.test.backend.entity.Project;
-import com.test.backend.entity.User;
 import com.test.backend.entity.Company;
 import com.test.backend.entity.CompanyRole;
-import com.test.backend.repository.CompanyMemberRepository;
+import com.test.backend.enums.HierarchyLevel;
 import com.test.backend.repository.PlatformRepository;
 import com.test.backend.repository.ProjectRepository;
-import com.test.backend.repository.UserRepository;
+import com.test.backend.security.AuthorizationContext;
+import com.test.backend.security.AuthorizationContextProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,8 +31,10 @@ public class PlatformService {
 
     private final PlatformRepository platformRepository;
     private final ProjectRepository projectRepository;
-    private final UserRepository userRepository;
-    private final CompanyMemberRepository companyMemberRepository;
+    private final HierarchyResolver hierarchyResolver;
+    private final AuthorizationContextProvider authorizationContextProvider;
+    private final SoftDeleteService softDeleteService;
+    private final StatusRollupService statusRollupService;
 
     /**
      * Create a new platform in a project.
@@ -39,13 +42,10 @@ public class PlatformService {
     @Transactional
     public PlatformDto createPlatform(Long companyId, Long projectId, CreatePlatformRequest request, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
             throw new RuntimeException("Access denied. Only company owners and admins can create platforms.");
@@ -83,12 +83,10 @@ public class PlatformService {
      */
     public List<PlatformDto> getPlatformsByProject(Long companyId, Long projectId, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        auth.requireMembership(companyId, "Access denied to this company");
 
         // Get and validate project
         Project project = projectRepository.findActiveById(projectId)
@@ -110,22 +108,17 @@ public class PlatformService {
      */
     public PlatformDto getPlatformById(Long companyId, Long projectId, Long platformId, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        auth.requireMembership(companyId, "Access denied to this company");
 
         // Get and validate platform
         Platform platform = platformRepository.findActiveById(platformId)
                 .orElseThrow(() -> new RuntimeException("Platform not found with id: " + platformId));
 
         // Validate platform belongs to the specified project and company
-        if (!platform.getProject().getId().equals(projectId) || 
-            !platform.getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Platform does not belong to the specified project/company");
-        }
+        hierarchyResolver.verifyPlatform(platformId, companyId, projectId);
 
         if (platform.getDeletedAt() != null) {
             throw new RuntimeException("Platform not found with id: " + platformId);
@@ -141,13 +134,10 @@ public class PlatformService {
     public PlatformDto updatePlatform(Long companyId, Long projectId, Long platformId, 
                                     UpdatePlatformRequest request, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
             throw new RuntimeException("Access denied. Only company owners and admins can update platforms.");
@@ -158,10 +148,7 @@ public class PlatformService {
                 .orElseThrow(() -> new RuntimeException("Platform not found with id: " + platformId));
 
         // Validate platform belongs to the specified project and company
-        if (!platform.getProject().getId().equals(projectId) || 
-            !platform.getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Platform does not belong to the specified project/company");
-        }
+        hierarchyResolver.verifyPlatform(platformId, companyId, projectId);
 
         if (platform.getDeletedAt() != null) {
             throw new RuntimeException("Platform not found with id: " + platformId);
@@ -187,15 +174,12 @@ public class PlatformService {
      * Delete a platform (soft delete).
      */
     @Transactional
-    public void deletePlatform(Long companyId, Long projectId, Long platformId, String userEmail) {
+    public CascadeJobDto deletePlatform(Long companyId, Long projectId, Long platformId, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
             throw new RuntimeException("Access denied. Only company owners and admins can delete platforms.");
@@ -206,19 +190,15 @@ public class PlatformService {
                 .orElseThrow(() -> new RuntimeException("Platform not found with id: " + platformId));
 
         // Validate platform belongs to the specified project and company
-        if (!platform.getProject().getId().equals(projectId) || 
-            !platform.getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Platform does not belong to the specified project/company");
-        }
+        hierarchyResolver.verifyPlatform(platformId, companyId, projectId);
 
         if (platform.getDeletedAt() != null) {
             throw new RuntimeException("Platform not found with id: " + platformId);
         }
 
-        // Soft delete the platform
-        platform.setDeletedAt(LocalDateTime.now());
-        platform.setUpdatedAt(LocalDateTime.now());
-        platformRepository.save(platform);
+        // Soft delete the platform, then its whole subtree
+        statusRollupService.nodeRemoved(HierarchyLevel.PLATFORM, platform.getId());
+        return softDeleteService.delete(HierarchyLevel.PLATFORM, platform.getId(), auth.userId());
     }
 
     /**
@@ -1,17 +1,16 @@
 package com.test.backend.service;
 
+import com.test.backend.dto.CascadeJobDto;
 import com.test.backend.dto.CreateProjectRequest;
 import com.test.backend.dto.ProjectDto;
 import com.test.backend.entity.Company;
 import com.test.backend.entity.CompanyRole;
 import com.test.backend.entity.Project;
-import com.test.backend.entity.User;
-import com.test.backend.entity.Version;
-import com.test.backend.repository.CompanyMemberRepository;
+import com.test.backend.enums.HierarchyLevel;
 import com.test.backend.repository.CompanyRepository;
 import com.test.backend.repository.ProjectRepository;
-import com.test.backend.repository.UserRepository;
-import com.test.backend.repository.VersionRepository;
+import com.test.backend.security.AuthorizationContext;
+import com.test.backend.security.AuthorizationContextProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,28 +31,23 @@ public class ProjectService {
     private CompanyRepository companyRepository;
 
     @Autowired
-    private CompanyMemberRepository companyMemberRepository;
+    private AuthorizationContextProvider authorizationContextProvider;
 
     @Autowired
-    private UserRepository userRepository;
-
-    @Autowired
-    private VersionRepository versionRepository;
+    private SoftDeleteService softDeleteService;
 
     /**
      * Create a new project in a company.
      */
     @Transactional
     public ProjectDto createProject(Long companyId, CreateProjectRequest request, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
 
         // Check if user has permission to create projects (OWNER or ADMIN)
-        if (!companyMemberRepository.hasRole(user, company, CompanyRole.OWNER) &&
-            !companyMemberRepository.hasRole(user, company, CompanyRole.ADMIN)) {
+        if (!auth.hasAnyRole(company.getId(), CompanyRole.OWNER, CompanyRole.ADMIN)) {
             throw new RuntimeException("Access denied. Only company owners and admins can create projects.");
         }
 
@@ -76,14 +70,13 @@ public class ProjectService {
      * Get all projects for a company that user has access to.
      */
     public List<ProjectDto> getCompanyProjects(Long companyId, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
 
         // Check if user is a member of this company
-        if (!companyMemberRepository.existsByUserAndCompany(user, company)) {
+        if (!auth.isMember(company.getId())) {
             throw new RuntimeException("Access denied to this company");
         }
 
@@ -97,14 +90,13 @@ public class ProjectService {
      * Get project by ID if user has access.
      */
     public ProjectDto getProject(Long companyId, Long projectId, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
 
         // Check if user is a member of this company
-        if (!companyMemberRepository.existsByUserAndCompany(user, company)) {
+        if (!auth.isMember(company.getId())) {
             throw new RuntimeException("Access denied to this company");
         }
 
@@ -119,15 +111,13 @@ public class ProjectService {
      */
     @Transactional
     public ProjectDto updateProject(Long companyId, Long projectId, CreateProjectRequest request, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
 
         // Check if user has permission to update projects (OWNER or ADMIN)
-        if (!companyMemberRepository.hasRole(user, company, CompanyRole.OWNER) &&
-            !companyMemberRepository.hasRole(user, company, CompanyRole.ADMIN)) {
+        if (!auth.hasAnyRole(company.getId(), CompanyRole.OWNER, CompanyRole.ADMIN)) {
             throw new RuntimeException("Access denied. Only company owners and admins can update projects.");
         }
 
@@ -151,32 +141,44 @@ public class ProjectService {
      * Delete project (soft delete).
      */
     @Transactional
-    public void deleteProject(Long companyId, Long projectId, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public CascadeJobDto deleteProject(Long companyId, Long projectId, String userEmail) {
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
 
         // Check if user has permission to delete projects (OWNER or ADMIN)
-        if (!companyMemberRepository.hasRole(user, company, CompanyRole.OWNER) &&
-            !companyMemberRepository.hasRole(user, company, CompanyRole.ADMIN)) {
+        if (!auth.hasAnyRole(company.getId(), CompanyRole.OWNER, CompanyRole.ADMIN)) {
             throw new RuntimeException("Access denied. Only company owners and admins can delete projects.");
         }
 
         Project project = projectRepository.findByIdAndCompany(projectId, company)
                 .orElseThrow(() -> new RuntimeException("Project not found"));
 
-        // First, soft delete all versions in this project
-        List<Version> projectVersions = versionRepository.findByProject(project);
-        for (Version version : projectVersions) {
-            version.markAsDeleted();
+        // Soft delete the project, then its whole subtree
+        return softDeleteService.delete(HierarchyLevel.PROJECT, project.getId(), auth.userId());
+    }
+
+    /**
+     * Restore a soft deleted project together with everything deleted with it.
+     */
+    @Transactional
+    public CascadeJobDto restoreProject(Long companyId, Long projectId, String userEmail) {
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new RuntimeException("Company not found"));
+
+        // Check if user has permission to restore projects (OWNER or ADMIN)
+        if (!auth.hasAnyRole(company.getId(), CompanyRole.OWNER, CompanyRole.ADMIN)) {
+            throw new RuntimeException("Access denied. Only company owners and admins can restore projects.");
+        }
+
+        if (!projectRepository.existsByIdAndCompany(projectId, company)) {
+            throw new RuntimeException("Project not found");
         }
-        versionRepository.saveAll(projectVersions);
 
-        // Then, soft delete the project
-        project.markAsDeleted();
-        projectRepository.save(project);
+        return softDeleteService.restore(HierarchyLevel.PROJECT, projectId, auth.userId());
     }
 
     /**
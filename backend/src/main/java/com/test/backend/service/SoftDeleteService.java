@@ -0,0 +1,273 @@
+package com.test.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.test.backend.dto.CascadeJobDto;
+import com.test.backend.enums.CascadeJobStatus;
+import com.test.backend.enums.HierarchyLevel;
+import com.test.backend.security.AuthorizationContext;
+import com.test.backend.security.AuthorizationContextProvider;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Cascading soft delete and restore of hierarchy subtrees.
+ * Each level below the root is handled by one set-based UPDATE whose subquery
+ * covers the whole subtree, and every row of a cascade gets the same deleted_at,
+ * so a restore brings back exactly the rows its delete removed and leaves rows
+ * deleted on their own before it alone.
+ * Subtrees rooted at a version or above run in the background after the caller
+ * commits, one transaction per level, with progress kept as a {@link CascadeJobDto}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SoftDeleteService {
+
+    private static final String DELETE = "DELETE";
+    private static final String RESTORE = "RESTORE";
+
+    private final PlatformTransactionManager transactionManager;
+    private final AuthorizationContextProvider authorizationContextProvider;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${soft-delete.executor-threads:2}")
+    private int executorThreads;
+
+    @Value("${soft-delete.job-retention-minutes:60}")
+    private long jobRetentionMinutes;
+
+    private ExecutorService executor;
+    private Cache<String, CascadeJob> jobs;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newFixedThreadPool(executorThreads);
+        jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(jobRetentionMinutes))
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Soft delete a node and its whole subtree.
+     * The node itself is marked in the caller's transaction; its descendants are
+     * marked in the same transaction for small subtrees, or in the background
+     * once the caller commits.
+     */
+    public CascadeJobDto delete(HierarchyLevel level, Long id, Long userId) {
+        LocalDateTime deletedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int updated = execute("UPDATE " + level.getTableName() + " SET deleted_at = :stamp, updated_at = :stamp " +
+                "WHERE id = :rootId AND deleted_at IS NULL", id, deletedAt);
+        if (updated == 0) {
+            throw new RuntimeException(level.getDisplayName() + " not found");
+        }
+
+        // Nearest level first
+        List<String> statements = new ArrayList<>();
+        for (HierarchyLevel descendant : descendantsOf(level)) {
+            statements.add("UPDATE " + descendant.getTableName() + " SET deleted_at = :stamp, updated_at = :stamp " +
+                    "WHERE deleted_at IS NULL AND " + subtreeCondition(level, descendant));
+        }
+
+        CascadeJob job = new CascadeJob(DELETE, level, id, userId, statements.size());
+        job.affectedRows = updated;
+        run(job, statements, deletedAt);
+        return job.toDto();
+    }
+
+    /**
+     * Restore a soft deleted node together with every descendant its delete removed.
+     * The parent of the node must not be deleted.
+     */
+    public CascadeJobDto restore(HierarchyLevel level, Long id, Long userId) {
+        List<?> stamps = entityManager.createNativeQuery("SELECT deleted_at FROM " + level.getTableName() + " WHERE id = :rootId")
+                .setParameter("rootId", id)
+                .getResultList();
+        if (stamps.isEmpty()) {
+            throw new RuntimeException(level.getDisplayName() + " not found");
+        }
+        if (stamps.get(0) == null) {
+            throw new RuntimeException(level.getDisplayName() + " is not deleted");
+        }
+        LocalDateTime deletedAt = toLocalDateTime(stamps.get(0));
+
+        HierarchyLevel parent = level.getParent();
+        if (parent != null) {
+            List<?> deletedParents = entityManager.createNativeQuery("SELECT p.id FROM " + parent.getTableName() + " p " +
+                            "JOIN " + level.getTableName() + " c ON c." + level.getParentColumn() + " = p.id " +
+                            "WHERE c.id = :rootId AND p.deleted_at IS NOT NULL")
+                    .setParameter("rootId", id)
+                    .getResultList();
+            if (!deletedParents.isEmpty()) {
+                throw new RuntimeException("Cannot restore " + level.getDisplayName().toLowerCase() +
+                        " while its " + parent.getDisplayName().toLowerCase() + " is deleted");
+            }
+        }
+
+        // Deepest level first, the node itself last so it only reappears once complete
+        List<String> statements = new ArrayList<>();
+        List<HierarchyLevel> descendants = new ArrayList<>(descendantsOf(level));
+        Collections.reverse(descendants);
+        for (HierarchyLevel descendant : descendants) {
+            statements.add("UPDATE " + descendant.getTableName() + " SET deleted_at = NULL, updated_at = now() " +
+                    "WHERE deleted_at = :stamp AND " + subtreeCondition(level, descendant));
+        }
+        statements.add("UPDATE " + level.getTableName() + " SET deleted_at = NULL, updated_at = now() " +
+                "WHERE id = :rootId AND deleted_at = :stamp");
+
+        CascadeJob job = new CascadeJob(RESTORE, level, id, userId, statements.size());
+        run(job, statements, deletedAt);
+        return job.toDto();
+    }
+
+    /**
+     * Get the progress of a cascade started by the given user.
+     */
+    public CascadeJobDto getJob(String jobId, String userEmail) {
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+
+        CascadeJob job = jobs.getIfPresent(jobId);
+        if (job == null || !job.userId.equals(auth.userId())) {
+            throw new RuntimeException("Cascade job not found");
+        }
+        return job.toDto();
+    }
+
+    private void run(CascadeJob job, List<String> statements, LocalDateTime stamp) {
+        jobs.put(job.jobId, job);
+        if (job.level.compareTo(HierarchyLevel.TEST_SUITE) >= 0) {
+            for (String statement : statements) {
+                job.affectedRows += execute(statement, job.rootId, stamp);
+                job.completedLevels++;
+            }
+            job.finish(null);
+            return;
+        }
+
+        Runnable task = () -> runInBackground(job, statements, stamp);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        executor.execute(task);
+                    } else {
+                        job.finish("Transaction rolled back");
+                    }
+                }
+            });
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    private void runInBackground(CascadeJob job, List<String> statements, LocalDateTime stamp) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            for (String statement : statements) {
+                Integer updated = transactionTemplate.execute(status -> execute(statement, job.rootId, stamp));
+                job.affectedRows += updated != null ? updated : 0;
+                job.completedLevels++;
+            }
+            job.finish(null);
+        } catch (RuntimeException e) {
+            log.error("Cascade {} of {} {} failed", job.operation, job.level, job.rootId, e);
+            job.finish(e.getMessage());
+        }
+    }
+
+    private int execute(String statement, Long rootId, LocalDateTime stamp) {
+        return entityManager.createNativeQuery(statement)
+                .setParameter("rootId", rootId)
+                .setParameter("stamp", stamp)
+                .executeUpdate();
+    }
+
+    private static List<HierarchyLevel> descendantsOf(HierarchyLevel level) {
+        HierarchyLevel[] levels = HierarchyLevel.values();
+        return List.of(levels).subList(level.ordinal() + 1, levels.length);
+    }
+
+    /**
+     * Build the condition selecting the rows of a descendant level that lie under :rootId,
+     * as nested subqueries on the parent foreign keys.
+     */
+    private static String subtreeCondition(HierarchyLevel root, HierarchyLevel level) {
+        String ids = ":rootId";
+        HierarchyLevel[] levels = HierarchyLevel.values();
+        for (int i = root.ordinal() + 1; i < level.ordinal(); i++) {
+            ids = "SELECT id FROM " + levels[i].getTableName() + " WHERE " + levels[i].getParentColumn() + " IN (" + ids + ")";
+        }
+        return level.getParentColumn() + " IN (" + ids + ")";
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+
+    /**
+     * Progress of one cascade, written by a single worker and read by status requests.
+     */
+    private static final class CascadeJob {
+
+        private final String jobId = UUID.randomUUID().toString();
+        private final String operation;
+        private final HierarchyLevel level;
+        private final Long rootId;
+        private final Long userId;
+        private final int totalLevels;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile int completedLevels;
+        private volatile long affectedRows;
+        private volatile CascadeJobStatus status = CascadeJobStatus.RUNNING;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        private CascadeJob(String operation, HierarchyLevel level, Long rootId, Long userId, int totalLevels) {
+            this.operation = operation;
+            this.level = level;
+            this.rootId = rootId;
+            this.userId = userId;
+            this.totalLevels = totalLevels;
+        }
+
+        private void finish(String error) {
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.status = error == null ? CascadeJobStatus.COMPLETED : CascadeJobStatus.FAILED;
+        }
+
+        private CascadeJobDto toDto() {
+            return new CascadeJobDto(jobId, operation, level, rootId, status, completedLevels, totalLevels,
+                    affectedRows, error, startedAt, finishedAt);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.test.backend.service;
+
+import com.test.backend.dto.HierarchyPath;
+import com.test.backend.dto.StatusRollupDto;
+import com.test.backend.dto.TestStepStatusCount;
+import com.test.backend.entity.StatusRollup;
+import com.test.backend.entity.TestStep;
+import com.test.backend.enums.HierarchyLevel;
+import com.test.backend.enums.TestScenarioStatus;
+import com.test.backend.enums.TestStepStatus;
+import com.test.backend.repository.ProjectRepository;
+import com.test.backend.repository.StatusRollupRepository;
+import com.test.backend.repository.TestStepRepository;
+import com.test.backend.security.AuthorizationContext;
+import com.test.backend.security.AuthorizationContextProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Service maintaining pre-aggregated status counts of test scenarios and test steps
+ * per project, platform, version, test suite and test feature.
+ * Every change of a scenario or step status, and every create, delete and restore,
+ * is turned into signed deltas on the rollup rows of all ancestors and applied with
+ * one upsert in the caller's transaction, so the counts commit together with the
+ * change. Reads return the rows of a node directly. The rows are rebuilt from the
+ * live tree on the first start, or at every start with rollups.reconcile-on-startup.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatusRollupService {
+
+    private static final List<HierarchyLevel> LEVELS = List.of(HierarchyLevel.PROJECT, HierarchyLevel.PLATFORM,
+            HierarchyLevel.VERSION, HierarchyLevel.TEST_SUITE, HierarchyLevel.TEST_FEATURE);
+
+    private record RollupKey(HierarchyLevel nodeLevel, Long nodeId, HierarchyLevel itemKind, String status) {}
+
+    private static final Comparator<RollupKey> KEY_ORDER = Comparator.comparing(RollupKey::nodeLevel)
+            .thenComparing(RollupKey::nodeId)
+            .thenComparing(RollupKey::itemKind)
+            .thenComparing(RollupKey::status);
+
+    private final StatusRollupRepository statusRollupRepository;
+    private final TestStepRepository testStepRepository;
+    private final ProjectRepository projectRepository;
+    private final HierarchyResolver hierarchyResolver;
+    private final AuthorizationContextProvider authorizationContextProvider;
+
+    @Value("${rollups.reconcile-on-startup:false}")
+    private boolean reconcileOnStartup;
+
+    @Value("${rollups.max-nodes:500}")
+    private int maxNodes;
+
+    /**
+     * Get the rollups of several nodes of one level.
+     */
+    @Transactional(readOnly = true)
+    public List<StatusRollupDto> getRollups(Long companyId, HierarchyLevel level, Collection<Long> nodeIds, String userEmail) {
+        // Validate user and permissions
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        auth.requireMembership(companyId, "Access denied - user is not a member of this company");
+
+        if (!LEVELS.contains(level)) {
+            throw new RuntimeException("Rollups are only kept for projects, platforms, versions, test suites and test features");
+        }
+        Set<Long> ids = new HashSet<>(nodeIds);
+        if (ids.isEmpty() || ids.size() > maxNodes) {
+            throw new RuntimeException("Between 1 and " + maxNodes + " node ids are required");
+        }
+        verifyNodes(companyId, level, ids);
+
+        Map<Long, StatusRollupDto> rollups = new LinkedHashMap<>();
+        for (Long nodeId : nodeIds) {
+            rollups.computeIfAbsent(nodeId, id -> emptyRollup(level, id));
+        }
+        for (StatusRollup row : statusRollupRepository.findByNodes(level, ids)) {
+            StatusRollupDto rollup = rollups.get(row.getNodeId());
+            long count = row.getItemCount();
+            if (row.getItemKind() == HierarchyLevel.TEST_SCENARIO) {
+                rollup.getTestScenarioCounts().put(TestScenarioStatus.valueOf(row.getStatus()), count);
+                rollup.setTestScenarioTotal(rollup.getTestScenarioTotal() + count);
+            } else {
+                rollup.getTestStepCounts().put(TestStepStatus.valueOf(row.getStatus()), count);
+                rollup.setTestStepTotal(rollup.getTestStepTotal() + count);
+            }
+        }
+        return new ArrayList<>(rollups.values());
+    }
+
+    public void testScenarioAdded(Long testScenarioId, TestScenarioStatus status) {
+        Map<RollupKey, Long> deltas = newDeltas();
+        addScenario(deltas, hierarchyResolver.resolveTestScenario(testScenarioId), status, 1);
+        apply(deltas);
+    }
+
+    public void testScenarioStatusChanged(Long testScenarioId, TestScenarioStatus from, TestScenarioStatus to) {
+        if (from == to) {
+            return;
+        }
+        HierarchyPath path = hierarchyResolver.resolveTestScenario(testScenarioId);
+        Map<RollupKey, Long> deltas = newDeltas();
+        addScenario(deltas, path, from, -1);
+        addScenario(deltas, path, to, 1);
+        apply(deltas);
+    }
+
+    /**
+     * Remove a test scenario and its active test steps. Call before the scenario is deleted.
+     */
+    public void testScenarioRemoved(Long testScenarioId, TestScenarioStatus status) {
+        applyScenarioSubtree(testScenarioId, status, -1);
+    }
+
+    /**
+     * Add back a restored test scenario and its restored test steps. Call after the restore.
+     */
+    public void testScenarioRestored(Long testScenarioId, TestScenarioStatus status) {
+        applyScenarioSubtree(testScenarioId, status, 1);
+    }
+
+    public void testStepsAdded(Long testScenarioId, int count) {
+        Map<RollupKey, Long> deltas = newDeltas();
+        addStep(deltas, hierarchyResolver.resolveTestScenario(testScenarioId), TestStepStatus.NOT_EXECUTED, count);
+        apply(deltas);
+    }
+
+    public void testStepRemoved(Long testScenarioId, TestStepStatus status) {
+        Map<RollupKey, Long> deltas = newDeltas();
+        addStep(deltas, hierarchyResolver.resolveTestScenario(testScenarioId), status, -1);
+        apply(deltas);
+    }
+
+    /**
+     * Apply the status changes of several test steps with one upsert.
+     *
+     * @param testSteps Test steps holding their new status
+     * @param previousStatuses Status of each step before the change, by test step id
+     */
+    public void testStepStatusesChanged(List<TestStep> testSteps, Map<Long, TestStepStatus> previousStatuses) {
+        Map<RollupKey, Long> deltas = newDeltas();
+        for (TestStep testStep : testSteps) {
+            TestStepStatus from = previousStatuses.get(testStep.getId());
+            if (from == testStep.getStatus()) {
+                continue;
+            }
+            HierarchyPath path = hierarchyResolver.resolveTestScenario(testStep.getTestScenario().getId());
+            addStep(deltas, path, from, -1);
+            addStep(deltas, path, testStep.getStatus(), 1);
+        }
+        apply(deltas);
+    }
+
+    /**
+     * Take a deleted platform, version, test suite or test feature out of the rollups of its ancestors.
+     * The node's own rows are kept and stop being read once the node is gone.
+     */
+    public void nodeRemoved(HierarchyLevel level, Long nodeId) {
+        HierarchyPath path = switch (level) {
+            case PLATFORM -> hierarchyResolver.resolvePlatform(nodeId);
+            case VERSION -> hierarchyResolver.resolveVersion(nodeId);
+            case TEST_SUITE -> hierarchyResolver.resolveTestSuite(nodeId);
+            case TEST_FEATURE -> hierarchyResolver.resolveTestFeature(nodeId);
+            default -> throw new IllegalArgumentException("Rollups are not kept above " + level);
+        };
+        Map<RollupKey, Long> deltas = newDeltas();
+        for (StatusRollup row : statusRollupRepository.findByNodes(level, List.of(nodeId))) {
+            for (HierarchyLevel ancestor : LEVELS) {
+                if (ancestor.compareTo(level) >= 0) {
+                    break;
+                }
+                add(deltas, ancestor, idAt(path, ancestor), row.getItemKind(), row.getStatus(), -row.getItemCount());
+            }
+        }
+        apply(deltas);
+    }
+
+    /**
+     * Build the rollup rows from the live tree on the first start after they were
+     * introduced, and at every start when reconciling is enabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileRollups() {
+        if (!reconcileOnStartup && statusRollupRepository.hasRows()) {
+            return;
+        }
+        statusRollupRepository.deleteAllRows();
+        int rows = statusRollupRepository.insertRecalculatedRows();
+        log.info("Rebuilt {} status rollup rows", rows);
+    }
+
+    private void applyScenarioSubtree(Long testScenarioId, TestScenarioStatus status, int sign) {
+        HierarchyPath path = hierarchyResolver.resolveTestScenario(testScenarioId);
+        Map<RollupKey, Long> deltas = newDeltas();
+        addScenario(deltas, path, status, sign);
+        for (TestStepStatusCount count : testStepRepository.countActiveByTestScenarioIdGroupByStatus(testScenarioId)) {
+            addStep(deltas, path, count.status(), sign * count.count());
+        }
+        apply(deltas);
+    }
+
+    private void verifyNodes(Long companyId, HierarchyLevel level, Set<Long> ids) {
+        String notFound = level.getDisplayName() + " not found";
+        if (level == HierarchyLevel.PROJECT) {
+            if (projectRepository.findActiveIdsByCompanyId(ids, companyId).size() != ids.size()) {
+                throw new RuntimeException(notFound);
+            }
+            return;
+        }
+        for (Long id : ids) {
+            HierarchyPath path = switch (level) {
+                case PLATFORM -> hierarchyResolver.resolvePlatform(id);
+                case VERSION -> hierarchyResolver.resolveVersion(id);
+                case TEST_SUITE -> hierarchyResolver.resolveTestSuite(id);
+                default -> hierarchyResolver.resolveTestFeature(id);
+            };
+            if (path == null || !path.companyId().equals(companyId)) {
+                throw new RuntimeException(notFound);
+            }
+        }
+    }
+
+    private static StatusRollupDto emptyRollup(HierarchyLevel level, Long nodeId) {
+        Map<TestScenarioStatus, Long> testScenarioCounts = new EnumMap<>(TestScenarioStatus.class);
+        for (TestScenarioStatus status : TestScenarioStatus.values()) {
+            testScenarioCounts.put(status, 0L);
+        }
+        Map<TestStepStatus, Long> testStepCounts = new EnumMap<>(TestStepStatus.class);
+        for (TestStepStatus status : TestStepStatus.values()) {
+            testStepCounts.put(status, 0L);
+        }
+        return new StatusRollupDto(level, nodeId, testScenarioCounts, 0, testStepCounts, 0);
+    }
+
+    private static Map<RollupKey, Long> newDeltas() {
+        return new TreeMap<>(KEY_ORDER);
+    }
+
+    private static void addScenario(Map<RollupKey, Long> deltas, HierarchyPath path, TestScenarioStatus status, long delta) {
+        for (HierarchyLevel level : LEVELS) {
+            add(deltas, level, idAt(path, level), HierarchyLevel.TEST_SCENARIO, status.name(), delta);
+        }
+    }
+
+    private static void addStep(Map<RollupKey, Long> deltas, HierarchyPath path, TestStepStatus status, long delta) {
+        for (HierarchyLevel level : LEVELS) {
+            add(deltas, level, idAt(path, level), HierarchyLevel.TEST_STEP, status.name(), delta);
+        }
+    }
+
+    private static void add(Map<RollupKey, Long> deltas, HierarchyLevel level, Long nodeId, HierarchyLevel itemKind,
+                            String status, long delta) {
+        if (nodeId != null) {
+            deltas.merge(new RollupKey(level, nodeId, itemKind, status), delta, Long::sum);
+        }
+    }
+
+    private static Long idAt(HierarchyPath path, HierarchyLevel level) {
+        if (path == null) {
+            return null;
+        }
+        return switch (level) {
+            case PROJECT -> path.projectId();
+            case PLATFORM -> path.platformId();
+            case VERSION -> path.versionId();
+            case TEST_SUITE -> path.testSuiteId();
+            case TEST_FEATURE -> path.testFeatureId();
+            default -> null;
+        };
+    }
+
+    /**
+     * Write the non-zero deltas with one upsert, in key order.
+     */
+    private void apply(Map<RollupKey, Long> deltas) {
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        int size = deltas.size();
+        String[] nodeLevels = new String[size];
+        Long[] nodeIds = new Long[size];
+        String[] itemKinds = new String[size];
+        String[] statuses = new String[size];
+        Long[] values = new Long[size];
+        int i = 0;
+        for (Map.Entry<RollupKey, Long> entry : deltas.entrySet()) {
+            RollupKey key = entry.getKey();
+            nodeLevels[i] = key.nodeLevel().name();
+            nodeIds[i] = key.nodeId();
+            itemKinds[i] = key.itemKind().name();
+            statuses[i] = key.status();
+            values[i] = entry.getValue();
+            i++;
+        }
+        statusRollupRepository.applyDeltas(nodeLevels, nodeIds, itemKinds, statuses, values);
+    }
+}
@@ -1,14 +1,21 @@
 package com.test.backend.service;
 
 import com.test.backend.dto.CreateTestFeatureRequest;
+import com.test.backend.dto.CursorPage;
 import com.test.backend.dto.TestFeatureDto;
 import com.test.backend.entity.*;
+import com.test.backend.enums.HierarchyLevel;
 import com.test.backend.repository.*;
+import com.test.backend.security.AuthorizationContext;
+import com.test.backend.security.AuthorizationContextProvider;
+import com.test.backend.util.CursorCodec;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -27,10 +34,22 @@ public class TestFeatureService {
     private UserRepository userRepository;
 
     @Autowired
-    private CompanyMemberRepository companyMemberRepository;
+    private TestScenarioRepository testScenarioRepository;
 
     @Autowired
-    private TestScenarioRepository testScenarioRepository;
+    private HierarchyResolver hierarchyResolver;
+
+    @Autowired
+    private AuthorizationContextProvider authorizationContextProvider;
+
+    @Autowired
+    private ChildCountService childCountService;
+
+    @Autowired
+    private StatusRollupService statusRollupService;
+
+    @Autowired
+    private SoftDeleteService softDeleteService;
 
     /**
      * Create a new test feature in a test suite.
@@ -39,13 +58,10 @@ public class TestFeatureService {
     public TestFeatureDto createTestFeature(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId,
                                            CreateTestFeatureRequest request, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN && userRole != CompanyRole.MEMBER) {
             throw new RuntimeException("Access denied. You must be a company member to create test features.");
@@ -56,12 +72,7 @@ public class TestFeatureService {
                 .orElseThrow(() -> new RuntimeException("Test suite not found"));
 
         // Validate hierarchy
-        if (!testSuite.getVersion().getId().equals(versionId) ||
-            !testSuite.getVersion().getPlatform().getId().equals(platformId) ||
-            !testSuite.getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testSuite.getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test suite does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestSuite(testSuiteId, companyId, projectId, platformId, versionId);
 
         // Check if test feature name already exists in this test suite
         if (testFeatureRepository.existsByNameAndTestSuite(request.getName(), testSuite)) {
@@ -73,9 +84,10 @@ public class TestFeatureService {
         testFeature.setName(request.getName());
         testFeature.setDescription(request.getDescription());
         testFeature.setTestSuite(testSuite);
-        testFeature.setCreatedBy(user);
+        testFeature.setCreatedBy(userRepository.getReferenceById(auth.userId()));
 
         testFeature = testFeatureRepository.save(testFeature);
+        childCountService.testFeaturesAdded(testSuite.getId(), 1);
         return convertToDto(testFeature);
     }
 
@@ -83,31 +95,10 @@ public class TestFeatureService {
      * Get all test features for a test suite that user has access to.
      */
     public List<TestFeatureDto> getTestFeaturesByTestSuite(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, String userEmail) {
-        // Validate user access
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        // Check if user is member of this company
-        if (!companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId()).isPresent()) {
-            throw new RuntimeException("Access denied to this company");
-        }
-
-        // Get and validate test suite
-        TestSuite testSuite = testSuiteRepository.findActiveById(testSuiteId)
-                .orElseThrow(() -> new RuntimeException("Test suite not found"));
-
-        // Validate hierarchy
-        if (!testSuite.getVersion().getId().equals(versionId) ||
-            !testSuite.getVersion().getPlatform().getId().equals(platformId) ||
-            !testSuite.getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testSuite.getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test suite does not belong to the specified hierarchy");
-        }
+        TestSuite testSuite = getAccessibleTestSuite(companyId, projectId, platformId, versionId, testSuiteId, userEmail);
 
         List<TestFeature> testFeatures = testFeatureRepository.findByTestSuite(testSuite);
-        return testFeatures.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return convertToDtos(testFeatures);
     }
 
     /**
@@ -115,25 +106,16 @@ public class TestFeatureService {
      */
     public TestFeatureDto getTestFeature(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, Long testFeatureId, String userEmail) {
         // Validate user access
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check if user is member of this company
-        if (!companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId()).isPresent()) {
-            throw new RuntimeException("Access denied to this company");
-        }
+        auth.requireMembership(companyId, "Access denied to this company");
 
         TestFeature testFeature = testFeatureRepository.findActiveById(testFeatureId)
                 .orElseThrow(() -> new RuntimeException("Test feature not found"));
 
         // Validate hierarchy
-        if (!testFeature.getTestSuite().getId().equals(testSuiteId) ||
-            !testFeature.getTestSuite().getVersion().getId().equals(versionId) ||
-            !testFeature.getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testFeature.getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testFeature.getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test feature does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestFeature(testFeatureId, companyId, projectId, platformId, versionId, testSuiteId);
 
         return convertToDto(testFeature);
     }
@@ -145,13 +127,10 @@ public class TestFeatureService {
     public TestFeatureDto updateTestFeature(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, Long testFeatureId,
                                            CreateTestFeatureRequest request, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
             throw new RuntimeException("Access denied. Only company owners and admins can update test features.");
@@ -161,13 +140,7 @@ public class TestFeatureService {
                 .orElseThrow(() -> new RuntimeException("Test feature not found"));
 
         // Validate hierarchy
-        if (!testFeature.getTestSuite().getId().equals(testSuiteId) ||
-            !testFeature.getTestSuite().getVersion().getId().equals(versionId) ||
-            !testFeature.getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testFeature.getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testFeature.getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test feature does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestFeature(testFeatureId, companyId, projectId, platformId, versionId, testSuiteId);
 
         // Check if new name conflicts with existing test features (if name is changed)
         if (!testFeature.getName().equals(request.getName()) &&
@@ -188,13 +161,10 @@ public class TestFeatureService {
     @Transactional
     public void deleteTestFeature(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, Long testFeatureId, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
             throw new RuntimeException("Access denied. Only company owners and admins can delete test features.");
@@ -204,35 +174,78 @@ public class TestFeatureService {
                 .orElseThrow(() -> new RuntimeException("Test feature not found"));
 
         // Validate hierarchy
-        if (!testFeature.getTestSuite().getId().equals(testSuiteId) ||
-            !testFeature.getTestSuite().getVersion().getId().equals(versionId) ||
-            !testFeature.getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testFeature.getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testFeature.getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test feature does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestFeature(testFeatureId, companyId, projectId, platformId, versionId, testSuiteId);
 
-        // First, soft delete all test scenarios in this test feature
-        List<TestScenario> testScenarios = testScenarioRepository.findByTestFeature(testFeature);
-        for (TestScenario testScenario : testScenarios) {
-            testScenario.markAsDeleted();
+        // Soft delete the test feature and its whole subtree
+        statusRollupService.nodeRemoved(HierarchyLevel.TEST_FEATURE, testFeature.getId());
+        softDeleteService.delete(HierarchyLevel.TEST_FEATURE, testFeature.getId(), auth.userId());
+        childCountService.testFeaturesRemoved(testFeature.getTestSuite().getId(), 1);
+    }
+
+    /**
+     * Get a keyset page of test features for a test suite, ordered by creation time.
+     */
+    public CursorPage<TestFeatureDto> getTestFeaturesPageByTestSuite(Long companyId, Long projectId, Long platformId, Long versionId,
+                                                                    Long testSuiteId, String cursor, int limit, String userEmail) {
+        TestSuite testSuite = getAccessibleTestSuite(companyId, projectId, platformId, versionId, testSuiteId, userEmail);
+
+        int pageSize = CursorPage.clampLimit(limit);
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<TestFeature> testFeatures;
+        if (cursor == null) {
+            testFeatures = testFeatureRepository.findPageByTestSuite(testSuite, pageRequest);
+        } else {
+            CursorCodec.TimeCursor after = CursorCodec.decodeTime(cursor);
+            testFeatures = testFeatureRepository.findPageByTestSuiteAfter(testSuite, after.createdAt(), after.id(), pageRequest);
         }
-        testScenarioRepository.saveAll(testScenarios);
+        return CursorPage.of(testFeatures, pageSize, this::convertToDtos,
+                testFeature -> CursorCodec.encode(testFeature.getCreatedAt(), testFeature.getId()));
+    }
+
+    /**
+     * Convert test features to DTOs with one grouped child count query.
+     */
+    private List<TestFeatureDto> convertToDtos(List<TestFeature> testFeatures) {
+        Map<Long, Integer> testScenarioCounts = childCountService.countTestScenarios(testFeatures);
+        return testFeatures.stream()
+                .map(testFeature -> convertToDto(testFeature, testScenarioCounts.getOrDefault(testFeature.getId(), 0)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Validate user access and the hierarchy, and return the parent of the listed entities.
+     */
+    private TestSuite getAccessibleTestSuite(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, String userEmail) {
+        // Validate user access
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+
+        // Check if user is member of this company
+        auth.requireMembership(companyId, "Access denied to this company");
+
+        // Get and validate test suite
+        TestSuite testSuite = testSuiteRepository.findActiveById(testSuiteId)
+                .orElseThrow(() -> new RuntimeException("Test suite not found"));
 
-        // Then, soft delete the test feature
-        testFeature.markAsDeleted();
-        testFeatureRepository.save(testFeature);
+        // Validate hierarchy
+        hierarchyResolver.verifyTestSuite(testSuiteId, companyId, projectId, platformId, versionId);
+
+        return testSuite;
     }
 
     /**
      * Convert TestFeature entity to DTO.
      */
     private TestFeatureDto convertToDto(TestFeature testFeature) {
+        return convertToDto(testFeature, childCountService.countTestScenarios(List.of(testFeature)).getOrDefault(testFeature.getId(), 0));
+    }
+
+    /**
+     * Convert TestFeature entity to DTO with a precomputed child count.
+     */
+    private TestFeatureDto convertToDto(TestFeature testFeature, int testScenarioCount) {
         TestSuite testSuite = testFeature.getTestSuite();
         User createdBy = testFeature.getCreatedBy();
 
-        int testScenarioCount = testScenarioRepository.findByTestFeature(testFeature).size();
-
         return new TestFeatureDto(
                 testFeature.getId(),
                 testFeature.getName(),
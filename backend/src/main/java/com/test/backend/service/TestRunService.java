@@ -0,0 +1,350 @@
+package com.test.backend.service;
+
+import com.test.backend.dto.BulkTestStepExecutionRequest;
+import com.test.backend.dto.CreateTestRunRequest;
+import com.test.backend.dto.HierarchyPath;
+import com.test.backend.dto.TestRunDto;
+import com.test.backend.dto.TestStepResultDto;
+import com.test.backend.entity.TestRun;
+import com.test.backend.entity.TestStep;
+import com.test.backend.entity.TestStepResult;
+import com.test.backend.entity.TestStepResultDetail;
+import com.test.backend.enums.TestStepStatus;
+import com.test.backend.repository.*;
+import com.test.backend.security.AuthorizationContext;
+import com.test.backend.security.AuthorizationContextProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for test runs and their append-only execution history.
+ * Results are inserted into tables partitioned by month of the run date with one
+ * statement per table; partitions are created on demand and dropped after
+ * test-runs.retention-months. The execution columns on TestStep keep holding the
+ * latest result of each step.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TestRunService {
+
+    private final TestRunRepository testRunRepository;
+    private final TestStepResultRepository testStepResultRepository;
+    private final CompanyRepository companyRepository;
+    private final VersionRepository versionRepository;
+    private final TestSuiteRepository testSuiteRepository;
+    private final TestScenarioRepository testScenarioRepository;
+    private final UserRepository userRepository;
+    private final HierarchyResolver hierarchyResolver;
+    private final AuthorizationContextProvider authorizationContextProvider;
+
+    @Value("${test-runs.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${test-runs.history.max-limit:200}")
+    private int maxHistoryLimit;
+
+    // Months whose result partitions are known to exist
+    private final Set<YearMonth> partitionedMonths = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Start a test run of a test scenario or a whole test suite.
+     */
+    @Transactional
+    public TestRunDto createTestRun(CreateTestRunRequest request, String userEmail) {
+        // Validate user and permissions
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        auth.requireMembership(request.getCompanyId(), "Access denied - user is not a member of this company");
+
+        if ((request.getTestScenarioId() == null) == (request.getTestSuiteId() == null)) {
+            throw new RuntimeException("Exactly one of test scenario and test suite is required");
+        }
+
+        HierarchyPath path = request.getTestScenarioId() != null
+                ? hierarchyResolver.resolveTestScenario(request.getTestScenarioId())
+                : hierarchyResolver.resolveTestSuite(request.getTestSuiteId());
+        if (path == null || !path.companyId().equals(request.getCompanyId())) {
+            throw new RuntimeException(request.getTestScenarioId() != null ? "Test scenario not found" : "Test suite not found");
+        }
+
+        TestRun testRun = new TestRun();
+        testRun.setName(request.getName());
+        testRun.setRunDate(LocalDate.now());
+        testRun.setCompany(companyRepository.getReferenceById(path.companyId()));
+        testRun.setVersion(versionRepository.getReferenceById(path.versionId()));
+        testRun.setTestSuite(testSuiteRepository.getReferenceById(path.testSuiteId()));
+        if (request.getTestScenarioId() != null) {
+            testRun.setTestScenario(testScenarioRepository.getReferenceById(request.getTestScenarioId()));
+        }
+        testRun.setStartedBy(userRepository.getReferenceById(auth.userId()));
+        testRun = testRunRepository.save(testRun);
+
+        ensurePartitions(testRun.getRunDate());
+        return convertToDto(testRun);
+    }
+
+    /**
+     * Get a test run.
+     */
+    @Transactional(readOnly = true)
+    public TestRunDto getTestRun(Long testRunId, Long companyId, String userEmail) {
+        return convertToDto(findTestRun(testRunId, companyId, userEmail));
+    }
+
+    /**
+     * Get the latest test runs of a test scenario or a test suite, newest first.
+     */
+    @Transactional(readOnly = true)
+    public List<TestRunDto> getLatestTestRuns(Long companyId, Long testScenarioId, Long testSuiteId, int limit,
+                                              String userEmail) {
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        auth.requireMembership(companyId, "Access denied - user is not a member of this company");
+
+        if ((testScenarioId == null) == (testSuiteId == null)) {
+            throw new RuntimeException("Exactly one of test scenario and test suite is required");
+        }
+        HierarchyPath path = testScenarioId != null
+                ? hierarchyResolver.resolveTestScenario(testScenarioId)
+                : hierarchyResolver.resolveTestSuite(testSuiteId);
+        if (path == null || !path.companyId().equals(companyId)) {
+            throw new RuntimeException(testScenarioId != null ? "Test scenario not found" : "Test suite not found");
+        }
+
+        PageRequest page = PageRequest.of(0, clampLimit(limit));
+        List<TestRun> testRuns = testScenarioId != null
+                ? testRunRepository.findLatestByTestScenarioId(testScenarioId, page)
+                : testRunRepository.findLatestByTestSuiteId(testSuiteId, page);
+        return testRuns.stream().map(this::convertToDto).toList();
+    }
+
+    /**
+     * Mark a test run as finished. A finished run accepts no more results.
+     */
+    @Transactional
+    public TestRunDto finishTestRun(Long testRunId, Long companyId, String userEmail) {
+        TestRun testRun = findTestRun(testRunId, companyId, userEmail);
+        if (testRun.getFinishedAt() == null) {
+            testRun.setFinishedAt(LocalDateTime.now());
+            testRun = testRunRepository.save(testRun);
+        }
+        return convertToDto(testRun);
+    }
+
+    /**
+     * Get the step results recorded in a test run.
+     */
+    @Transactional(readOnly = true)
+    public List<TestStepResultDto> getTestRunResults(Long testRunId, Long companyId, String userEmail) {
+        TestRun testRun = findTestRun(testRunId, companyId, userEmail);
+        List<TestStepResult> results = testStepResultRepository.findByRun(testRun.getRunDate(), testRun.getId());
+        Map<Long, TestStepResultDetail> details = new HashMap<>();
+        if (!results.isEmpty()) {
+            for (TestStepResultDetail detail : testStepResultRepository.findDetailsByRun(testRun.getRunDate(), testRun.getId())) {
+                details.put(detail.getTestStepId(), detail);
+            }
+        }
+        return results.stream().map(result -> convertToDto(result, details.get(result.getTestStepId()))).toList();
+    }
+
+    /**
+     * Get the latest recorded results of a test step across runs, newest first.
+     */
+    @Transactional(readOnly = true)
+    public List<TestStepResultDto> getTestStepHistory(Long testStepId, Long companyId, int limit, String userEmail) {
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        auth.requireMembership(companyId, "Access denied - user is not a member of this company");
+
+        HierarchyPath path = hierarchyResolver.resolveTestStep(testStepId);
+        if (path == null || !path.companyId().equals(companyId)) {
+            throw new RuntimeException("Test step not found");
+        }
+
+        List<TestStepResult> results = testStepResultRepository.findLatestByTestStepId(testStepId,
+                PageRequest.of(0, clampLimit(limit)));
+        Map<Long, TestStepResultDetail> details = new HashMap<>();
+        if (!results.isEmpty()) {
+            Set<Long> testRunIds = new HashSet<>();
+            Set<LocalDate> runDates = new HashSet<>();
+            for (TestStepResult result : results) {
+                testRunIds.add(result.getTestRunId());
+                runDates.add(result.getRunDate());
+            }
+            for (TestStepResultDetail detail : testStepResultRepository.findDetailsByTestStepId(testStepId, testRunIds, runDates)) {
+                details.put(detail.getTestRunId(), detail);
+            }
+        }
+        return results.stream().map(result -> convertToDto(result, details.get(result.getTestRunId()))).toList();
+    }
+
+    /**
+     * Append the results of already validated test steps to a test run.
+     * Runs inside the caller's transaction; a step already recorded in the run keeps its first result.
+     *
+     * @return the number of results appended
+     */
+    @Transactional
+    public int appendResults(Long testRunId, Long companyId, List<TestStep> testSteps,
+                             Map<Long, BulkTestStepExecutionRequest.StepExecutionItem> itemsById,
+                             Long executedBy, LocalDateTime now) {
+        TestRun testRun = testRunRepository.findActiveById(testRunId)
+                .filter(run -> run.getCompany().getId().equals(companyId))
+                .orElseThrow(() -> new RuntimeException("Test run not found"));
+        if (testRun.getFinishedAt() != null) {
+            throw new RuntimeException("Test run is already finished");
+        }
+        for (TestStep testStep : testSteps) {
+            if (!belongsToRun(testStep, testRun)) {
+                throw new RuntimeException("Test step " + testStep.getId() + " is not part of the test run");
+            }
+        }
+
+        int size = testSteps.size();
+        Long[] testStepIds = new Long[size];
+        Short[] statuses = new Short[size];
+        Integer[] durations = new Integer[size];
+        String[] executedAts = new String[size];
+        List<Long> detailStepIds = new ArrayList<>();
+        List<String> actualResults = new ArrayList<>();
+        List<String> artifactIds = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            BulkTestStepExecutionRequest.StepExecutionItem item = itemsById.get(testSteps.get(i).getId());
+            testStepIds[i] = item.getTestStepId();
+            statuses[i] = item.getStatus().getCode();
+            durations[i] = item.getDurationMs() != null ? (int) Math.min(item.getDurationMs(), Integer.MAX_VALUE) : null;
+            executedAts[i] = (item.getExecutedAt() != null ? item.getExecutedAt() : now).toString();
+
+            boolean hasArtifacts = item.getArtifactIds() != null && !item.getArtifactIds().isEmpty();
+            if (item.getActualResult() != null || hasArtifacts) {
+                detailStepIds.add(item.getTestStepId());
+                actualResults.add(item.getActualResult());
+                artifactIds.add(hasArtifacts ? String.join(",", item.getArtifactIds()) : null);
+            }
+        }
+
+        ensurePartitions(testRun.getRunDate());
+        int appended = testStepResultRepository.appendResults(testRun.getRunDate(), testRun.getId(), executedBy,
+                testStepIds, statuses, durations, executedAts);
+        if (!detailStepIds.isEmpty()) {
+            testStepResultRepository.appendDetails(testRun.getRunDate(), testRun.getId(),
+                    detailStepIds.toArray(new Long[0]), actualResults.toArray(new String[0]),
+                    artifactIds.toArray(new String[0]));
+        }
+        if (appended > 0) {
+            testRunRepository.incrementResultCount(testRun.getId(), appended);
+        }
+        return appended;
+    }
+
+    /**
+     * Create the result partitions of the current and next month, then drop the partitions
+     * and test runs older than the retention period.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void maintainPartitions() {
+        LocalDate today = LocalDate.now();
+        ensurePartitions(today);
+        ensurePartitions(today.plusMonths(1));
+        if (retentionMonths <= 0) {
+            return;
+        }
+        LocalDate cutoff = today.minusMonths(retentionMonths).withDayOfMonth(1);
+        int deletedRuns = testRunRepository.deleteByRunDateBefore(cutoff);
+        int droppedPartitions = testRunRepository.dropResultPartitionsBefore(cutoff);
+        if (deletedRuns > 0 || droppedPartitions > 0) {
+            log.info("Dropped {} result partitions and {} test runs before {}", droppedPartitions, deletedRuns, cutoff);
+        }
+    }
+
+    /**
+     * Create the result partitions for the month of a run date unless already known to exist.
+     * The month is only remembered once the creating transaction committed.
+     */
+    private void ensurePartitions(LocalDate runDate) {
+        YearMonth month = YearMonth.from(runDate);
+        if (partitionedMonths.contains(month)) {
+            return;
+        }
+        testRunRepository.ensureResultPartitions(month.atDay(1));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    partitionedMonths.add(month);
+                }
+            });
+        } else {
+            partitionedMonths.add(month);
+        }
+    }
+
+    private boolean belongsToRun(TestStep testStep, TestRun testRun) {
+        Long testScenarioId = testStep.getTestScenario().getId();
+        if (testRun.getTestScenario() != null) {
+            return testRun.getTestScenario().getId().equals(testScenarioId);
+        }
+        HierarchyPath path = hierarchyResolver.resolveTestScenario(testScenarioId);
+        return path != null && testRun.getTestSuite().getId().equals(path.testSuiteId());
+    }
+
+    private TestRun findTestRun(Long testRunId, Long companyId, String userEmail) {
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+        auth.requireMembership(companyId, "Access denied - user is not a member of this company");
+
+        return testRunRepository.findActiveById(testRunId)
+                .filter(testRun -> testRun.getCompany().getId().equals(companyId))
+                .orElseThrow(() -> new RuntimeException("Test run not found"));
+    }
+
+    private int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, maxHistoryLimit));
+    }
+
+    private TestRunDto convertToDto(TestRun testRun) {
+        return new TestRunDto(
+                testRun.getId(),
+                testRun.getName(),
+                testRun.getCompany().getId(),
+                testRun.getVersion().getId(),
+                testRun.getTestSuite() != null ? testRun.getTestSuite().getId() : null,
+                testRun.getTestScenario() != null ? testRun.getTestScenario().getId() : null,
+                testRun.getRunDate(),
+                testRun.getResultCount(),
+                testRun.getStartedBy().getId(),
+                testRun.getCreatedAt(),
+                testRun.getFinishedAt()
+        );
+    }
+
+    private TestStepResultDto convertToDto(TestStepResult result, TestStepResultDetail detail) {
+        return new TestStepResultDto(
+                result.getTestRunId(),
+                result.getTestStepId(),
+                TestStepStatus.fromCode(result.getStatus()),
+                result.getDurationMs(),
+                result.getExecutedAt(),
+                result.getExecutedBy(),
+                detail != null ? detail.getActualResult() : null,
+                detail != null && detail.getArtifactIds() != null ? List.of(detail.getArtifactIds().split(",")) : null
+        );
+    }
+}
@@ -1,16 +1,24 @@
 package com.test.backend.service;
 
 import com.test.backend.dto.CreateTestScenarioRequest;
+import com.test.backend.dto.CursorPage;
 import com.test.backend.dto.TestScenarioDto;
 import com.test.backend.entity.*;
 import com.test.backend.entity.CompanyRole;
+import com.test.backend.enums.HierarchyLevel;
 import com.test.backend.enums.TestScenarioStatus;
 import com.test.backend.repository.*;
+import com.test.backend.security.AuthorizationContext;
+import com.test.backend.security.AuthorizationContextProvider;
+import com.test.backend.util.CursorCodec;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +42,24 @@ public class TestScenarioService {
     @Autowired
     private TestStepRepository testStepRepository;
 
+    @Autowired
+    private HierarchyResolver hierarchyResolver;
+
+    @Autowired
+    private AuthorizationContextProvider authorizationContextProvider;
+
+    @Autowired
+    private ChildCountService childCountService;
+
+    @Autowired
+    private StatusRollupService statusRollupService;
+
+    @Autowired
+    private NdjsonExporter ndjsonExporter;
+
+    @Autowired
+    private SoftDeleteService softDeleteService;
+
     /**
      * Create a new test scenario in a test feature.
      */
@@ -41,13 +67,10 @@ public class TestScenarioService {
     public TestScenarioDto createTestScenario(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, Long testFeatureId,
                                      CreateTestScenarioRequest request, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN && userRole != CompanyRole.MEMBER) {
             throw new RuntimeException("Access denied. You must be a company member to create test scenarios.");
@@ -58,13 +81,7 @@ public class TestScenarioService {
                 .orElseThrow(() -> new RuntimeException("Test feature not found"));
 
         // Validate hierarchy
-        if (!testFeature.getTestSuite().getId().equals(testSuiteId) ||
-            !testFeature.getTestSuite().getVersion().getId().equals(versionId) ||
-            !testFeature.getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testFeature.getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testFeature.getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test feature does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestFeature(testFeatureId, companyId, projectId, platformId, versionId, testSuiteId);
 
         // Check if test scenario name already exists in this test feature
         if (testScenarioRepository.existsByNameAndTestFeature(request.getName(), testFeature)) {
@@ -93,10 +110,12 @@ public class TestScenarioService {
         testScenario.setStatus(request.getStatus());
         testScenario.setEstimatedDurationMinutes(request.getEstimatedDurationMinutes());
         testScenario.setTestFeature(testFeature);
-        testScenario.setCreatedBy(user);
+        testScenario.setCreatedBy(userRepository.getReferenceById(auth.userId()));
         testScenario.setAssignedTo(assignedTo);
 
         testScenario = testScenarioRepository.save(testScenario);
+        childCountService.testScenariosAdded(testFeature.getId(), 1);
+        statusRollupService.testScenarioAdded(testScenario.getId(), testScenario.getStatus());
         return convertToDto(testScenario);
     }
 
@@ -104,32 +123,10 @@ public class TestScenarioService {
      * Get all test scenarios for a test feature that user has access to.
      */
     public List<TestScenarioDto> getTestScenariosByTestFeature(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, Long testFeatureId, String userEmail) {
-        // Validate user access
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        // Check if user is member of this company
-        if (!companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId()).isPresent()) {
-            throw new RuntimeException("Access denied to this company");
-        }
-
-        // Get and validate test feature
-        TestFeature testFeature = testFeatureRepository.findActiveById(testFeatureId)
-                .orElseThrow(() -> new RuntimeException("Test feature not found"));
-
-        // Validate hierarchy
-        if (!testFeature.getTestSuite().getId().equals(testSuiteId) ||
-            !testFeature.getTestSuite().getVersion().getId().equals(versionId) ||
-            !testFeature.getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testFeature.getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testFeature.getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test feature does not belong to the specified hierarchy");
-        }
+        TestFeature testFeature = getAccessibleTestFeature(companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, userEmail);
 
         List<TestScenario> testScenarios = testScenarioRepository.findByTestFeature(testFeature);
-        return testScenarios.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return convertToDtos(testScenarios);
     }
 
     /**
@@ -137,26 +134,16 @@ public class TestScenarioService {
      */
     public TestScenarioDto getTestScenario(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, Long testFeatureId, Long testScenarioId, String userEmail) {
         // Validate user access
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check if user is member of this company
-        if (!companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId()).isPresent()) {
-            throw new RuntimeException("Access denied to this company");
-        }
+        auth.requireMembership(companyId, "Access denied to this company");
 
         TestScenario testScenario = testScenarioRepository.findActiveById(testScenarioId)
                 .orElseThrow(() -> new RuntimeException("Test scenario not found"));
 
         // Validate hierarchy
-        if (!testScenario.getTestFeature().getId().equals(testFeatureId) ||
-            !testScenario.getTestFeature().getTestSuite().getId().equals(testSuiteId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getId().equals(versionId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test scenario does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestScenario(testScenarioId, companyId, projectId, platformId, versionId, testSuiteId, testFeatureId);
 
         return convertToDto(testScenario);
     }
@@ -168,13 +155,10 @@ public class TestScenarioService {
     public TestScenarioDto updateTestScenario(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, Long testFeatureId, Long testScenarioId,
                                      CreateTestScenarioRequest request, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
             throw new RuntimeException("Access denied. Only company owners and admins can update test scenarios.");
@@ -184,14 +168,7 @@ public class TestScenarioService {
                 .orElseThrow(() -> new RuntimeException("Test scenario not found"));
 
         // Validate hierarchy
-        if (!testScenario.getTestFeature().getId().equals(testFeatureId) ||
-            !testScenario.getTestFeature().getTestSuite().getId().equals(testSuiteId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getId().equals(versionId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test scenario does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestScenario(testScenarioId, companyId, projectId, platformId, versionId, testSuiteId, testFeatureId);
 
         // Check if new name conflicts with existing test scenarios (if name is changed)
         if (!testScenario.getName().equals(request.getName()) &&
@@ -211,6 +188,7 @@ public class TestScenarioService {
             }
         }
 
+        TestScenarioStatus previousStatus = testScenario.getStatus();
         testScenario.setName(request.getName());
         testScenario.setDescription(request.getDescription());
         testScenario.setPreconditions(request.getPreconditions());
@@ -221,6 +199,7 @@ public class TestScenarioService {
         testScenario.setAssignedTo(assignedTo);
 
         testScenario = testScenarioRepository.save(testScenario);
+        statusRollupService.testScenarioStatusChanged(testScenario.getId(), previousStatus, testScenario.getStatus());
         return convertToDto(testScenario);
     }
 
@@ -232,14 +211,12 @@ public class TestScenarioService {
                                                      Long testSuiteId, Long testFeatureId, Long testScenarioId, 
                                                      String assignedUserEmail, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permissions for this company
-        CompanyMember companyMember = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .orElseThrow(() -> new RuntimeException("Access denied - user is not a member of this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied - user is not a member of this company");
 
-        if (companyMember.getRole() == CompanyRole.MEMBER) {
+        if (userRole == CompanyRole.MEMBER) {
             throw new RuntimeException("Access denied - insufficient permissions");
         }
 
@@ -248,14 +225,7 @@ public class TestScenarioService {
                 .orElseThrow(() -> new RuntimeException("Test scenario not found"));
 
         // Validate hierarchy
-        if (!testScenario.getTestFeature().getId().equals(testFeatureId) ||
-            !testScenario.getTestFeature().getTestSuite().getId().equals(testSuiteId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getId().equals(versionId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test scenario does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestScenario(testScenarioId, companyId, projectId, platformId, versionId, testSuiteId, testFeatureId);
 
         // Find assigned user
         User assignedUser = userRepository.findByEmail(assignedUserEmail)
@@ -279,29 +249,22 @@ public class TestScenarioService {
                                                      Long testSuiteId, Long testFeatureId, Long testScenarioId, 
                                                      TestScenarioStatus status, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permissions for this company
-        CompanyMember companyMember = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .orElseThrow(() -> new RuntimeException("Access denied - user is not a member of this company"));
+        auth.requireMembership(companyId, "Access denied - user is not a member of this company");
 
         // Get test scenario
         TestScenario testScenario = testScenarioRepository.findActiveById(testScenarioId)
                 .orElseThrow(() -> new RuntimeException("Test scenario not found"));
 
         // Validate hierarchy
-        if (!testScenario.getTestFeature().getId().equals(testFeatureId) ||
-            !testScenario.getTestFeature().getTestSuite().getId().equals(testSuiteId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getId().equals(versionId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test scenario does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestScenario(testScenarioId, companyId, projectId, platformId, versionId, testSuiteId, testFeatureId);
 
+        TestScenarioStatus previousStatus = testScenario.getStatus();
         testScenario.setStatus(status);
         testScenario = testScenarioRepository.save(testScenario);
+        statusRollupService.testScenarioStatusChanged(testScenarioId, previousStatus, status);
         return convertToDto(testScenario);
     }
 
@@ -311,13 +274,10 @@ public class TestScenarioService {
     @Transactional
     public void deleteTestScenario(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, Long testFeatureId, Long testScenarioId, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
             throw new RuntimeException("Access denied. Only company owners and admins can delete test scenarios.");
@@ -327,37 +287,118 @@ public class TestScenarioService {
                 .orElseThrow(() -> new RuntimeException("Test scenario not found"));
 
         // Validate hierarchy
-        if (!testScenario.getTestFeature().getId().equals(testFeatureId) ||
-            !testScenario.getTestFeature().getTestSuite().getId().equals(testSuiteId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getId().equals(versionId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test scenario does not belong to the specified hierarchy");
+        hierarchyResolver.verifyTestScenario(testScenarioId, companyId, projectId, platformId, versionId, testSuiteId, testFeatureId);
+
+        // Soft delete the test scenario and its whole subtree
+        statusRollupService.testScenarioRemoved(testScenario.getId(), testScenario.getStatus());
+        softDeleteService.delete(HierarchyLevel.TEST_SCENARIO, testScenario.getId(), auth.userId());
+        childCountService.testScenariosRemoved(testScenario.getTestFeature().getId(), 1);
+    }
+
+    /**
+     * Restore a soft deleted test scenario together with the test steps deleted with it.
+     */
+    @Transactional
+    public TestScenarioDto restoreTestScenario(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, Long testFeatureId, Long testScenarioId, String userEmail) {
+        // Validate user and permissions
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+
+        // Check user permission for this company
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
+
+        if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
+            throw new RuntimeException("Access denied. Only company owners and admins can restore test scenarios.");
         }
 
-        // First, soft delete all test steps in this test scenario
-        List<TestStep> testSteps = testStepRepository.findByTestScenarioOrderByStepOrder(testScenario);
-        for (TestStep testStep : testSteps) {
-            testStep.markAsDeleted();
+        // Validate hierarchy
+        hierarchyResolver.verifyTestScenario(testScenarioId, companyId, projectId, platformId, versionId, testSuiteId, testFeatureId);
+
+        softDeleteService.restore(HierarchyLevel.TEST_SCENARIO, testScenarioId, auth.userId());
+        childCountService.testScenariosAdded(testFeatureId, 1);
+
+        TestScenario testScenario = testScenarioRepository.findActiveById(testScenarioId)
+                .orElseThrow(() -> new RuntimeException("Test scenario not found"));
+        statusRollupService.testScenarioRestored(testScenarioId, testScenario.getStatus());
+        return convertToDto(testScenario);
+    }
+
+    /**
+     * Get a keyset page of test scenarios for a test feature, ordered by creation time.
+     */
+    public CursorPage<TestScenarioDto> getTestScenariosPageByTestFeature(Long companyId, Long projectId, Long platformId, Long versionId,
+                                                                        Long testSuiteId, Long testFeatureId, String cursor, int limit,
+                                                                        String userEmail) {
+        TestFeature testFeature = getAccessibleTestFeature(companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, userEmail);
+
+        int pageSize = CursorPage.clampLimit(limit);
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<TestScenario> testScenarios;
+        if (cursor == null) {
+            testScenarios = testScenarioRepository.findPageByTestFeature(testFeature, pageRequest);
+        } else {
+            CursorCodec.TimeCursor after = CursorCodec.decodeTime(cursor);
+            testScenarios = testScenarioRepository.findPageByTestFeatureAfter(testFeature, after.createdAt(), after.id(), pageRequest);
         }
-        testStepRepository.saveAll(testSteps);
+        return CursorPage.of(testScenarios, pageSize, this::convertToDtos,
+                testScenario -> CursorCodec.encode(testScenario.getCreatedAt(), testScenario.getId()));
+    }
+
+    /**
+     * Stream all test scenarios of a test feature as NDJSON.
+     * Access is checked before the response starts.
+     */
+    public StreamingResponseBody streamTestScenariosByTestFeature(Long companyId, Long projectId, Long platformId, Long versionId,
+                                                                  Long testSuiteId, Long testFeatureId, String userEmail) {
+        TestFeature testFeature = getAccessibleTestFeature(companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, userEmail);
+        return ndjsonExporter.export(() -> testScenarioRepository.streamByTestFeature(testFeature), this::convertToDtos);
+    }
+
+    /**
+     * Convert test scenarios to DTOs with one grouped child count query.
+     */
+    private List<TestScenarioDto> convertToDtos(List<TestScenario> testScenarios) {
+        Map<Long, Integer> testStepCounts = childCountService.countTestSteps(testScenarios);
+        return testScenarios.stream()
+                .map(testScenario -> convertToDto(testScenario, testStepCounts.getOrDefault(testScenario.getId(), 0)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Validate user access and the hierarchy, and return the parent of the listed entities.
+     */
+    private TestFeature getAccessibleTestFeature(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId,
+                                                 Long testFeatureId, String userEmail) {
+        // Validate user access
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+
+        // Check if user is member of this company
+        auth.requireMembership(companyId, "Access denied to this company");
+
+        // Get and validate test feature
+        TestFeature testFeature = testFeatureRepository.findActiveById(testFeatureId)
+                .orElseThrow(() -> new RuntimeException("Test feature not found"));
+
+        // Validate hierarchy
+        hierarchyResolver.verifyTestFeature(testFeatureId, companyId, projectId, platformId, versionId, testSuiteId);
 
-        // Then, soft delete the test scenario
-        testScenario.markAsDeleted();
-        testScenarioRepository.save(testScenario);
+        return testFeature;
     }
 
     /**
      * Convert TestScenario entity to DTO.
      */
     private TestScenarioDto convertToDto(TestScenario testScenario) {
+        return convertToDto(testScenario, childCountService.countTestSteps(List.of(testScenario)).getOrDefault(testScenario.getId(), 0));
+    }
+
+    /**
+     * Convert TestScenario entity to DTO with a precomputed child count.
+     */
+    private TestScenarioDto convertToDto(TestScenario testScenario, int testStepCount) {
         TestFeature testFeature = testScenario.getTestFeature();
         User createdBy = testScenario.getCreatedBy();
         User assignedTo = testScenario.getAssignedTo();
 
-        int testStepCount = testStepRepository.findByTestScenarioOrderByStepOrder(testScenario).size();
-
         return new TestScenarioDto(
                 testScenario.getId(),
                 testScenario.getName(),
@@ -1,17 +1,34 @@
 package com.test.backend.service;
 
+import com.test.backend.dto.BulkTestStepExecutionRequest;
+import com.test.backend.dto.BulkTestStepsRequest;
 import com.test.backend.dto.CreateTestStepRequest;
+import com.test.backend.dto.CursorPage;
 import com.test.backend.dto.TestStepDto;
 import com.test.backend.dto.ReorderTestStepsRequest;
 import com.test.backend.entity.*;
 import com.test.backend.entity.CompanyRole;
+import com.test.backend.enums.StepActionVerb;
 import com.test.backend.enums.TestStepStatus;
 import com.test.backend.repository.*;
+import com.test.backend.security.AuthorizationContext;
+import com.test.backend.security.AuthorizationContextProvider;
+import com.test.backend.util.CursorCodec;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -30,7 +47,25 @@ public class TestStepService {
     private UserRepository userRepository;
 
     @Autowired
-    private CompanyMemberRepository companyMemberRepository;
+    private HierarchyResolver hierarchyResolver;
+
+    @Autowired
+    private AuthorizationContextProvider authorizationContextProvider;
+
+    @Autowired
+    private ChildCountService childCountService;
+
+    @Autowired
+    private TestRunService testRunService;
+
+    @Autowired
+    private StatusRollupService statusRollupService;
+
+    @Autowired
+    private NdjsonExporter ndjsonExporter;
+
+    @Value("${test-steps.order-gap:1}")
+    private int orderGap;
 
     /**
      * Create a new test step in a test scenario.
@@ -39,13 +74,10 @@ public class TestStepService {
     public TestStepDto createTestStep(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, Long testFeatureId, Long testScenarioId,
                                      CreateTestStepRequest request, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN && userRole != CompanyRole.MEMBER) {
             throw new RuntimeException("Access denied. You must be a company member to create test steps.");
@@ -56,14 +88,7 @@ public class TestStepService {
                 .orElseThrow(() -> new RuntimeException("Test scenario not found"));
 
         // Validate hierarchy
-        if (!testScenario.getTestFeature().getId().equals(testFeatureId) ||
-            !testScenario.getTestFeature().getTestSuite().getId().equals(testSuiteId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getId().equals(versionId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test scenario does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestScenario(testScenarioId, companyId, projectId, platformId, versionId, testSuiteId, testFeatureId);
 
         // Check if step order already exists
         if (testStepRepository.findByTestScenarioAndStepOrder(testScenario, request.getStepOrder()).isPresent()) {
@@ -76,10 +101,14 @@ public class TestStepService {
         testStep.setAction(request.getAction());
         testStep.setExpectedResult(request.getExpectedResult());
         testStep.setNotes(request.getNotes());
+        applyStructuredAction(testStep, request.getActionVerb(), request.getActionSelector(),
+                request.getActionValue(), request.getActionTimeoutMs());
         testStep.setStatus(TestStepStatus.NOT_EXECUTED);
         testStep.setTestScenario(testScenario);
 
         testStep = testStepRepository.save(testStep);
+        childCountService.testStepsAdded(testScenario.getId(), 1);
+        statusRollupService.testStepsAdded(testScenario.getId(), 1);
         return convertToDto(testStep);
     }
 
@@ -87,33 +116,10 @@ public class TestStepService {
      * Get all test steps for a test scenario that user has access to.
      */
     public List<TestStepDto> getTestStepsByTestScenario(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, Long testFeatureId, Long testScenarioId, String userEmail) {
-        // Validate user access
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        // Check if user is member of this company
-        if (!companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId()).isPresent()) {
-            throw new RuntimeException("Access denied to this company");
-        }
-
-        // Get and validate test scenario
-        TestScenario testScenario = testScenarioRepository.findActiveById(testScenarioId)
-                .orElseThrow(() -> new RuntimeException("Test scenario not found"));
-
-        // Validate hierarchy
-        if (!testScenario.getTestFeature().getId().equals(testFeatureId) ||
-            !testScenario.getTestFeature().getTestSuite().getId().equals(testSuiteId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getId().equals(versionId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test scenario does not belong to the specified hierarchy");
-        }
+        TestScenario testScenario = getAccessibleTestScenario(companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, testScenarioId, userEmail);
 
         List<TestStep> testSteps = testStepRepository.findByTestScenarioOrderByStepOrder(testScenario);
-        return testSteps.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return convertToDtos(testSteps);
     }
 
     /**
@@ -121,27 +127,16 @@ public class TestStepService {
      */
     public TestStepDto getTestStep(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, Long testFeatureId, Long testScenarioId, Long testStepId, String userEmail) {
         // Validate user access
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check if user is member of this company
-        if (!companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId()).isPresent()) {
-            throw new RuntimeException("Access denied to this company");
-        }
+        auth.requireMembership(companyId, "Access denied to this company");
 
         TestStep testStep = testStepRepository.findActiveById(testStepId)
                 .orElseThrow(() -> new RuntimeException("Test step not found"));
 
         // Validate hierarchy
-        if (!testStep.getTestScenario().getId().equals(testScenarioId) ||
-            !testStep.getTestScenario().getTestFeature().getId().equals(testFeatureId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getId().equals(testSuiteId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getVersion().getId().equals(versionId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test step does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestStep(testStepId, companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, testScenarioId);
 
         return convertToDto(testStep);
     }
@@ -153,13 +148,10 @@ public class TestStepService {
     public TestStepDto updateTestStep(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, Long testFeatureId, Long testScenarioId, Long testStepId,
                                      CreateTestStepRequest request, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
             throw new RuntimeException("Access denied. Only company owners and admins can update test steps.");
@@ -169,15 +161,7 @@ public class TestStepService {
                 .orElseThrow(() -> new RuntimeException("Test step not found"));
 
         // Validate hierarchy
-        if (!testStep.getTestScenario().getId().equals(testScenarioId) ||
-            !testStep.getTestScenario().getTestFeature().getId().equals(testFeatureId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getId().equals(testSuiteId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getVersion().getId().equals(versionId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test step does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestStep(testStepId, companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, testScenarioId);
 
         // Check if new step order conflicts with existing test steps (if order is changed)
         if (!testStep.getStepOrder().equals(request.getStepOrder()) &&
@@ -189,24 +173,107 @@ public class TestStepService {
         testStep.setAction(request.getAction());
         testStep.setExpectedResult(request.getExpectedResult());
         testStep.setNotes(request.getNotes());
+        applyStructuredAction(testStep, request.getActionVerb(), request.getActionSelector(),
+                request.getActionValue(), request.getActionTimeoutMs());
 
         testStep = testStepRepository.save(testStep);
         return convertToDto(testStep);
     }
 
+    /**
+     * Create or update several test steps of a test scenario in one transaction.
+     * Items with an id update that test step, items without an id create a new one.
+     */
+    @Transactional
+    public List<TestStepDto> bulkSaveTestSteps(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, Long testFeatureId, Long testScenarioId,
+                                              List<BulkTestStepsRequest.TestStepItem> items, String userEmail) {
+        // Validate user and permissions
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+
+        // Check user permission for this company
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
+
+        if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN && userRole != CompanyRole.MEMBER) {
+            throw new RuntimeException("Access denied. You must be a company member to create test steps.");
+        }
+
+        boolean hasUpdates = items.stream().anyMatch(item -> item.getId() != null);
+        if (hasUpdates && userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
+            throw new RuntimeException("Access denied. Only company owners and admins can update test steps.");
+        }
+
+        // Get and validate test scenario
+        TestScenario testScenario = testScenarioRepository.findActiveById(testScenarioId)
+                .orElseThrow(() -> new RuntimeException("Test scenario not found"));
+
+        // Validate hierarchy
+        hierarchyResolver.verifyTestScenario(testScenarioId, companyId, projectId, platformId, versionId, testSuiteId, testFeatureId);
+
+        // Load the scenario's steps once and apply every item against them
+        Map<Long, TestStep> existingSteps = new LinkedHashMap<>();
+        for (TestStep testStep : testStepRepository.findByTestScenarioOrderByStepOrder(testScenario)) {
+            existingSteps.put(testStep.getId(), testStep);
+        }
+
+        List<TestStep> savedSteps = new ArrayList<>(items.size());
+        Set<Long> updatedIds = new HashSet<>();
+        int createdCount = 0;
+        for (BulkTestStepsRequest.TestStepItem item : items) {
+            TestStep testStep;
+            if (item.getId() != null) {
+                testStep = existingSteps.get(item.getId());
+                if (testStep == null) {
+                    throw new RuntimeException("Test step not found: " + item.getId());
+                }
+                if (!updatedIds.add(item.getId())) {
+                    throw new RuntimeException("Test step " + item.getId() + " appears more than once");
+                }
+            } else {
+                testStep = new TestStep();
+                testStep.setStatus(TestStepStatus.NOT_EXECUTED);
+                testStep.setTestScenario(testScenario);
+                createdCount++;
+            }
+            testStep.setStepOrder(item.getStepOrder());
+            testStep.setAction(item.getAction());
+            testStep.setExpectedResult(item.getExpectedResult());
+            testStep.setNotes(item.getNotes());
+            applyStructuredAction(testStep, item.getActionVerb(), item.getActionSelector(),
+                    item.getActionValue(), item.getActionTimeoutMs());
+            savedSteps.add(testStep);
+        }
+
+        // Check that no two steps of the scenario end up with the same order
+        Set<Integer> stepOrders = new HashSet<>();
+        for (TestStep testStep : existingSteps.values()) {
+            if (!updatedIds.contains(testStep.getId()) && !stepOrders.add(testStep.getStepOrder())) {
+                throw new RuntimeException("A test step with this order already exists in this test scenario");
+            }
+        }
+        for (TestStep testStep : savedSteps) {
+            if (!stepOrders.add(testStep.getStepOrder())) {
+                throw new RuntimeException("A test step with this order already exists in this test scenario");
+            }
+        }
+
+        savedSteps = testStepRepository.saveAll(savedSteps);
+        if (createdCount > 0) {
+            childCountService.testStepsAdded(testScenario.getId(), createdCount);
+            statusRollupService.testStepsAdded(testScenario.getId(), createdCount);
+        }
+        return convertToDtos(savedSteps);
+    }
+
     /**
      * Delete test step (soft delete).
      */
     @Transactional
     public void deleteTestStep(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, Long testFeatureId, Long testScenarioId, Long testStepId, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
             throw new RuntimeException("Access denied. Only company owners and admins can delete test steps.");
@@ -216,19 +283,85 @@ public class TestStepService {
                 .orElseThrow(() -> new RuntimeException("Test step not found"));
 
         // Validate hierarchy
-        if (!testStep.getTestScenario().getId().equals(testScenarioId) ||
-            !testStep.getTestScenario().getTestFeature().getId().equals(testFeatureId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getId().equals(testSuiteId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getVersion().getId().equals(versionId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test step does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestStep(testStepId, companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, testScenarioId);
 
         // Soft delete the test step
         testStep.markAsDeleted();
         testStepRepository.save(testStep);
+        childCountService.testStepsRemoved(testStep.getTestScenario().getId(), 1);
+        statusRollupService.testStepRemoved(testStep.getTestScenario().getId(), testStep.getStatus());
+    }
+
+    /**
+     * Move a test step directly after another step of the same test scenario,
+     * or to the front when afterStepId is null.
+     * With test-steps.order-gap above 1 the step takes a free order between its new
+     * neighbours so only its own row changes; the scenario is renumbered only when
+     * no free order is left.
+     */
+    @Transactional
+    public List<TestStepDto> moveTestStep(Long companyId, Long projectId, Long platformId, Long versionId,
+                                          Long testSuiteId, Long testFeatureId, Long testScenarioId,
+                                          Long testStepId, Long afterStepId, String userEmail) {
+        // Validate user and permissions
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+
+        // Check user permissions for this company
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied - user is not a member of this company");
+
+        if (userRole == CompanyRole.MEMBER) {
+            throw new RuntimeException("Access denied - insufficient permissions");
+        }
+
+        // Get test scenario
+        TestScenario testScenario = testScenarioRepository.findActiveById(testScenarioId)
+                .orElseThrow(() -> new RuntimeException("Test scenario not found"));
+
+        // Validate hierarchy
+        hierarchyResolver.verifyTestStep(testStepId, companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, testScenarioId);
+
+        List<TestStep> testSteps = new ArrayList<>(testStepRepository.findByTestScenarioOrderByStepOrder(testScenario));
+        TestStep testStep = testSteps.stream()
+                .filter(step -> step.getId().equals(testStepId))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Test step not found"));
+        testSteps.remove(testStep);
+
+        int index = 0;
+        if (afterStepId != null) {
+            TestStep afterStep = testSteps.stream()
+                    .filter(step -> step.getId().equals(afterStepId))
+                    .findFirst()
+                    .orElseThrow(() -> new RuntimeException("Test step not found: " + afterStepId));
+            index = testSteps.indexOf(afterStep) + 1;
+        }
+        testSteps.add(index, testStep);
+
+        // Take a free order between the new neighbours when there is one
+        if (orderGap > 1) {
+            int previousOrder = index > 0 ? testSteps.get(index - 1).getStepOrder() : 0;
+            Integer nextOrder = index < testSteps.size() - 1 ? testSteps.get(index + 1).getStepOrder() : null;
+            int newOrder = nextOrder == null ? previousOrder + orderGap : previousOrder + (nextOrder - previousOrder) / 2;
+            if (newOrder > previousOrder && (nextOrder == null || newOrder < nextOrder)) {
+                testStepRepository.updateStepOrders(testScenarioId, new Long[] {testStepId}, new Integer[] {newOrder});
+                return convertToDtos(testStepRepository.findByTestScenarioOrderByStepOrder(testScenario));
+            }
+        }
+
+        // Otherwise renumber, writing only the steps whose order changes
+        List<Long> ids = new ArrayList<>();
+        List<Integer> orders = new ArrayList<>();
+        for (int i = 0; i < testSteps.size(); i++) {
+            int newOrder = (i + 1) * orderGap;
+            if (testSteps.get(i).getStepOrder() != newOrder) {
+                ids.add(testSteps.get(i).getId());
+                orders.add(newOrder);
+            }
+        }
+        if (!ids.isEmpty()) {
+            testStepRepository.updateStepOrders(testScenarioId, ids.toArray(new Long[0]), orders.toArray(new Integer[0]));
+        }
+        return convertToDtos(testStepRepository.findByTestScenarioOrderByStepOrder(testScenario));
     }
 
     /**
@@ -239,7 +372,87 @@ public class TestStepService {
                 .orElseThrow(() -> new RuntimeException("Test scenario not found"));
         
         Integer maxOrder = testStepRepository.findMaxStepOrderByTestScenario(testScenario);
-        return maxOrder + 1;
+        return maxOrder + orderGap;
+    }
+
+    /**
+     * Get a keyset page of test steps for a test scenario, ordered by step order.
+     */
+    public CursorPage<TestStepDto> getTestStepsPageByTestScenario(Long companyId, Long projectId, Long platformId, Long versionId,
+                                                                 Long testSuiteId, Long testFeatureId, Long testScenarioId,
+                                                                 String cursor, int limit, String userEmail) {
+        TestScenario testScenario = getAccessibleTestScenario(companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, testScenarioId, userEmail);
+
+        int pageSize = CursorPage.clampLimit(limit);
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<TestStep> testSteps;
+        if (cursor == null) {
+            testSteps = testStepRepository.findPageByTestScenario(testScenario, pageRequest);
+        } else {
+            CursorCodec.OrderCursor after = CursorCodec.decodeOrder(cursor);
+            testSteps = testStepRepository.findPageByTestScenarioAfter(testScenario, after.order(), after.id(), pageRequest);
+        }
+        return CursorPage.of(testSteps, pageSize, this::convertToDtos,
+                testStep -> CursorCodec.encode(testStep.getStepOrder(), testStep.getId()));
+    }
+
+    /**
+     * Stream all test steps of a test scenario as NDJSON.
+     * Access is checked before the response starts.
+     */
+    public StreamingResponseBody streamTestStepsByTestScenario(Long companyId, Long projectId, Long platformId, Long versionId,
+                                                               Long testSuiteId, Long testFeatureId, Long testScenarioId,
+                                                               String userEmail) {
+        TestScenario testScenario = getAccessibleTestScenario(companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, testScenarioId, userEmail);
+        return ndjsonExporter.export(() -> testStepRepository.streamByTestScenario(testScenario), this::convertToDtos);
+    }
+
+    private List<TestStepDto> convertToDtos(List<TestStep> testSteps) {
+        return testSteps.stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Validate user access and the hierarchy, and return the parent of the listed entities.
+     */
+    private TestScenario getAccessibleTestScenario(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId,
+                                                   Long testFeatureId, Long testScenarioId, String userEmail) {
+        // Validate user access
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+
+        // Check if user is member of this company
+        auth.requireMembership(companyId, "Access denied to this company");
+
+        // Get and validate test scenario
+        TestScenario testScenario = testScenarioRepository.findActiveById(testScenarioId)
+                .orElseThrow(() -> new RuntimeException("Test scenario not found"));
+
+        // Validate hierarchy
+        hierarchyResolver.verifyTestScenario(testScenarioId, companyId, projectId, platformId, versionId, testSuiteId, testFeatureId);
+
+        return testScenario;
+    }
+
+    /**
+     * Set the typed action of a test step after checking that the verb has the arguments it needs.
+     */
+    private void applyStructuredAction(TestStep testStep, StepActionVerb verb, String selector, String value, Integer timeoutMs) {
+        if (verb != null) {
+            if (verb.isSelectorRequired() && (selector == null || selector.isBlank())) {
+                throw new RuntimeException("Action selector is required for " + verb.name());
+            }
+            if (verb.isValueRequired() && value == null) {
+                throw new RuntimeException("Action value is required for " + verb.name());
+            }
+            if (verb == StepActionVerb.WAIT_FOR_TIMEOUT && timeoutMs == null) {
+                throw new RuntimeException("Action timeout is required for " + verb.name());
+            }
+        }
+        testStep.setActionVerb(verb);
+        testStep.setActionSelector(verb != null ? selector : null);
+        testStep.setActionValue(verb != null ? value : null);
+        testStep.setActionTimeoutMs(verb != null ? timeoutMs : null);
     }
 
     /**
@@ -257,10 +470,17 @@ public class TestStepService {
                 testStep.getActualResult(),
                 testStep.getStatus(),
                 testStep.getNotes(),
+                testStep.getActionVerb(),
+                testStep.getActionSelector(),
+                testStep.getActionValue(),
+                testStep.getActionTimeoutMs(),
                 testScenario.getId(),
                 testScenario.getName(),
                 executedBy != null ? executedBy.getId() : null,
                 executedBy != null ? executedBy.getUsername() + " " + executedBy.getSurname() : null,
+                testStep.getExecutedAt(),
+                testStep.getDurationMs(),
+                testStep.getFailureArtifactIds() != null ? List.of(testStep.getFailureArtifactIds().split(",")) : null,
                 testStep.getCreatedAt(),
                 testStep.getUpdatedAt()
         );
@@ -274,14 +494,12 @@ public class TestStepService {
                                                Long testSuiteId, Long testFeatureId, Long testScenarioId, 
                                                List<ReorderTestStepsRequest.StepOrderDto> stepOrders, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permissions for this company
-        CompanyMember companyMember = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .orElseThrow(() -> new RuntimeException("Access denied - user is not a member of this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied - user is not a member of this company");
 
-        if (companyMember.getRole() == CompanyRole.MEMBER) {
+        if (userRole == CompanyRole.MEMBER) {
             throw new RuntimeException("Access denied - insufficient permissions");
         }
 
@@ -290,31 +508,29 @@ public class TestStepService {
                 .orElseThrow(() -> new RuntimeException("Test scenario not found"));
 
         // Validate hierarchy
-        if (!testScenario.getTestFeature().getId().equals(testFeatureId) ||
-            !testScenario.getTestFeature().getTestSuite().getId().equals(testSuiteId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getId().equals(versionId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testScenario.getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test scenario does not belong to the specified hierarchy");
+        hierarchyResolver.verifyTestScenario(testScenarioId, companyId, projectId, platformId, versionId, testSuiteId, testFeatureId);
+
+        // Collect the new orders, rejecting repeated step ids
+        Long[] ids = new Long[stepOrders.size()];
+        Integer[] orders = new Integer[stepOrders.size()];
+        Set<Long> seenIds = new HashSet<>();
+        for (int i = 0; i < stepOrders.size(); i++) {
+            ReorderTestStepsRequest.StepOrderDto stepOrder = stepOrders.get(i);
+            if (!seenIds.add(stepOrder.getStepId())) {
+                throw new RuntimeException("Test step " + stepOrder.getStepId() + " appears more than once");
+            }
+            ids[i] = stepOrder.getStepId();
+            orders[i] = stepOrder.getStepOrder();
         }
 
-        // Update step orders
-        for (ReorderTestStepsRequest.StepOrderDto stepOrder : stepOrders) {
-            TestStep testStep = testStepRepository.findActiveById(stepOrder.getStepId())
-                    .orElseThrow(() -> new RuntimeException("Test step not found: " + stepOrder.getStepId()));
-            
-            if (!testStep.getTestScenario().getId().equals(testScenarioId)) {
-                throw new RuntimeException("Test step does not belong to the specified test scenario");
-            }
-            
-            testStep.setStepOrder(stepOrder.getStepOrder());
-            testStepRepository.save(testStep);
+        // Update step orders in one statement; uniqueness is checked at commit
+        int updated = testStepRepository.updateStepOrders(testScenarioId, ids, orders);
+        if (updated != ids.length) {
+            throw new RuntimeException("Test step does not belong to the specified test scenario");
         }
 
         // Return updated list
-        return getTestStepsByTestScenario(companyId, projectId, platformId, versionId, 
-                                          testSuiteId, testFeatureId, testScenarioId, userEmail);
+        return convertToDtos(testStepRepository.findByTestScenarioOrderByStepOrder(testScenario));
     }
 
     /**
@@ -326,33 +542,73 @@ public class TestStepService {
                                                 Long testStepId, String actualResult, String executionNotes, 
                                                 String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permissions for this company
-        CompanyMember companyMember = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .orElseThrow(() -> new RuntimeException("Access denied - user is not a member of this company"));
+        auth.requireMembership(companyId, "Access denied - user is not a member of this company");
 
         // Get test step
         TestStep testStep = testStepRepository.findActiveById(testStepId)
                 .orElseThrow(() -> new RuntimeException("Test step not found"));
 
         // Validate hierarchy
-        if (!testStep.getTestScenario().getId().equals(testScenarioId) ||
-            !testStep.getTestScenario().getTestFeature().getId().equals(testFeatureId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getId().equals(testSuiteId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getVersion().getId().equals(versionId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getVersion().getPlatform().getId().equals(platformId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testStep.getTestScenario().getTestFeature().getTestSuite().getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test step does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestStep(testStepId, companyId, projectId, platformId, versionId, testSuiteId, testFeatureId, testScenarioId);
 
         testStep.setActualResult(actualResult);
         testStep.setNotes(executionNotes);
-        testStep.setExecutedBy(user);
+        testStep.setExecutedBy(userRepository.getReferenceById(auth.userId()));
         testStep = testStepRepository.save(testStep);
         
         return convertToDto(testStep);
     }
+
+    /**
+     * Record the execution results of several test steps in one transaction.
+     * The steps are loaded with one query scoped to the company and written back
+     * as one JDBC batch. With a test run the results are also appended to its history.
+     */
+    @Transactional
+    public int bulkUpdateTestStepExecution(Long companyId, Long testRunId,
+                                           List<BulkTestStepExecutionRequest.StepExecutionItem> items,
+                                           String userEmail) {
+        // Validate user and permissions
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+
+        // Check user permissions for this company
+        auth.requireMembership(companyId, "Access denied - user is not a member of this company");
+
+        Map<Long, BulkTestStepExecutionRequest.StepExecutionItem> itemsById = new LinkedHashMap<>();
+        for (BulkTestStepExecutionRequest.StepExecutionItem item : items) {
+            if (itemsById.put(item.getTestStepId(), item) != null) {
+                throw new RuntimeException("Test step " + item.getTestStepId() + " appears more than once");
+            }
+        }
+
+        List<TestStep> testSteps = testStepRepository.findActiveByIdsAndCompanyId(itemsById.keySet(), companyId);
+        if (testSteps.size() != itemsById.size()) {
+            throw new RuntimeException("Test step not found");
+        }
+
+        User executedBy = userRepository.getReferenceById(auth.userId());
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, TestStepStatus> previousStatuses = new HashMap<>();
+        for (TestStep testStep : testSteps) {
+            BulkTestStepExecutionRequest.StepExecutionItem item = itemsById.get(testStep.getId());
+            previousStatuses.put(testStep.getId(), testStep.getStatus());
+            testStep.setStatus(item.getStatus());
+            testStep.setActualResult(item.getActualResult());
+            testStep.setDurationMs(item.getDurationMs());
+            testStep.setExecutedAt(item.getExecutedAt() != null ? item.getExecutedAt() : now);
+            testStep.setFailureArtifactIds(item.getArtifactIds() != null && !item.getArtifactIds().isEmpty()
+                    ? String.join(",", item.getArtifactIds()) : null);
+            testStep.setExecutedBy(executedBy);
+        }
+
+        testStepRepository.saveAll(testSteps);
+        statusRollupService.testStepStatusesChanged(testSteps, previousStatuses);
+        if (testRunId != null) {
+            testRunService.appendResults(testRunId, companyId, testSteps, itemsById, auth.userId(), now);
+        }
+        return testSteps.size();
+    }
 }
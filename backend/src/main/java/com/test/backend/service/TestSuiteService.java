@@ -1,14 +1,21 @@
 package com.test.backend.service;
 
 import com.test.backend.dto.CreateTestSuiteRequest;
+import com.test.backend.dto.CursorPage;
 import com.test.backend.dto.TestSuiteDto;
 import com.test.backend.entity.*;
+import com.test.backend.enums.HierarchyLevel;
 import com.test.backend.repository.*;
+import com.test.backend.security.AuthorizationContext;
+import com.test.backend.security.AuthorizationContextProvider;
+import com.test.backend.util.CursorCodec;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -27,10 +34,22 @@ public class TestSuiteService {
     private UserRepository userRepository;
 
     @Autowired
-    private CompanyMemberRepository companyMemberRepository;
+    private TestFeatureRepository testFeatureRepository;
 
     @Autowired
-    private TestFeatureRepository testFeatureRepository;
+    private HierarchyResolver hierarchyResolver;
+
+    @Autowired
+    private AuthorizationContextProvider authorizationContextProvider;
+
+    @Autowired
+    private ChildCountService childCountService;
+
+    @Autowired
+    private StatusRollupService statusRollupService;
+
+    @Autowired
+    private SoftDeleteService softDeleteService;
 
     /**
      * Create a new test suite in a version.
@@ -39,13 +58,10 @@ public class TestSuiteService {
     public TestSuiteDto createTestSuite(Long companyId, Long projectId, Long platformId, Long versionId, 
                                        CreateTestSuiteRequest request, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN && userRole != CompanyRole.MEMBER) {
             throw new RuntimeException("Access denied. You must be a company member to create test suites.");
@@ -56,11 +72,7 @@ public class TestSuiteService {
                 .orElseThrow(() -> new RuntimeException("Version not found"));
 
         // Validate hierarchy
-        if (!version.getPlatform().getId().equals(platformId) ||
-            !version.getPlatform().getProject().getId().equals(projectId) ||
-            !version.getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Version does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyVersion(versionId, companyId, projectId, platformId);
 
         // Check if test suite name already exists in this version
         if (testSuiteRepository.existsByNameAndVersion(request.getName(), version)) {
@@ -72,7 +84,7 @@ public class TestSuiteService {
         testSuite.setName(request.getName());
         testSuite.setDescription(request.getDescription());
         testSuite.setVersion(version);
-        testSuite.setCreatedBy(user);
+        testSuite.setCreatedBy(userRepository.getReferenceById(auth.userId()));
 
         testSuite = testSuiteRepository.save(testSuite);
         return convertToDto(testSuite);
@@ -82,30 +94,10 @@ public class TestSuiteService {
      * Get all test suites for a version that user has access to.
      */
     public List<TestSuiteDto> getTestSuitesByVersion(Long companyId, Long projectId, Long platformId, Long versionId, String userEmail) {
-        // Validate user access
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        // Check if user is member of this company
-        if (!companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId()).isPresent()) {
-            throw new RuntimeException("Access denied to this company");
-        }
-
-        // Get and validate version
-        Version version = versionRepository.findById(versionId)
-                .orElseThrow(() -> new RuntimeException("Version not found"));
-
-        // Validate hierarchy
-        if (!version.getPlatform().getId().equals(platformId) ||
-            !version.getPlatform().getProject().getId().equals(projectId) ||
-            !version.getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Version does not belong to the specified hierarchy");
-        }
+        Version version = getAccessibleVersion(companyId, projectId, platformId, versionId, userEmail);
 
         List<TestSuite> testSuites = testSuiteRepository.findByVersion(version);
-        return testSuites.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return convertToDtos(testSuites);
     }
 
     /**
@@ -113,24 +105,16 @@ public class TestSuiteService {
      */
     public TestSuiteDto getTestSuite(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, String userEmail) {
         // Validate user access
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check if user is member of this company
-        if (!companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId()).isPresent()) {
-            throw new RuntimeException("Access denied to this company");
-        }
+        auth.requireMembership(companyId, "Access denied to this company");
 
         TestSuite testSuite = testSuiteRepository.findActiveById(testSuiteId)
                 .orElseThrow(() -> new RuntimeException("Test suite not found"));
 
         // Validate hierarchy
-        if (!testSuite.getVersion().getId().equals(versionId) ||
-            !testSuite.getVersion().getPlatform().getId().equals(platformId) ||
-            !testSuite.getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testSuite.getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test suite does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestSuite(testSuiteId, companyId, projectId, platformId, versionId);
 
         return convertToDto(testSuite);
     }
@@ -142,13 +126,10 @@ public class TestSuiteService {
     public TestSuiteDto updateTestSuite(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId,
                                        CreateTestSuiteRequest request, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
             throw new RuntimeException("Access denied. Only company owners and admins can update test suites.");
@@ -158,12 +139,7 @@ public class TestSuiteService {
                 .orElseThrow(() -> new RuntimeException("Test suite not found"));
 
         // Validate hierarchy
-        if (!testSuite.getVersion().getId().equals(versionId) ||
-            !testSuite.getVersion().getPlatform().getId().equals(platformId) ||
-            !testSuite.getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testSuite.getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test suite does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestSuite(testSuiteId, companyId, projectId, platformId, versionId);
 
         // Check if new name conflicts with existing test suites (if name is changed)
         if (!testSuite.getName().equals(request.getName()) &&
@@ -184,13 +160,10 @@ public class TestSuiteService {
     @Transactional
     public void deleteTestSuite(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
             throw new RuntimeException("Access denied. Only company owners and admins can delete test suites.");
@@ -200,37 +173,80 @@ public class TestSuiteService {
                 .orElseThrow(() -> new RuntimeException("Test suite not found"));
 
         // Validate hierarchy
-        if (!testSuite.getVersion().getId().equals(versionId) ||
-            !testSuite.getVersion().getPlatform().getId().equals(platformId) ||
-            !testSuite.getVersion().getPlatform().getProject().getId().equals(projectId) ||
-            !testSuite.getVersion().getPlatform().getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Test suite does not belong to the specified hierarchy");
-        }
+        hierarchyResolver.verifyTestSuite(testSuiteId, companyId, projectId, platformId, versionId);
 
-        // First, soft delete all test features in this test suite
-        List<TestFeature> testFeatures = testFeatureRepository.findByTestSuite(testSuite);
-        for (TestFeature testFeature : testFeatures) {
-            testFeature.markAsDeleted();
+        // Soft delete the test suite and its whole subtree
+        statusRollupService.nodeRemoved(HierarchyLevel.TEST_SUITE, testSuite.getId());
+        softDeleteService.delete(HierarchyLevel.TEST_SUITE, testSuite.getId(), auth.userId());
+    }
+
+    /**
+     * Get a keyset page of test suites for a version, ordered by creation time.
+     */
+    public CursorPage<TestSuiteDto> getTestSuitesPageByVersion(Long companyId, Long projectId, Long platformId, Long versionId,
+                                                              String cursor, int limit, String userEmail) {
+        Version version = getAccessibleVersion(companyId, projectId, platformId, versionId, userEmail);
+
+        int pageSize = CursorPage.clampLimit(limit);
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<TestSuite> testSuites;
+        if (cursor == null) {
+            testSuites = testSuiteRepository.findPageByVersion(version, pageRequest);
+        } else {
+            CursorCodec.TimeCursor after = CursorCodec.decodeTime(cursor);
+            testSuites = testSuiteRepository.findPageByVersionAfter(version, after.createdAt(), after.id(), pageRequest);
         }
-        testFeatureRepository.saveAll(testFeatures);
+        return CursorPage.of(testSuites, pageSize, this::convertToDtos,
+                testSuite -> CursorCodec.encode(testSuite.getCreatedAt(), testSuite.getId()));
+    }
+
+    /**
+     * Convert test suites to DTOs with one grouped child count query.
+     */
+    private List<TestSuiteDto> convertToDtos(List<TestSuite> testSuites) {
+        Map<Long, Integer> testFeatureCounts = childCountService.countTestFeatures(testSuites);
+        return testSuites.stream()
+                .map(testSuite -> convertToDto(testSuite, testFeatureCounts.getOrDefault(testSuite.getId(), 0)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Validate user access and the hierarchy, and return the parent of the listed entities.
+     */
+    private Version getAccessibleVersion(Long companyId, Long projectId, Long platformId, Long versionId, String userEmail) {
+        // Validate user access
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+
+        // Check if user is member of this company
+        auth.requireMembership(companyId, "Access denied to this company");
+
+        // Get and validate version
+        Version version = versionRepository.findById(versionId)
+                .orElseThrow(() -> new RuntimeException("Version not found"));
 
-        // Then, soft delete the test suite
-        testSuite.markAsDeleted();
-        testSuiteRepository.save(testSuite);
+        // Validate hierarchy
+        hierarchyResolver.verifyVersion(versionId, companyId, projectId, platformId);
+
+        return version;
     }
 
     /**
      * Convert TestSuite entity to DTO.
      */
     private TestSuiteDto convertToDto(TestSuite testSuite) {
+        return convertToDto(testSuite, childCountService.countTestFeatures(List.of(testSuite)).getOrDefault(testSuite.getId(), 0));
+    }
+
+    /**
+     * Convert TestSuite entity to DTO with a precomputed child count.
+     */
+    private TestSuiteDto convertToDto(TestSuite testSuite, int testFeatureCount) {
         Version version = testSuite.getVersion();
         Platform platform = version.getPlatform();
         Project project = platform.getProject();
         Company company = project.getCompany();
         User createdBy = testSuite.getCreatedBy();
 
-        int testFeatureCount = testFeatureRepository.findByTestSuite(testSuite).size();
-
         return new TestSuiteDto(
                 testSuite.getId(),
                 testSuite.getName(),
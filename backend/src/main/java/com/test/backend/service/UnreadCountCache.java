@@ -0,0 +1,189 @@
+package com.test.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.test.backend.dto.UserCount;
+import com.test.backend.repository.NotificationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * In-memory unread notification count per user id.
+ * A miss loads the count from the database; creates, reads and deletes then adjust the
+ * cached value after their transaction commits, so a rolled back change never shows.
+ * Users without a cached count are not touched, their next read loads a fresh count.
+ * The cached counts are periodically reconciled against the database with one grouped
+ * query per batch of users, which corrects any drift from races with a concurrent load.
+ * Every entry carries a version bumped by each adjustment and a count of transactions
+ * about to adjust it; a reconciled count is only applied to an entry that was not
+ * adjusted, nor had an adjustment in flight, since the count was taken.
+ */
+@Slf4j
+@Component
+public class UnreadCountCache {
+
+    private final NotificationRepository notificationRepository;
+    private final Cache<Long, Entry> counts;
+    private final long reconcileSeconds;
+    private final int reconcileBatchSize;
+    private ScheduledExecutorService reconciler;
+
+    public UnreadCountCache(NotificationRepository notificationRepository,
+                            @Value("${notifications.unread-cache.max-size:100000}") long maxSize,
+                            @Value("${notifications.unread-cache.idle-minutes:60}") long idleMinutes,
+                            @Value("${notifications.unread-cache.reconcile-seconds:300}") long reconcileSeconds,
+                            @Value("${notifications.unread-cache.reconcile-batch-size:1000}") int reconcileBatchSize) {
+        this.notificationRepository = notificationRepository;
+        this.reconcileSeconds = reconcileSeconds;
+        this.reconcileBatchSize = reconcileBatchSize;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+    }
+
+    @PostConstruct
+    void init() {
+        if (reconcileSeconds <= 0) {
+            return;
+        }
+        reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "unread-count-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reconciler.scheduleWithFixedDelay(this::reconcile, reconcileSeconds, reconcileSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (reconciler != null) {
+            reconciler.shutdownNow();
+        }
+    }
+
+    /**
+     * Get the unread count of a user, loading it on a miss.
+     */
+    public long get(Long userId) {
+        return counts.get(userId, id -> new Entry(notificationRepository.countUnreadByUserId(id), 0, 0)).count();
+    }
+
+    /**
+     * Add to the unread count of a user once the current transaction commits.
+     */
+    public void adjustAfterCommit(Long userId, long delta) {
+        afterCommit(List.of(userId), count -> Math.max(0, count + delta));
+    }
+
+    /**
+     * Add one to the unread count of several users once the current transaction commits.
+     */
+    public void incrementAllAfterCommit(Collection<Long> userIds) {
+        afterCommit(userIds, count -> count + 1);
+    }
+
+    /**
+     * Set the unread count of a user to zero once the current transaction commits.
+     */
+    public void resetAfterCommit(Long userId) {
+        afterCommit(List.of(userId), count -> 0L);
+    }
+
+    /**
+     * Apply an update to the cached counts of users after commit. Between the commit and
+     * the update the rows are already visible to the reconciler, so the entries are marked
+     * pending before commit and unmarked once the transaction completes.
+     */
+    private void afterCommit(Collection<Long> userIds, LongUnaryOperator update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(userIds, update);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // beforeCommit is skipped on rollback, so only a marked transaction unmarks
+            private boolean marked;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                marked = true;
+                for (Long userId : userIds) {
+                    counts.asMap().computeIfPresent(userId, (id, entry) ->
+                            new Entry(entry.count(), entry.version() + 1, entry.pending() + 1));
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!marked) {
+                    return;
+                }
+                LongUnaryOperator change = status == STATUS_COMMITTED ? update : LongUnaryOperator.identity();
+                for (Long userId : userIds) {
+                    counts.asMap().computeIfPresent(userId, (id, entry) ->
+                            new Entry(change.applyAsLong(entry.count()), entry.version() + 1, Math.max(0, entry.pending() - 1)));
+                }
+            }
+        });
+    }
+
+    private void apply(Collection<Long> userIds, LongUnaryOperator update) {
+        for (Long userId : userIds) {
+            counts.asMap().computeIfPresent(userId, (id, entry) ->
+                    new Entry(update.applyAsLong(entry.count()), entry.version() + 1, entry.pending()));
+        }
+    }
+
+    private void reconcile() {
+        try {
+            List<Long> userIds = new ArrayList<>(counts.asMap().keySet());
+            for (int from = 0; from < userIds.size(); from += reconcileBatchSize) {
+                List<Long> batch = userIds.subList(from, Math.min(from + reconcileBatchSize, userIds.size()));
+                // Versions of the settled entries before counting; entries adjusted meanwhile are left alone
+                Map<Long, Long> versions = new HashMap<>();
+                for (Long userId : batch) {
+                    Entry entry = counts.getIfPresent(userId);
+                    if (entry != null && entry.pending() == 0) {
+                        versions.put(userId, entry.version());
+                    }
+                }
+                if (versions.isEmpty()) {
+                    continue;
+                }
+                Map<Long, Long> actual = new HashMap<>();
+                for (UserCount count : notificationRepository.countUnreadByUserIds(versions.keySet())) {
+                    actual.put(count.userId(), count.count());
+                }
+                versions.forEach((userId, version) -> {
+                    long unread = actual.getOrDefault(userId, 0L);
+                    counts.asMap().computeIfPresent(userId, (id, entry) ->
+                            entry.version() == version && entry.pending() == 0 ? new Entry(unread, version, 0) : entry);
+                });
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to reconcile unread notification counts: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Cached count of a user with its adjustment version and in-flight adjustments.
+     */
+    private record Entry(long count, long version, int pending) {
+    }
+}
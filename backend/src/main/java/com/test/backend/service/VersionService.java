@@ -1,9 +1,13 @@
 package com.test.backend.service;
 
+import com.test.backend.dto.CascadeJobDto;
 import com.test.backend.dto.CreateVersionRequest;
 import com.test.backend.dto.VersionDto;
 import com.test.backend.entity.*;
+import com.test.backend.enums.HierarchyLevel;
 import com.test.backend.repository.*;
+import com.test.backend.security.AuthorizationContext;
+import com.test.backend.security.AuthorizationContextProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,8 +25,10 @@ public class VersionService {
 
     private final VersionRepository versionRepository;
     private final PlatformRepository platformRepository;
-    private final CompanyMemberRepository companyMemberRepository;
-    private final UserRepository userRepository;
+    private final HierarchyResolver hierarchyResolver;
+    private final AuthorizationContextProvider authorizationContextProvider;
+    private final SoftDeleteService softDeleteService;
+    private final StatusRollupService statusRollupService;
 
     /**
      * Create a new version in a platform.
@@ -30,13 +36,10 @@ public class VersionService {
     @Transactional
     public VersionDto createVersion(Long companyId, Long projectId, Long platformId, CreateVersionRequest request, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
             throw new RuntimeException("Access denied. Only company owners and admins can create versions.");
@@ -47,10 +50,7 @@ public class VersionService {
                 .orElseThrow(() -> new RuntimeException("Platform not found with id: " + platformId));
 
         // Validate platform belongs to the specified project and company
-        if (!platform.getProject().getId().equals(projectId) || 
-            !platform.getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Platform does not belong to the specified project/company");
-        }
+        hierarchyResolver.verifyPlatform(platformId, companyId, projectId);
 
         // Check if version name already exists in this platform
         if (versionRepository.existsByVersionNameAndPlatform(request.getVersionName(), platform)) {
@@ -71,22 +71,17 @@ public class VersionService {
      */
     public List<VersionDto> getPlatformVersions(Long companyId, Long projectId, Long platformId, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        auth.requireMembership(companyId, "Access denied to this company");
 
         // Get and validate platform
         Platform platform = platformRepository.findActiveById(platformId)
                 .orElseThrow(() -> new RuntimeException("Platform not found with id: " + platformId));
 
         // Validate platform belongs to the specified project and company
-        if (!platform.getProject().getId().equals(projectId) || 
-            !platform.getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Platform does not belong to the specified project/company");
-        }
+        hierarchyResolver.verifyPlatform(platformId, companyId, projectId);
 
         List<Version> versions = versionRepository.findActiveVersionsByPlatform(platform);
         return versions.stream()
@@ -99,22 +94,17 @@ public class VersionService {
      */
     public VersionDto getVersion(Long companyId, Long projectId, Long platformId, Long versionId, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        auth.requireMembership(companyId, "Access denied to this company");
 
         // Get and validate platform
         Platform platform = platformRepository.findActiveById(platformId)
                 .orElseThrow(() -> new RuntimeException("Platform not found with id: " + platformId));
 
         // Validate platform belongs to the specified project and company
-        if (!platform.getProject().getId().equals(projectId) || 
-            !platform.getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Platform does not belong to the specified project/company");
-        }
+        hierarchyResolver.verifyPlatform(platformId, companyId, projectId);
 
         Version version = versionRepository.findByIdAndPlatform(versionId, platform)
                 .orElseThrow(() -> new RuntimeException("Version not found"));
@@ -129,13 +119,10 @@ public class VersionService {
     public VersionDto updateVersion(Long companyId, Long projectId, Long platformId, Long versionId, 
                                   CreateVersionRequest request, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
             throw new RuntimeException("Access denied. Only company owners and admins can update versions.");
@@ -146,10 +133,7 @@ public class VersionService {
                 .orElseThrow(() -> new RuntimeException("Platform not found with id: " + platformId));
 
         // Validate platform belongs to the specified project and company
-        if (!platform.getProject().getId().equals(projectId) || 
-            !platform.getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Platform does not belong to the specified project/company");
-        }
+        hierarchyResolver.verifyPlatform(platformId, companyId, projectId);
 
         Version version = versionRepository.findByIdAndPlatform(versionId, platform)
                 .orElseThrow(() -> new RuntimeException("Version not found"));
@@ -170,15 +154,12 @@ public class VersionService {
      * Delete version (soft delete).
      */
     @Transactional
-    public void deleteVersion(Long companyId, Long projectId, Long platformId, Long versionId, String userEmail) {
+    public CascadeJobDto deleteVersion(Long companyId, Long projectId, Long platformId, Long versionId, String userEmail) {
         // Validate user and permissions
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
 
         // Check user permission for this company
-        CompanyRole userRole = companyMemberRepository.findByCompanyIdAndUserId(companyId, user.getId())
-                .map(member -> member.getRole())
-                .orElseThrow(() -> new RuntimeException("Access denied to this company"));
+        CompanyRole userRole = auth.requireMembership(companyId, "Access denied to this company");
 
         if (userRole != CompanyRole.OWNER && userRole != CompanyRole.ADMIN) {
             throw new RuntimeException("Access denied. Only company owners and admins can delete versions.");
@@ -189,16 +170,14 @@ public class VersionService {
                 .orElseThrow(() -> new RuntimeException("Platform not found with id: " + platformId));
 
         // Validate platform belongs to the specified project and company
-        if (!platform.getProject().getId().equals(projectId) || 
-            !platform.getProject().getCompany().getId().equals(companyId)) {
-            throw new RuntimeException("Platform does not belong to the specified project/company");
-        }
+        hierarchyResolver.verifyPlatform(platformId, companyId, projectId);
 
         Version version = versionRepository.findByIdAndPlatform(versionId, platform)
                 .orElseThrow(() -> new RuntimeException("Version not found"));
 
-        version.markAsDeleted();
-        versionRepository.save(version);
+        // Soft delete the version, then its whole subtree
+        statusRollupService.nodeRemoved(HierarchyLevel.VERSION, version.getId());
+        return softDeleteService.delete(HierarchyLevel.VERSION, version.getId(), auth.userId());
     }
 
     /**
@@ -0,0 +1,156 @@
+package com.test.backend.service;
+
+import com.test.backend.dto.VersionTreeDto;
+import com.test.backend.entity.*;
+import com.test.backend.repository.*;
+import com.test.backend.security.AuthorizationContext;
+import com.test.backend.security.AuthorizationContextProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Service assembling the test hierarchy under a version.
+ * Each level is loaded with one IN query over the ids of the level above and
+ * stitched together in memory, so the query count depends on the depth only.
+ */
+@Service
+@RequiredArgsConstructor
+public class VersionTreeService {
+
+    public static final int MAX_DEPTH = 4;
+
+    // Keeps IN lists well below the PostgreSQL bind parameter limit
+    private static final int IN_CHUNK_SIZE = 10000;
+
+    private final VersionRepository versionRepository;
+    private final PlatformRepository platformRepository;
+    private final TestSuiteRepository testSuiteRepository;
+    private final TestFeatureRepository testFeatureRepository;
+    private final TestScenarioRepository testScenarioRepository;
+    private final TestStepRepository testStepRepository;
+    private final HierarchyResolver hierarchyResolver;
+    private final AuthorizationContextProvider authorizationContextProvider;
+
+    /**
+     * Get the test hierarchy under a version down to the given depth
+     * (1 = test suites, 2 = test features, 3 = test scenarios, 4 = test steps).
+     * Access is checked and the version loaded once; the tree is only built when
+     * notModified rejects the version's entity tag, otherwise null is returned.
+     */
+    @Transactional(readOnly = true)
+    public VersionTreeDto getVersionTree(Long companyId, Long projectId, Long platformId, Long versionId,
+                                         int depth, String userEmail, Predicate<String> notModified) {
+        Version version = getAccessibleVersion(companyId, projectId, platformId, versionId, userEmail);
+        validateDepth(depth);
+
+        if (notModified.test(getVersionTreeETag(version, depth))) {
+            return null;
+        }
+        return buildVersionTree(version, depth);
+    }
+
+    /**
+     * Get the entity tag of a version tree. It changes whenever any row under the
+     * version is created, updated or deleted.
+     */
+    private String getVersionTreeETag(Version version, int depth) {
+        Object[] summary = versionRepository.summarizeTree(version.getId()).get(0);
+        long rowCount = ((Number) summary[0]).longValue();
+        String fingerprint = summary[1].toString();
+        return version.getId() + "-" + depth + "-" + rowCount + "-" + fingerprint;
+    }
+
+    private VersionTreeDto buildVersionTree(Version version, int depth) {
+        List<TestSuite> testSuites = testSuiteRepository.findTreeByVersionId(version.getId());
+        List<VersionTreeDto.TestSuiteNode> suiteNodes = new ArrayList<>(testSuites.size());
+        Map<Long, VersionTreeDto.TestSuiteNode> suitesById = new HashMap<>();
+        for (TestSuite testSuite : testSuites) {
+            VersionTreeDto.TestSuiteNode node = new VersionTreeDto.TestSuiteNode(testSuite.getId(), testSuite.getName(),
+                    testSuite.getDescription(), testSuite.getCreatedAt(), testSuite.getUpdatedAt(),
+                    depth > 1 ? new ArrayList<>() : null);
+            suiteNodes.add(node);
+            suitesById.put(node.getId(), node);
+        }
+
+        Map<Long, VersionTreeDto.TestFeatureNode> featuresById = new HashMap<>();
+        if (depth > 1) {
+            for (TestFeature testFeature : findIn(new ArrayList<>(suitesById.keySet()), testFeatureRepository::findTreeByTestSuiteIds)) {
+                VersionTreeDto.TestFeatureNode node = new VersionTreeDto.TestFeatureNode(testFeature.getId(), testFeature.getName(),
+                        testFeature.getDescription(), testFeature.getCreatedAt(), testFeature.getUpdatedAt(),
+                        depth > 2 ? new ArrayList<>() : null);
+                suitesById.get(testFeature.getTestSuite().getId()).getTestFeatures().add(node);
+                featuresById.put(node.getId(), node);
+            }
+        }
+
+        Map<Long, VersionTreeDto.TestScenarioNode> scenariosById = new HashMap<>();
+        if (depth > 2) {
+            for (TestScenario testScenario : findIn(new ArrayList<>(featuresById.keySet()), testScenarioRepository::findTreeByTestFeatureIds)) {
+                VersionTreeDto.TestScenarioNode node = new VersionTreeDto.TestScenarioNode(testScenario.getId(), testScenario.getName(),
+                        testScenario.getDescription(), testScenario.getPreconditions(), testScenario.getExpectedResult(),
+                        testScenario.getPriority(), testScenario.getStatus(), testScenario.getEstimatedDurationMinutes(),
+                        testScenario.getAssignedTo() != null ? testScenario.getAssignedTo().getId() : null,
+                        testScenario.getCreatedAt(), testScenario.getUpdatedAt(),
+                        depth > 3 ? new ArrayList<>() : null);
+                featuresById.get(testScenario.getTestFeature().getId()).getTestScenarios().add(node);
+                scenariosById.put(node.getId(), node);
+            }
+        }
+
+        if (depth > 3) {
+            for (TestStep testStep : findIn(new ArrayList<>(scenariosById.keySet()), testStepRepository::findTreeByTestScenarioIds)) {
+                VersionTreeDto.TestStepNode node = new VersionTreeDto.TestStepNode(testStep.getId(), testStep.getStepOrder(),
+                        testStep.getAction(), testStep.getActionVerb(), testStep.getActionSelector(), testStep.getActionValue(),
+                        testStep.getActionTimeoutMs(), testStep.getExpectedResult(), testStep.getActualResult(), testStep.getStatus(),
+                        testStep.getNotes(), testStep.getExecutedBy() != null ? testStep.getExecutedBy().getId() : null,
+                        testStep.getCreatedAt(), testStep.getUpdatedAt());
+                scenariosById.get(testStep.getTestScenario().getId()).getTestSteps().add(node);
+            }
+        }
+
+        return new VersionTreeDto(version.getId(), version.getVersionName(), depth, suiteNodes);
+    }
+
+    private Version getAccessibleVersion(Long companyId, Long projectId, Long platformId, Long versionId, String userEmail) {
+        // Validate user and permissions
+        AuthorizationContext auth = authorizationContextProvider.get(userEmail);
+
+        // Check user permission for this company
+        auth.requireMembership(companyId, "Access denied to this company");
+
+        // Get and validate platform
+        Platform platform = platformRepository.findActiveById(platformId)
+                .orElseThrow(() -> new RuntimeException("Platform not found with id: " + platformId));
+
+        // Validate platform belongs to the specified project and company
+        hierarchyResolver.verifyPlatform(platformId, companyId, projectId);
+
+        return versionRepository.findByIdAndPlatform(versionId, platform)
+                .orElseThrow(() -> new RuntimeException("Version not found"));
+    }
+
+    private static void validateDepth(int depth) {
+        if (depth < 1 || depth > MAX_DEPTH) {
+            throw new RuntimeException("Depth must be between 1 and " + MAX_DEPTH);
+        }
+    }
+
+    private static <T> List<T> findIn(List<Long> ids, Function<List<Long>, List<T>> query) {
+        if (ids.size() <= IN_CHUNK_SIZE) {
+            return ids.isEmpty() ? List.of() : query.apply(ids);
+        }
+        List<T> result = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            result.addAll(query.apply(ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()))));
+        }
+        return result;
+    }
+}
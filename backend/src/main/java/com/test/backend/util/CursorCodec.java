@@ -0,0 +1,60 @@
+package com.test.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes opaque keyset pagination cursors.
+ */
+public final class CursorCodec {
+
+    public record TimeCursor(LocalDateTime createdAt, Long id) {}
+
+    public record OrderCursor(Integer order, Long id) {}
+
+    private CursorCodec() {
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        return encode(createdAt + "|" + id);
+    }
+
+    public static String encode(Integer order, Long id) {
+        return encode(order + "|" + id);
+    }
+
+    public static TimeCursor decodeTime(String cursor) {
+        String[] parts = decode(cursor);
+        try {
+            return new TimeCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    public static OrderCursor decodeOrder(String cursor) {
+        String[] parts = decode(cursor);
+        try {
+            return new OrderCursor(Integer.valueOf(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+}
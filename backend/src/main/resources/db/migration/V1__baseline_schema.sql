@@ -0,0 +1,183 @@
+-- Baseline schema, matching the entity mappings at the time schema management moved to Flyway.
+-- Every statement is guarded so databases previously managed by ddl-auto=update
+-- (baselined at version 0) only get whatever they were missing.
+
+CREATE SEQUENCE IF NOT EXISTS user_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS company_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS project_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS platform_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS version_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS test_suite_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS test_feature_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS test_scenario_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS test_step_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS users (
+    id         bigint       NOT NULL PRIMARY KEY,
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6),
+    deleted_at timestamp(6),
+    username   varchar(50)  NOT NULL,
+    surname    varchar(50)  NOT NULL,
+    email      varchar(150) NOT NULL UNIQUE,
+    password   varchar(255) NOT NULL,
+    role       varchar(20)  NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_user_email ON users (email);
+
+CREATE TABLE IF NOT EXISTS companies (
+    id         bigint       NOT NULL PRIMARY KEY,
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6),
+    deleted_at timestamp(6),
+    name       varchar(200) NOT NULL,
+    owner_id   bigint       NOT NULL CONSTRAINT fk_company_owner REFERENCES users (id)
+);
+CREATE INDEX IF NOT EXISTS idx_company_name ON companies (name);
+CREATE INDEX IF NOT EXISTS idx_company_owner ON companies (owner_id);
+
+CREATE TABLE IF NOT EXISTS company_members (
+    user_id    bigint       NOT NULL CONSTRAINT fk_company_member_user REFERENCES users (id),
+    company_id bigint       NOT NULL CONSTRAINT fk_company_member_company REFERENCES companies (id),
+    role       varchar(20)  NOT NULL,
+    joined_at  timestamp(6) NOT NULL,
+    PRIMARY KEY (company_id, user_id)
+);
+CREATE INDEX IF NOT EXISTS idx_company_member_role ON company_members (role);
+CREATE INDEX IF NOT EXISTS idx_company_member_joined ON company_members (joined_at);
+
+CREATE TABLE IF NOT EXISTS company_invitations (
+    id                 bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    company_id         bigint       NOT NULL CONSTRAINT fk_company_invitation_company REFERENCES companies (id),
+    invited_by_user_id bigint       NOT NULL CONSTRAINT fk_company_invitation_invited_by REFERENCES users (id),
+    invited_user_id    bigint       NOT NULL CONSTRAINT fk_company_invitation_invited_user REFERENCES users (id),
+    invited_email      varchar(255) NOT NULL,
+    role               varchar(255) NOT NULL,
+    status             varchar(255) NOT NULL,
+    invitation_token   varchar(255) NOT NULL UNIQUE,
+    message            varchar(255),
+    created_at         timestamp(6) NOT NULL,
+    expires_at         timestamp(6) NOT NULL,
+    responded_at       timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS notifications (
+    id                bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id           bigint       NOT NULL CONSTRAINT fk_notification_user REFERENCES users (id),
+    type              varchar(255) NOT NULL,
+    title             varchar(255) NOT NULL,
+    message           text         NOT NULL,
+    is_read           boolean      NOT NULL,
+    action_url        varchar(255),
+    related_entity_id bigint,
+    created_at        timestamp(6) NOT NULL,
+    read_at           timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS projects (
+    id          bigint       NOT NULL PRIMARY KEY,
+    created_at  timestamp(6) NOT NULL,
+    updated_at  timestamp(6),
+    deleted_at  timestamp(6),
+    name        varchar(200) NOT NULL,
+    description text,
+    company_id  bigint       NOT NULL CONSTRAINT fk_project_company REFERENCES companies (id)
+);
+CREATE INDEX IF NOT EXISTS idx_project_name ON projects (name);
+CREATE INDEX IF NOT EXISTS idx_project_company ON projects (company_id);
+
+CREATE TABLE IF NOT EXISTS platforms (
+    id            bigint       NOT NULL PRIMARY KEY,
+    created_at    timestamp(6) NOT NULL,
+    updated_at    timestamp(6),
+    deleted_at    timestamp(6),
+    name          varchar(255) NOT NULL,
+    description   varchar(255),
+    platform_type varchar(255) NOT NULL,
+    project_id    bigint       NOT NULL CONSTRAINT fk_platform_project REFERENCES projects (id),
+    CONSTRAINT uk_platform_name_project UNIQUE (name, project_id)
+);
+CREATE INDEX IF NOT EXISTS idx_platform_project ON platforms (project_id);
+CREATE INDEX IF NOT EXISTS idx_platform_name ON platforms (name);
+
+CREATE TABLE IF NOT EXISTS versions (
+    id           bigint       NOT NULL PRIMARY KEY,
+    created_at   timestamp(6) NOT NULL,
+    updated_at   timestamp(6),
+    deleted_at   timestamp(6),
+    version_name varchar(50)  NOT NULL,
+    platform_id  bigint       NOT NULL CONSTRAINT fk_version_platform REFERENCES platforms (id)
+);
+CREATE INDEX IF NOT EXISTS idx_version_name ON versions (version_name);
+CREATE INDEX IF NOT EXISTS idx_version_platform ON versions (platform_id);
+
+CREATE TABLE IF NOT EXISTS test_suites (
+    id                 bigint       NOT NULL PRIMARY KEY,
+    created_at         timestamp(6) NOT NULL,
+    updated_at         timestamp(6),
+    deleted_at         timestamp(6),
+    name               varchar(200) NOT NULL,
+    description        text,
+    version_id         bigint       NOT NULL CONSTRAINT fk_test_suite_version REFERENCES versions (id),
+    created_by         bigint       NOT NULL CONSTRAINT fk_test_suite_created_by REFERENCES users (id),
+    test_feature_count integer      NOT NULL DEFAULT 0
+);
+ALTER TABLE test_suites ADD COLUMN IF NOT EXISTS test_feature_count integer NOT NULL DEFAULT 0;
+CREATE INDEX IF NOT EXISTS idx_test_suite_name ON test_suites (name);
+CREATE INDEX IF NOT EXISTS idx_test_suite_version ON test_suites (version_id);
+
+CREATE TABLE IF NOT EXISTS test_features (
+    id                  bigint       NOT NULL PRIMARY KEY,
+    created_at          timestamp(6) NOT NULL,
+    updated_at          timestamp(6),
+    deleted_at          timestamp(6),
+    name                varchar(200) NOT NULL,
+    description         text,
+    test_suite_id       bigint       NOT NULL CONSTRAINT fk_test_feature_suite REFERENCES test_suites (id),
+    created_by          bigint       NOT NULL CONSTRAINT fk_test_feature_created_by REFERENCES users (id),
+    test_scenario_count integer      NOT NULL DEFAULT 0
+);
+ALTER TABLE test_features ADD COLUMN IF NOT EXISTS test_scenario_count integer NOT NULL DEFAULT 0;
+CREATE INDEX IF NOT EXISTS idx_test_feature_name ON test_features (name);
+CREATE INDEX IF NOT EXISTS idx_test_feature_suite ON test_features (test_suite_id);
+
+CREATE TABLE IF NOT EXISTS test_cases (
+    id                         bigint       NOT NULL PRIMARY KEY,
+    created_at                 timestamp(6) NOT NULL,
+    updated_at                 timestamp(6),
+    deleted_at                 timestamp(6),
+    name                       varchar(200) NOT NULL,
+    description                text,
+    preconditions              text,
+    expected_result            text,
+    priority                   varchar(20)  NOT NULL,
+    status                     varchar(20)  NOT NULL,
+    estimated_duration_minutes integer,
+    test_feature_id            bigint       NOT NULL CONSTRAINT fk_test_case_feature REFERENCES test_features (id),
+    created_by                 bigint       NOT NULL CONSTRAINT fk_test_case_created_by REFERENCES users (id),
+    test_step_count            integer      NOT NULL DEFAULT 0,
+    assigned_to                bigint       CONSTRAINT fk_test_case_assigned_to REFERENCES users (id)
+);
+ALTER TABLE test_cases ADD COLUMN IF NOT EXISTS test_step_count integer NOT NULL DEFAULT 0;
+CREATE INDEX IF NOT EXISTS idx_test_case_name ON test_cases (name);
+CREATE INDEX IF NOT EXISTS idx_test_case_feature ON test_cases (test_feature_id);
+CREATE INDEX IF NOT EXISTS idx_test_case_status ON test_cases (status);
+CREATE INDEX IF NOT EXISTS idx_test_case_priority ON test_cases (priority);
+
+CREATE TABLE IF NOT EXISTS test_steps (
+    id               bigint       NOT NULL PRIMARY KEY,
+    created_at       timestamp(6) NOT NULL,
+    updated_at       timestamp(6),
+    deleted_at       timestamp(6),
+    step_order       integer      NOT NULL,
+    action           text         NOT NULL,
+    expected_result  text,
+    actual_result    text,
+    status           varchar(20)  NOT NULL,
+    notes            text,
+    test_scenario_id bigint       NOT NULL CONSTRAINT fk_test_step_scenario REFERENCES test_cases (id),
+    executed_by      bigint       CONSTRAINT fk_test_step_executed_by REFERENCES users (id)
+);
+CREATE INDEX IF NOT EXISTS idx_test_step_scenario ON test_steps (test_scenario_id);
+CREATE INDEX IF NOT EXISTS idx_test_step_order ON test_steps (step_order);
+CREATE INDEX IF NOT EXISTS idx_test_step_status ON test_steps (status);
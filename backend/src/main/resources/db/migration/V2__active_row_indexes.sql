@@ -0,0 +1,63 @@
+-- Composite partial indexes for the hot repository queries, which all filter on
+-- deleted_at IS NULL plus a parent key and usually order the result.
+-- Soft deleted rows are left out, so the indexes only grow with live data.
+
+CREATE INDEX IF NOT EXISTS idx_project_company_active
+    ON projects (company_id, updated_at DESC) WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_platform_project_active
+    ON platforms (project_id, name) WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_version_platform_active
+    ON versions (platform_id, created_at DESC) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_version_platform_name_active
+    ON versions (platform_id, version_name) WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_test_suite_version_active
+    ON test_suites (version_id, created_at, id) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_test_suite_version_name_active
+    ON test_suites (version_id, name) WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_test_feature_suite_active
+    ON test_features (test_suite_id, created_at, id) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_test_feature_suite_name_active
+    ON test_features (test_suite_id, name) WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_test_case_feature_active
+    ON test_cases (test_feature_id, created_at, id) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_test_case_feature_name_active
+    ON test_cases (test_feature_id, name) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_test_case_assigned_active
+    ON test_cases (assigned_to) WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_test_step_scenario_active
+    ON test_steps (test_scenario_id, step_order, id) WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_notification_user_created
+    ON notifications (user_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_company_member_company_joined
+    ON company_members (company_id, joined_at, user_id);
+
+-- Active step orders are unique per scenario. The check is deferred to commit so
+-- set-based reorders can swap orders within one statement; it is an exclusion
+-- constraint because only those can be both partial and deferrable.
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uq_test_step_scenario_order') THEN
+        ALTER TABLE test_steps ADD CONSTRAINT uq_test_step_scenario_order
+            EXCLUDE USING btree (test_scenario_id WITH =, step_order WITH =) WHERE (deleted_at IS NULL)
+            DEFERRABLE INITIALLY DEFERRED;
+    END IF;
+END $$;
+
+-- Move the id sequences past rows inserted while ids came from identity columns.
+SELECT setval('user_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM users), (SELECT last_value FROM user_seq), 1));
+SELECT setval('company_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM companies), (SELECT last_value FROM company_seq), 1));
+SELECT setval('project_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM projects), (SELECT last_value FROM project_seq), 1));
+SELECT setval('platform_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM platforms), (SELECT last_value FROM platform_seq), 1));
+SELECT setval('version_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM versions), (SELECT last_value FROM version_seq), 1));
+SELECT setval('test_suite_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM test_suites), (SELECT last_value FROM test_suite_seq), 1));
+SELECT setval('test_feature_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM test_features), (SELECT last_value FROM test_feature_seq), 1));
+SELECT setval('test_scenario_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM test_cases), (SELECT last_value FROM test_scenario_seq), 1));
+SELECT setval('test_step_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM test_steps), (SELECT last_value FROM test_step_seq), 1));
@@ -0,0 +1,3 @@
+-- Execution timing written back by the web framework's scenario runner
+ALTER TABLE test_steps ADD COLUMN IF NOT EXISTS executed_at timestamp(6);
+ALTER TABLE test_steps ADD COLUMN IF NOT EXISTS duration_ms bigint;
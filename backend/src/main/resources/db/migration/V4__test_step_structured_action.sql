@@ -0,0 +1,5 @@
+-- Typed action of a test step, mapped one-to-one onto the web framework's actions
+ALTER TABLE test_steps ADD COLUMN IF NOT EXISTS action_verb varchar(30);
+ALTER TABLE test_steps ADD COLUMN IF NOT EXISTS action_selector text;
+ALTER TABLE test_steps ADD COLUMN IF NOT EXISTS action_value text;
+ALTER TABLE test_steps ADD COLUMN IF NOT EXISTS action_timeout_ms integer;
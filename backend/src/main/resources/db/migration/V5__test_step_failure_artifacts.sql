@@ -0,0 +1,2 @@
+-- Comma-separated ids of the failure artifacts (screenshot, DOM snapshot, trace) kept by the web framework
+ALTER TABLE test_steps ADD COLUMN IF NOT EXISTS failure_artifact_ids varchar(1000);
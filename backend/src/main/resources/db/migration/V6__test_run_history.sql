@@ -0,0 +1,89 @@
+-- Append-only execution history. A test run groups the results of one execution of a
+-- test scenario or test suite; every executed step adds one compact row to
+-- test_step_results and, when it has any, one row of large text to test_step_result_details.
+-- Both result tables are partitioned by month of the run date, so inserts only touch the
+-- current partition and old runs are removed by dropping whole partitions.
+
+CREATE SEQUENCE IF NOT EXISTS test_run_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS test_runs (
+    id               bigint       NOT NULL PRIMARY KEY,
+    created_at       timestamp(6) NOT NULL,
+    updated_at       timestamp(6),
+    deleted_at       timestamp(6),
+    name             varchar(200),
+    run_date         date         NOT NULL,
+    finished_at      timestamp(6),
+    result_count     integer      NOT NULL DEFAULT 0,
+    company_id       bigint       NOT NULL CONSTRAINT fk_test_run_company REFERENCES companies (id),
+    version_id       bigint       NOT NULL CONSTRAINT fk_test_run_version REFERENCES versions (id),
+    test_suite_id    bigint       CONSTRAINT fk_test_run_suite REFERENCES test_suites (id),
+    test_scenario_id bigint       CONSTRAINT fk_test_run_scenario REFERENCES test_cases (id),
+    started_by       bigint       NOT NULL CONSTRAINT fk_test_run_started_by REFERENCES users (id)
+);
+CREATE INDEX IF NOT EXISTS idx_test_run_scenario ON test_runs (test_scenario_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_test_run_suite ON test_runs (test_suite_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_test_run_run_date ON test_runs (run_date);
+
+-- Status is stored as the small code of TestStepStatus. The tables carry no foreign keys
+-- so partitions can be dropped without touching other tables.
+CREATE TABLE IF NOT EXISTS test_step_results (
+    run_date     date         NOT NULL,
+    test_run_id  bigint       NOT NULL,
+    test_step_id bigint       NOT NULL,
+    status       smallint     NOT NULL,
+    duration_ms  integer,
+    executed_at  timestamp(6) NOT NULL,
+    executed_by  bigint,
+    PRIMARY KEY (run_date, test_run_id, test_step_id)
+) PARTITION BY RANGE (run_date);
+CREATE INDEX IF NOT EXISTS idx_test_step_result_step ON test_step_results (test_step_id, executed_at DESC);
+
+CREATE TABLE IF NOT EXISTS test_step_result_details (
+    run_date      date          NOT NULL,
+    test_run_id   bigint        NOT NULL,
+    test_step_id  bigint        NOT NULL,
+    actual_result text,
+    artifact_ids  varchar(1000),
+    PRIMARY KEY (run_date, test_run_id, test_step_id)
+) PARTITION BY RANGE (run_date);
+
+-- Creates the partitions of both result tables for the month containing for_month.
+CREATE OR REPLACE FUNCTION ensure_test_result_partitions(for_month date) RETURNS void AS $$
+DECLARE
+    range_start date := date_trunc('month', for_month)::date;
+    range_end   date := (date_trunc('month', for_month) + interval '1 month')::date;
+    suffix      text := to_char(for_month, 'YYYYMM');
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF test_step_results FOR VALUES FROM (%L) TO (%L)',
+                   'test_step_results_' || suffix, range_start, range_end);
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF test_step_result_details FOR VALUES FROM (%L) TO (%L)',
+                   'test_step_result_details_' || suffix, range_start, range_end);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Drops the partitions of both result tables that end on or before the month of cutoff
+-- and returns the number of partitions dropped.
+CREATE OR REPLACE FUNCTION drop_test_result_partitions_before(cutoff date) RETURNS integer AS $$
+DECLARE
+    part    record;
+    dropped integer := 0;
+BEGIN
+    FOR part IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        JOIN pg_class p ON p.oid = i.inhparent
+        WHERE p.relname IN ('test_step_results', 'test_step_result_details')
+          AND c.relname ~ '_[0-9]{6}$'
+          AND to_date(right(c.relname, 6), 'YYYYMM') < date_trunc('month', cutoff)::date
+    LOOP
+        EXECUTE format('DROP TABLE IF EXISTS %I', part.relname);
+        dropped := dropped + 1;
+    END LOOP;
+    RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT ensure_test_result_partitions(CURRENT_DATE);
+SELECT ensure_test_result_partitions((CURRENT_DATE + interval '1 month')::date);
@@ -0,0 +1,12 @@
+-- Pre-aggregated status counts of the test scenarios and test steps below each
+-- project, platform, version, test suite and test feature. One row per node, kind of
+-- item (TEST_SCENARIO or TEST_STEP) and status, kept current with signed deltas by
+-- StatusRollupService and filled from the live tree on first start.
+CREATE TABLE IF NOT EXISTS status_rollups (
+    node_level varchar(20) NOT NULL,
+    node_id    bigint      NOT NULL,
+    item_kind  varchar(20) NOT NULL,
+    status     varchar(20) NOT NULL,
+    item_count bigint      NOT NULL DEFAULT 0,
+    PRIMARY KEY (node_level, node_id, item_kind, status)
+);
@@ -0,0 +1,3 @@
+-- Serves the unread count fallback of the in-memory counter cache (load on a miss and
+-- periodic reconcile), which count a user's rows with is_read = false.
+CREATE INDEX IF NOT EXISTS idx_notification_user_read ON notifications (user_id, is_read);
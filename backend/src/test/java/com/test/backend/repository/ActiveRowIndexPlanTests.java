@@ -0,0 +1,127 @@
+package com.test.backend.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query-plan regression tests for the partial indexes added by the migrations.
+ * Each hot-path query is explained against a freshly migrated database with
+ * sequential scans, bitmap scans and sorts disabled, so the plan shows whether
+ * an index can serve both the filter and the order of the query.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ActiveRowIndexPlanTests {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            statement.execute("SET enable_bitmapscan = off");
+            statement.execute("SET enable_sort = off");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void projectsByCompanyUseActiveIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM projects WHERE company_id = 1 AND deleted_at IS NULL ORDER BY updated_at DESC",
+                "idx_project_company_active");
+    }
+
+    @Test
+    void versionsByPlatformUseActiveIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM versions WHERE platform_id = 1 AND deleted_at IS NULL ORDER BY created_at DESC",
+                "idx_version_platform_active");
+    }
+
+    @Test
+    void testSuitePageUsesActiveIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM test_suites WHERE version_id = 1 AND deleted_at IS NULL "
+                + "AND (created_at > now() OR (created_at = now() AND id > 1)) ORDER BY created_at, id LIMIT 50",
+                "idx_test_suite_version_active");
+    }
+
+    @Test
+    void testFeaturePageUsesActiveIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM test_features WHERE test_suite_id = 1 AND deleted_at IS NULL "
+                + "AND (created_at > now() OR (created_at = now() AND id > 1)) ORDER BY created_at, id LIMIT 50",
+                "idx_test_feature_suite_active");
+    }
+
+    @Test
+    void testScenarioPageUsesActiveIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM test_cases WHERE test_feature_id = 1 AND deleted_at IS NULL "
+                + "AND (created_at > now() OR (created_at = now() AND id > 1)) ORDER BY created_at, id LIMIT 50",
+                "idx_test_case_feature_active");
+    }
+
+    @Test
+    void testStepsByScenarioUseActiveIndex() throws SQLException {
+        // The deferred step-order exclusion constraint is backed by an equally usable partial index
+        assertUsesIndex("SELECT * FROM test_steps WHERE test_scenario_id = 1 AND deleted_at IS NULL ORDER BY step_order",
+                "idx_test_step_scenario_active", "uq_test_step_scenario_order");
+    }
+
+    @Test
+    void notificationPageUsesUserCreatedIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM notifications WHERE user_id = 1 "
+                + "AND (created_at < now() OR (created_at = now() AND id < 100)) ORDER BY created_at DESC, id DESC LIMIT 50",
+                "idx_notification_user_created");
+    }
+
+    @Test
+    void companyMemberPageUsesCompanyJoinedIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM company_members WHERE company_id = 1 "
+                + "AND (joined_at > now() OR (joined_at = now() AND user_id > 1)) ORDER BY joined_at, user_id LIMIT 50",
+                "idx_company_member_company_joined");
+    }
+
+    private static void assertUsesIndex(String sql, String... indexNames) throws SQLException {
+        String plan = explain(sql);
+        assertThat(plan).doesNotContain("Seq Scan").doesNotContain("Sort");
+        assertThat(Arrays.stream(indexNames).anyMatch(plan::contains))
+                .as("Plan should use one of %s:%n%s", Arrays.toString(indexNames), plan)
+                .isTrue();
+    }
+
+    private static String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rows.next()) {
+                plan.append(rows.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
@@ -0,0 +1,200 @@
+package com.test.backend.service;
+
+import com.test.backend.dto.BulkTestStepExecutionRequest;
+import com.test.backend.dto.CreateCompanyRequest;
+import com.test.backend.dto.CreatePlatformRequest;
+import com.test.backend.dto.CreateProjectRequest;
+import com.test.backend.dto.CreateTestFeatureRequest;
+import com.test.backend.dto.CreateTestScenarioRequest;
+import com.test.backend.dto.CreateTestStepRequest;
+import com.test.backend.dto.CreateTestSuiteRequest;
+import com.test.backend.dto.CreateVersionRequest;
+import com.test.backend.dto.RegisterRequest;
+import com.test.backend.enums.PlatformType;
+import com.test.backend.enums.TestScenarioStatus;
+import com.test.backend.enums.TestStepStatus;
+import com.test.backend.repository.StatusRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Consistency tests for the incrementally maintained status rollups.
+ * A small tree is created, changed, deleted and restored through the services,
+ * and the rollup rows they leave behind are compared with the rows a full
+ * rebuild from the live tree produces.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class StatusRollupServiceTests {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final String EMAIL = "rollups@example.com";
+
+    // Rows of deleted nodes are kept but no longer read, and zero rows are left in place by deltas
+    private static final String LIVE_ROWS = "SELECT r.node_level, r.node_id, r.item_kind, r.status, r.item_count " +
+            "FROM status_rollups r WHERE r.item_count <> 0 AND CASE r.node_level " +
+            "  WHEN 'PROJECT' THEN EXISTS (SELECT 1 FROM projects n WHERE n.id = r.node_id AND n.deleted_at IS NULL) " +
+            "  WHEN 'PLATFORM' THEN EXISTS (SELECT 1 FROM platforms n WHERE n.id = r.node_id AND n.deleted_at IS NULL) " +
+            "  WHEN 'VERSION' THEN EXISTS (SELECT 1 FROM versions n WHERE n.id = r.node_id AND n.deleted_at IS NULL) " +
+            "  WHEN 'TEST_SUITE' THEN EXISTS (SELECT 1 FROM test_suites n WHERE n.id = r.node_id AND n.deleted_at IS NULL) " +
+            "  ELSE EXISTS (SELECT 1 FROM test_features n WHERE n.id = r.node_id AND n.deleted_at IS NULL) END " +
+            "ORDER BY r.node_level, r.node_id, r.item_kind, r.status";
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private PlatformService platformService;
+
+    @Autowired
+    private VersionService versionService;
+
+    @Autowired
+    private TestSuiteService testSuiteService;
+
+    @Autowired
+    private TestFeatureService testFeatureService;
+
+    @Autowired
+    private TestScenarioService testScenarioService;
+
+    @Autowired
+    private TestStepService testStepService;
+
+    @Autowired
+    private StatusRollupRepository statusRollupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void incrementalRollupsMatchRebuild() {
+        authService.register(new RegisterRequest("Rollup", "Tester", EMAIL, "password"));
+        Long companyId = companyService.createCompany(new CreateCompanyRequest("Rollup Company"), EMAIL).getId();
+        Long projectId = projectService.createProject(companyId, new CreateProjectRequest("Rollup Project", null), EMAIL).getId();
+        Long platformId = platformService.createPlatform(companyId, projectId,
+                new CreatePlatformRequest("Web", null, PlatformType.WEB), EMAIL).id();
+        Long versionId = versionService.createVersion(companyId, projectId, platformId, new CreateVersionRequest("1.0"), EMAIL).getId();
+        Long testSuiteId = testSuiteService.createTestSuite(companyId, projectId, platformId, versionId,
+                new CreateTestSuiteRequest("Suite", null), EMAIL).getId();
+        Long keptFeatureId = testFeatureService.createTestFeature(companyId, projectId, platformId, versionId, testSuiteId,
+                new CreateTestFeatureRequest("Kept", null), EMAIL).getId();
+        Long deletedFeatureId = testFeatureService.createTestFeature(companyId, projectId, platformId, versionId, testSuiteId,
+                new CreateTestFeatureRequest("Deleted", null), EMAIL).getId();
+
+        List<Long> keptScenarioIds = new ArrayList<>();
+        List<Long> keptStepIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Long testScenarioId = createTestScenario(companyId, projectId, platformId, versionId, testSuiteId, keptFeatureId, "Kept " + i);
+            keptScenarioIds.add(testScenarioId);
+            for (int order = 1; order <= 3; order++) {
+                keptStepIds.add(createTestStep(companyId, projectId, platformId, versionId, testSuiteId, keptFeatureId, testScenarioId, order));
+            }
+        }
+        Long otherScenarioId = createTestScenario(companyId, projectId, platformId, versionId, testSuiteId, deletedFeatureId, "Other");
+        createTestStep(companyId, projectId, platformId, versionId, testSuiteId, deletedFeatureId, otherScenarioId, 1);
+
+        // Status changes of scenarios and steps
+        testScenarioService.updateTestScenarioStatus(companyId, projectId, platformId, versionId, testSuiteId, keptFeatureId,
+                keptScenarioIds.get(0), TestScenarioStatus.PASSED, EMAIL);
+        testScenarioService.updateTestScenarioStatus(companyId, projectId, platformId, versionId, testSuiteId, keptFeatureId,
+                keptScenarioIds.get(1), TestScenarioStatus.FAILED, EMAIL);
+        testStepService.bulkUpdateTestStepExecution(companyId, null, List.of(
+                executionItem(keptStepIds.get(0), TestStepStatus.PASSED),
+                executionItem(keptStepIds.get(1), TestStepStatus.FAILED),
+                executionItem(keptStepIds.get(3), TestStepStatus.BLOCKED),
+                executionItem(keptStepIds.get(6), TestStepStatus.SKIPPED)), EMAIL);
+
+        // Deletes of a step, a scenario with its steps and a feature with its subtree
+        testStepService.deleteTestStep(companyId, projectId, platformId, versionId, testSuiteId, keptFeatureId,
+                keptScenarioIds.get(0), keptStepIds.get(1), EMAIL);
+        testScenarioService.deleteTestScenario(companyId, projectId, platformId, versionId, testSuiteId, keptFeatureId,
+                keptScenarioIds.get(1), EMAIL);
+        testScenarioService.deleteTestScenario(companyId, projectId, platformId, versionId, testSuiteId, keptFeatureId,
+                keptScenarioIds.get(2), EMAIL);
+        testFeatureService.deleteTestFeature(companyId, projectId, platformId, versionId, testSuiteId, deletedFeatureId, EMAIL);
+
+        // Restore one scenario, then change it again
+        testScenarioService.restoreTestScenario(companyId, projectId, platformId, versionId, testSuiteId, keptFeatureId,
+                keptScenarioIds.get(1), EMAIL);
+        testScenarioService.updateTestScenarioStatus(companyId, projectId, platformId, versionId, testSuiteId, keptFeatureId,
+                keptScenarioIds.get(1), TestScenarioStatus.BLOCKED, EMAIL);
+
+        List<String> incremental = liveRows();
+        assertThat(incremental).isNotEmpty();
+        assertThat(rebuiltRows()).containsExactlyElementsOf(incremental);
+    }
+
+    private Long createTestScenario(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId,
+                                    Long testFeatureId, String name) {
+        CreateTestScenarioRequest request = new CreateTestScenarioRequest();
+        request.setName(name);
+        return testScenarioService.createTestScenario(companyId, projectId, platformId, versionId, testSuiteId, testFeatureId,
+                request, EMAIL).getId();
+    }
+
+    private Long createTestStep(Long companyId, Long projectId, Long platformId, Long versionId, Long testSuiteId,
+                                Long testFeatureId, Long testScenarioId, int stepOrder) {
+        CreateTestStepRequest request = new CreateTestStepRequest();
+        request.setStepOrder(stepOrder);
+        request.setAction("Step " + stepOrder);
+        return testStepService.createTestStep(companyId, projectId, platformId, versionId, testSuiteId, testFeatureId,
+                testScenarioId, request, EMAIL).getId();
+    }
+
+    private static BulkTestStepExecutionRequest.StepExecutionItem executionItem(Long testStepId, TestStepStatus status) {
+        BulkTestStepExecutionRequest.StepExecutionItem item = new BulkTestStepExecutionRequest.StepExecutionItem();
+        item.setTestStepId(testStepId);
+        item.setStatus(status);
+        return item;
+    }
+
+    private List<String> liveRows() {
+        return jdbcTemplate.query(LIVE_ROWS, (rows, i) -> rows.getString(1) + ":" + rows.getLong(2) + ":"
+                + rows.getString(3) + ":" + rows.getString(4) + "=" + rows.getLong(5));
+    }
+
+    /**
+     * Rebuild the rollups from the live tree in a transaction that is rolled back.
+     */
+    private List<String> rebuiltRows() {
+        return transactionTemplate.execute(status -> {
+            statusRollupRepository.deleteAllRows();
+            statusRollupRepository.insertRecalculatedRows();
+            List<String> rows = liveRows();
+            status.setRollbackOnly();
+            return rows;
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.test.webframework.artifacts;
+
+/**
+ * Kinds of failure artifacts with the file extension and media type they are stored and served with.
+ * Screenshots and traces are compressed formats already; DOM snapshots are gzipped by the store.
+ */
+public enum ArtifactKind {
+    SCREENSHOT("jpg", "image/jpeg", false),
+    DOM("html.gz", "text/html", true),
+    TRACE("zip", "application/zip", false);
+
+    private final String extension;
+    private final String contentType;
+    private final boolean gzipped;
+
+    ArtifactKind(String extension, String contentType, boolean gzipped) {
+        this.extension = extension;
+        this.contentType = contentType;
+        this.gzipped = gzipped;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public boolean isGzipped() {
+        return gzipped;
+    }
+
+    /**
+     * Finds the kind of an artifact by the extension of its id.
+     *
+     * @param artifactId Artifact id
+     * @return ArtifactKind, or null when the id has no known extension
+     */
+    public static ArtifactKind ofId(String artifactId) {
+        for (ArtifactKind kind : values()) {
+            if (artifactId.endsWith("." + kind.extension)) {
+                return kind;
+            }
+        }
+        return null;
+    }
+}
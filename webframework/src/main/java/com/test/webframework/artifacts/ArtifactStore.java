@@ -0,0 +1,210 @@
+package com.test.webframework.artifacts;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.test.webframework.exception.CustomException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local store of failure artifacts, written off the caller's thread.
+ * Submissions go through a bounded queue to a single writer thread; when the queue is
+ * full the artifact is dropped rather than slowing down the scenario that failed.
+ * An artifact's id is only handed out once it has been accepted, and files older than
+ * the retention period are deleted periodically.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArtifactStore {
+
+    private static final Pattern ARTIFACT_ID = Pattern.compile("[0-9a-f]{8}(-[0-9a-f]{4}){3}-[0-9a-f]{12}\\.[a-z.]+");
+
+    @Value("${artifacts.directory:${java.io.tmpdir}/webframework-artifacts}")
+    private String directory;
+
+    @Value("${artifacts.writer.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${artifacts.retention-days:14}")
+    private long retentionDays;
+
+    private final MeterRegistry meterRegistry;
+
+    private Path root;
+    private ThreadPoolExecutor writer;
+    private ScheduledExecutorService cleaner;
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Files.createDirectories(Paths.get(directory));
+        writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "artifact-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "artifact-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        cleaner.scheduleWithFixedDelay(this::deleteExpired, 1, 60, TimeUnit.MINUTES);
+        FunctionCounter.builder("webframework.artifacts.written", written, LongAdder::sum)
+                .description("Failure artifacts written to the store")
+                .register(meterRegistry);
+        FunctionCounter.builder("webframework.artifacts.dropped", dropped, LongAdder::sum)
+                .description("Failure artifacts dropped because the writer queue was full")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        cleaner.shutdownNow();
+        writer.shutdown();
+        writer.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Queues an artifact held in memory.
+     *
+     * @param kind Kind of the artifact
+     * @param content Uncompressed content
+     * @return Artifact id, or null when the writer queue is full
+     */
+    public String submit(ArtifactKind kind, byte[] content) {
+        String artifactId = UUID.randomUUID() + "." + kind.getExtension();
+        try {
+            writer.execute(() -> write(artifactId, kind, content));
+            return artifactId;
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+            log.warn("Artifact writer queue is full, dropping {} artifact", kind);
+            return null;
+        }
+    }
+
+    /**
+     * Queues an artifact already written to a temporary file, which the store takes over.
+     *
+     * @param kind Kind of the artifact
+     * @param file Temporary file, moved into the store or deleted
+     * @return Artifact id, or null when the writer queue is full
+     */
+    public String submit(ArtifactKind kind, Path file) {
+        String artifactId = UUID.randomUUID() + "." + kind.getExtension();
+        try {
+            writer.execute(() -> move(artifactId, file));
+            return artifactId;
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+            log.warn("Artifact writer queue is full, dropping {} artifact", kind);
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    /**
+     * Resolves the file of an artifact.
+     *
+     * @param artifactId Artifact id
+     * @return Path of the stored file
+     * @throws CustomException with status 404 when the artifact does not exist
+     */
+    public Path resolve(String artifactId) {
+        if (!ARTIFACT_ID.matcher(artifactId).matches() || ArtifactKind.ofId(artifactId) == null) {
+            throw new CustomException("Artifact not found", HttpStatus.NOT_FOUND);
+        }
+        Path file = root.resolve(artifactId);
+        if (!Files.isRegularFile(file)) {
+            throw new CustomException("Artifact not found", HttpStatus.NOT_FOUND);
+        }
+        return file;
+    }
+
+    private void write(String artifactId, ArtifactKind kind, byte[] content) {
+        Path temp = root.resolve(artifactId + ".tmp");
+        try {
+            try (OutputStream out = kind.isGzipped()
+                    ? new GZIPOutputStream(Files.newOutputStream(temp))
+                    : Files.newOutputStream(temp)) {
+                out.write(content);
+            }
+            Files.move(temp, root.resolve(artifactId), StandardCopyOption.ATOMIC_MOVE);
+            written.increment();
+        } catch (IOException e) {
+            log.error("Failed to write artifact {}: {}", artifactId, e.getMessage());
+            deleteQuietly(temp);
+        }
+    }
+
+    private void move(String artifactId, Path file) {
+        try {
+            Files.move(file, root.resolve(artifactId), StandardCopyOption.REPLACE_EXISTING);
+            written.increment();
+        } catch (IOException e) {
+            log.error("Failed to store artifact {}: {}", artifactId, e.getMessage());
+            deleteQuietly(file);
+        }
+    }
+
+    private void deleteExpired() {
+        FileTime cutoff = FileTime.from(Instant.now().minus(retentionDays, ChronoUnit.DAYS));
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(root)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).compareTo(cutoff) < 0) {
+                    Files.deleteIfExists(file);
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clean up artifacts: {}", e.getMessage());
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} artifacts older than {} days", deleted, retentionDays);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Failed to delete {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.test.webframework.artifacts;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Tracing;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Starts failure recording on leased browser contexts.
+ * Screenshots and DOM snapshots are only taken when a step fails, so passing steps pay
+ * nothing for them. Tracing is opt-in: it records DOM snapshots of every action and
+ * writes the previous chunk to a temporary file every ring-size actions, which costs
+ * passing runs time. Traces carry no screencast, the failure screenshot covers that.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FailureArtifacts {
+
+    @Getter
+    private final ArtifactStore artifactStore;
+
+    @Value("${artifacts.enabled:true}")
+    private boolean enabled;
+
+    @Value("${artifacts.trace.enabled:false}")
+    private boolean traceEnabled;
+
+    @Getter
+    @Value("${artifacts.trace.ring-size:20}")
+    private int ringSize;
+
+    @Getter
+    @Value("${artifacts.screenshot.quality:70}")
+    private int screenshotQuality;
+
+    /**
+     * Starts recording on a fresh context.
+     *
+     * @param context Context owned by the calling thread
+     * @return FailureRecorder to notify after each action and on failure
+     */
+    public FailureRecorder begin(BrowserContext context) {
+        if (!enabled) {
+            return FailureRecorder.DISABLED;
+        }
+        boolean tracing = false;
+        if (traceEnabled) {
+            try {
+                context.tracing().start(new Tracing.StartOptions().setSnapshots(true));
+                tracing = true;
+            } catch (PlaywrightException e) {
+                log.warn("Could not start tracing, failures will have no trace: {}", e.getMessage());
+            }
+        }
+        return new FailureRecorder(this, context, tracing);
+    }
+}
@@ -0,0 +1,135 @@
+package com.test.webframework.artifacts;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Tracing;
+import com.microsoft.playwright.options.ScreenshotType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Failure recording of one leased context, used only by the thread that owns the lease.
+ * Capturing reads the screenshot, DOM and trace from the browser on the calling thread and
+ * hands them to the {@link ArtifactStore}, which compresses and writes them asynchronously.
+ * The trace is kept as two chunks: every ring-size actions the current chunk is written
+ * over the previous one, so a failure's trace holds at least the last ring-size actions.
+ */
+@Slf4j
+public final class FailureRecorder implements AutoCloseable {
+
+    static final FailureRecorder DISABLED = new FailureRecorder(null, null, false);
+
+    private final FailureArtifacts owner;
+    private final BrowserContext context;
+    private boolean tracing;
+    private int actionsInChunk;
+    private Path previousChunk;
+
+    FailureRecorder(FailureArtifacts owner, BrowserContext context, boolean tracing) {
+        this.owner = owner;
+        this.context = context;
+        this.tracing = tracing;
+    }
+
+    /**
+     * Counts a finished action, keeping the chunk as the previous one once it holds ring-size actions.
+     */
+    public void afterAction() {
+        if (!tracing || ++actionsInChunk < owner.getRingSize()) {
+            return;
+        }
+        try {
+            if (previousChunk == null) {
+                previousChunk = Files.createTempFile("trace-", ".zip");
+            }
+            context.tracing().stopChunk(new Tracing.StopChunkOptions().setPath(previousChunk));
+            context.tracing().startChunk();
+            actionsInChunk = 0;
+        } catch (IOException | PlaywrightException e) {
+            log.debug("Tracing stopped after a failed restart: {}", e.getMessage());
+            tracing = false;
+            close();
+        }
+    }
+
+    /**
+     * Captures the artifacts of a failed step.
+     *
+     * @param page Page the step failed on
+     * @return Ids of the artifacts accepted by the store, empty when recording is disabled
+     */
+    public List<String> capture(Page page) {
+        if (owner == null) {
+            return List.of();
+        }
+        ArtifactStore store = owner.getArtifactStore();
+        List<String> artifactIds = new ArrayList<>(4);
+        try {
+            byte[] screenshot = page.screenshot(new Page.ScreenshotOptions()
+                    .setType(ScreenshotType.JPEG)
+                    .setQuality(owner.getScreenshotQuality()));
+            addIfAccepted(artifactIds, store.submit(ArtifactKind.SCREENSHOT, screenshot));
+        } catch (PlaywrightException e) {
+            log.debug("Could not capture screenshot: {}", e.getMessage());
+        }
+        try {
+            addIfAccepted(artifactIds, store.submit(ArtifactKind.DOM, page.content().getBytes(StandardCharsets.UTF_8)));
+        } catch (PlaywrightException e) {
+            log.debug("Could not capture DOM snapshot: {}", e.getMessage());
+        }
+        if (tracing) {
+            Path trace = null;
+            try {
+                trace = Files.createTempFile("trace-", ".zip");
+                context.tracing().stopChunk(new Tracing.StopChunkOptions().setPath(trace));
+                if (previousChunk != null) {
+                    addIfAccepted(artifactIds, store.submit(ArtifactKind.TRACE, previousChunk));
+                    previousChunk = null;
+                }
+                addIfAccepted(artifactIds, store.submit(ArtifactKind.TRACE, trace));
+                trace = null;
+                context.tracing().startChunk();
+                actionsInChunk = 0;
+            } catch (IOException | PlaywrightException e) {
+                log.debug("Could not capture trace: {}", e.getMessage());
+                tracing = false;
+                deleteQuietly(trace);
+            }
+        }
+        return artifactIds;
+    }
+
+    /**
+     * Deletes the previous trace chunk when the context is done.
+     */
+    @Override
+    public void close() {
+        deleteQuietly(previousChunk);
+        previousChunk = null;
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Failed to delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static void addIfAccepted(List<String> artifactIds, String artifactId) {
+        if (artifactId != null) {
+            artifactIds.add(artifactId);
+        }
+    }
+}
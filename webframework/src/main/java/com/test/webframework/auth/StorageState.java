@@ -0,0 +1,12 @@
+package com.test.webframework.auth;
+
+import java.time.LocalDateTime;
+
+/**
+ * Playwright storage state (cookies and localStorage) captured after a login scenario.
+ *
+ * @param json Storage state as returned by BrowserContext.storageState()
+ * @param capturedAt When the login ran
+ */
+public record StorageState(String json, LocalDateTime capturedAt) {
+}
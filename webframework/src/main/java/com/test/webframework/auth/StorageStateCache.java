@@ -0,0 +1,134 @@
+package com.test.webframework.auth;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.test.webframework.dto.StorageStateDto;
+import com.test.webframework.exception.CustomException;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Authenticated storage states keyed by user and environment, expiring a fixed time after capture.
+ * When a state is missing, the first caller runs the login and concurrent callers for the
+ * same key wait for its result instead of logging in again.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class StorageStateCache {
+
+    @Value("${auth.storage-state.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    @Value("${auth.storage-state.max-entries:1000}")
+    private long maxEntries;
+
+    private Cache<String, StorageState> states;
+    private final Map<String, CompletableFuture<StorageState>> logins = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        states = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * Builds the cache key of a user on an environment.
+     */
+    public static String keyOf(String user, String environment) {
+        return user + "@" + environment;
+    }
+
+    /**
+     * Gets the cached state of a key, running the login when there is none.
+     *
+     * @param key Key from {@link #keyOf}
+     * @param login Runs the login scenario and returns the captured state
+     * @return StorageState to inject into new contexts
+     */
+    public StorageState getOrCapture(String key, Supplier<StorageState> login) {
+        StorageState state = states.getIfPresent(key);
+        if (state != null) {
+            return state;
+        }
+
+        CompletableFuture<StorageState> own = new CompletableFuture<>();
+        CompletableFuture<StorageState> running = logins.putIfAbsent(key, own);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            state = login.get();
+            states.put(key, state);
+            log.info("Captured storage state for {}", key);
+            own.complete(state);
+            return state;
+        } catch (RuntimeException e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            logins.remove(key, own);
+        }
+    }
+
+    /**
+     * Drops a state that turned out to be logged out. A newer state captured meanwhile is kept.
+     *
+     * @param key Key from {@link #keyOf}
+     * @param state The state that was used
+     */
+    public void invalidate(String key, StorageState state) {
+        if (states.asMap().remove(key, state)) {
+            log.info("Invalidated storage state for {} after a logged-out page", key);
+        }
+    }
+
+    /**
+     * Drops the state of a key.
+     *
+     * @param key Key from {@link #keyOf}
+     * @throws CustomException with status 404 when no state is cached
+     */
+    public void invalidate(String key) {
+        if (states.asMap().remove(key) == null) {
+            throw new CustomException("Storage state not found", HttpStatus.NOT_FOUND);
+        }
+    }
+
+    /**
+     * Gets the cached states without their content, newest first.
+     *
+     * @return List of StorageStateDto
+     */
+    public List<StorageStateDto> list() {
+        List<StorageStateDto> list = new ArrayList<>();
+        states.asMap().forEach((key, state) -> list.add(
+                new StorageStateDto(key, state.capturedAt(), state.capturedAt().plusMinutes(ttlMinutes))));
+        list.sort(Comparator.comparing(StorageStateDto::getCapturedAt).reversed());
+        return list;
+    }
+}
@@ -0,0 +1,38 @@
+package com.test.webframework.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Request routing rules applied to leased browser contexts.
+ * Platforms without their own profile, and profile fields left unset, use the defaults.
+ * Resource types are Playwright's (document, stylesheet, image, media, font, script, xhr,
+ * fetch, ...); URL patterns are globs where * matches any run of characters.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "routing")
+public class RoutingProperties {
+
+    private boolean enabled = true;
+
+    private Profile defaults = new Profile();
+
+    // Keyed by backend platform id
+    private Map<Long, Profile> platforms = new HashMap<>();
+
+    @Data
+    public static class Profile {
+        private List<String> blockResourceTypes;
+        private List<String> blockUrlPatterns;
+        private List<String> stubResourceTypes;
+        private List<String> stubUrlPatterns;
+        private List<String> cacheResourceTypes;
+    }
+}
@@ -0,0 +1,43 @@
+package com.test.webframework.controller;
+
+import com.test.webframework.artifacts.ArtifactKind;
+import com.test.webframework.artifacts.ArtifactStore;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/artifacts")
+@RequiredArgsConstructor
+@Tag(name = "Artifacts", description = "Screenshots, DOM snapshots and traces of failed steps")
+public class ArtifactController {
+
+    private final ArtifactStore artifactStore;
+
+    @Operation(summary = "Get artifact", description = "Downloads a failure artifact; DOM snapshots are served gzip-encoded")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Artifact returned successfully"),
+            @ApiResponse(responseCode = "404", description = "Artifact not found")
+    })
+    @GetMapping("/{artifactId}")
+    public ResponseEntity<Resource> getArtifact(
+            @Parameter(description = "Artifact ID", required = true) @PathVariable String artifactId) {
+        Resource artifact = new FileSystemResource(artifactStore.resolve(artifactId));
+        ArtifactKind kind = ArtifactKind.ofId(artifactId);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(kind.getContentType()));
+        if (kind.isGzipped()) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(artifact);
+    }
+}
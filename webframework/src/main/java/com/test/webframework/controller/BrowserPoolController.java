@@ -0,0 +1,31 @@
+package com.test.webframework.controller;
+
+import com.test.webframework.dto.BrowserPoolMetrics;
+import com.test.webframework.pool.BrowserPool;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/browser-pool")
+@RequiredArgsConstructor
+@Tag(name = "Browser Pool", description = "Pooled Playwright browser statistics")
+public class BrowserPoolController {
+
+    private final BrowserPool browserPool;
+
+    @Operation(summary = "Browser pool metrics", description = "Returns lease, wait time and launch counters of the browser pool")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Metrics returned successfully")
+    })
+    @GetMapping("/metrics")
+    public ResponseEntity<BrowserPoolMetrics> metrics() {
+        return ResponseEntity.ok(browserPool.getMetrics());
+    }
+}
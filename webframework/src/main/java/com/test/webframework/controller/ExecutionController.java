@@ -0,0 +1,54 @@
+package com.test.webframework.controller;
+
+import com.test.webframework.dto.ExecutionJobDto;
+import com.test.webframework.dto.ScenarioExecutionRequest;
+import com.test.webframework.execution.ScenarioExecutionEngine;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/executions")
+@RequiredArgsConstructor
+@Tag(name = "Scenario Execution", description = "Parallel execution of stored test scenarios")
+public class ExecutionController {
+
+    private final ScenarioExecutionEngine scenarioExecutionEngine;
+
+    @Operation(summary = "Run scenarios", description = "Queues a batch of test scenarios; results are written back to the backend when a company ID and bearer token are given")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Execution started"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "503", description = "Execution queue is full")
+    })
+    @PostMapping
+    public ResponseEntity<ExecutionJobDto> startExecution(
+            @Valid @RequestBody ScenarioExecutionRequest request,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+
+        log.info("Execution request received for {} scenarios", request.getScenarios().size());
+        ExecutionJobDto execution = scenarioExecutionEngine.start(request, authorization);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(execution);
+    }
+
+    @Operation(summary = "Get execution", description = "Returns the progress and results of an execution")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Execution returned successfully"),
+            @ApiResponse(responseCode = "404", description = "Execution not found")
+    })
+    @GetMapping("/{executionId}")
+    public ResponseEntity<ExecutionJobDto> getExecution(
+            @Parameter(description = "Execution ID", required = true) @PathVariable String executionId) {
+        return ResponseEntity.ok(scenarioExecutionEngine.getJob(executionId));
+    }
+}
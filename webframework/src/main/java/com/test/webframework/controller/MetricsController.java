@@ -0,0 +1,57 @@
+package com.test.webframework.controller;
+
+import com.test.webframework.dto.ActionLatencyDto;
+import com.test.webframework.dto.RoutingReport;
+import com.test.webframework.dto.WaitLatencyDto;
+import com.test.webframework.metrics.ActionMetrics;
+import com.test.webframework.routing.RequestRouter;
+import com.test.webframework.waits.AdaptiveWaits;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/metrics")
+@RequiredArgsConstructor
+@Tag(name = "Metrics", description = "Web action latency, learned wait and request routing statistics")
+public class MetricsController {
+
+    private final ActionMetrics actionMetrics;
+    private final AdaptiveWaits adaptiveWaits;
+    private final RequestRouter requestRouter;
+
+    @Operation(summary = "Action latencies", description = "Returns p50/p95/p99 latency per action type and result, slowest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Latencies returned successfully")
+    })
+    @GetMapping("/actions")
+    public ResponseEntity<List<ActionLatencyDto>> actionLatencies() {
+        return ResponseEntity.ok(actionMetrics.snapshot());
+    }
+
+    @Operation(summary = "Learned waits", description = "Returns the learned timeout per action, page and selector, longest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Learned waits returned successfully")
+    })
+    @GetMapping("/waits")
+    public ResponseEntity<List<WaitLatencyDto>> learnedWaits() {
+        return ResponseEntity.ok(adaptiveWaits.snapshot());
+    }
+
+    @Operation(summary = "Request routing", description = "Returns blocked, stubbed and cached requests with bytes and time saved since startup")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Routing totals returned successfully")
+    })
+    @GetMapping("/routing")
+    public ResponseEntity<RoutingReport> routing() {
+        return ResponseEntity.ok(requestRouter.getTotals());
+    }
+}
@@ -0,0 +1,90 @@
+package com.test.webframework.controller;
+
+import com.test.webframework.dto.ActionResponse;
+import com.test.webframework.dto.BatchReadRequest;
+import com.test.webframework.dto.BrowserSessionDto;
+import com.test.webframework.dto.SessionActionsRequest;
+import com.test.webframework.session.BrowserSessionManager;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/sessions")
+@RequiredArgsConstructor
+@Tag(name = "Browser Sessions", description = "Remote-driven browser sessions with batched actions")
+public class SessionController {
+
+    private final BrowserSessionManager browserSessionManager;
+
+    @Operation(summary = "Open session", description = "Opens a session on a pooled browser with one page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Session opened"),
+            @ApiResponse(responseCode = "503", description = "No browser available")
+    })
+    @PostMapping
+    public ResponseEntity<BrowserSessionDto> openSession(
+            @Parameter(description = "Platform ID selecting the request routing profile") @RequestParam(required = false) Long platformId) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(browserSessionManager.open(platformId));
+    }
+
+    @Operation(summary = "Get session", description = "Returns a browser session")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Session returned successfully"),
+            @ApiResponse(responseCode = "404", description = "Session not found")
+    })
+    @GetMapping("/{sessionId}")
+    public ResponseEntity<BrowserSessionDto> getSession(
+            @Parameter(description = "Session ID", required = true) @PathVariable String sessionId) {
+        return ResponseEntity.ok(browserSessionManager.get(sessionId));
+    }
+
+    @Operation(summary = "Run actions", description = "Runs a batch of actions in order on the session's page and returns one result per action")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Actions run"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "404", description = "Session not found"),
+            @ApiResponse(responseCode = "409", description = "Session is busy with another batch")
+    })
+    @PostMapping("/{sessionId}/actions")
+    public ResponseEntity<List<ActionResponse>> runActions(
+            @Parameter(description = "Session ID", required = true) @PathVariable String sessionId,
+            @Valid @RequestBody SessionActionsRequest request) {
+        return ResponseEntity.ok(browserSessionManager.execute(sessionId, request));
+    }
+
+    @Operation(summary = "Read properties", description = "Reads many element properties on the session's page in one browser round-trip")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Properties read"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "404", description = "Session not found"),
+            @ApiResponse(responseCode = "409", description = "Session is busy with another batch")
+    })
+    @PostMapping("/{sessionId}/reads")
+    public ResponseEntity<List<ActionResponse>> readProperties(
+            @Parameter(description = "Session ID", required = true) @PathVariable String sessionId,
+            @Valid @RequestBody BatchReadRequest request) {
+        return ResponseEntity.ok(browserSessionManager.read(sessionId, request));
+    }
+
+    @Operation(summary = "Close session", description = "Closes a session and returns its browser to the pool")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Session closed"),
+            @ApiResponse(responseCode = "404", description = "Session not found")
+    })
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<Void> closeSession(
+            @Parameter(description = "Session ID", required = true) @PathVariable String sessionId) {
+        browserSessionManager.close(sessionId);
+        return ResponseEntity.noContent().build();
+    }
+}
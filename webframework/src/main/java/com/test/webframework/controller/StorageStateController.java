@@ -0,0 +1,45 @@
+package com.test.webframework.controller;
+
+import com.test.webframework.auth.StorageStateCache;
+import com.test.webframework.dto.StorageStateDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/storage-states")
+@RequiredArgsConstructor
+@Tag(name = "Storage States", description = "Cached authenticated storage states of login scenarios")
+public class StorageStateController {
+
+    private final StorageStateCache storageStateCache;
+
+    @Operation(summary = "List storage states", description = "Returns the cached storage states per user and environment, without their content")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Storage states returned successfully")
+    })
+    @GetMapping
+    public ResponseEntity<List<StorageStateDto>> listStorageStates() {
+        return ResponseEntity.ok(storageStateCache.list());
+    }
+
+    @Operation(summary = "Invalidate storage state", description = "Drops the cached storage state of a user on an environment so the next run logs in again")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Storage state invalidated"),
+            @ApiResponse(responseCode = "404", description = "No storage state cached")
+    })
+    @DeleteMapping
+    public ResponseEntity<Void> invalidateStorageState(
+            @Parameter(description = "Login user", required = true) @RequestParam String user,
+            @Parameter(description = "Environment", required = true) @RequestParam String environment) {
+        storageStateCache.invalidate(StorageStateCache.keyOf(user, environment));
+        return ResponseEntity.noContent().build();
+    }
+}
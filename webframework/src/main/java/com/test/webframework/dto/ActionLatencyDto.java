@@ -0,0 +1,17 @@
+package com.test.webframework.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ActionLatencyDto {
+    private String action;
+    private String result;
+    private long count;
+    private double meanMillis;
+    private double maxMillis;
+    private double p50Millis;
+    private double p95Millis;
+    private double p99Millis;
+}
@@ -14,4 +14,10 @@ public class ActionResponse {
     private String message;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
-}
\ No newline at end of file
+    // Measured with System.nanoTime, unaffected by wall clock changes
+    private long durationNanos;
+
+    public double getDurationMillis() {
+        return durationNanos / 1_000_000.0;
+    }
+}
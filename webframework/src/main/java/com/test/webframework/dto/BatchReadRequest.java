@@ -0,0 +1,40 @@
+package com.test.webframework.dto;
+
+import java.util.List;
+
+import com.test.webframework.enums.ReadPropertyEnum;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Element properties to read in one round-trip on the page of a browser session.
+ * Selectors are CSS selectors; elements are read as they are, without waiting.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchReadRequest {
+
+    @NotEmpty(message = "Reads are required")
+    @Size(max = 500, message = "At most 500 reads can be sent at once")
+    @Valid
+    private List<Read> reads;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Read {
+        private String selector;
+
+        @NotNull(message = "Property is required")
+        private ReadPropertyEnum property;
+
+        private String attributeName;
+    }
+}
@@ -0,0 +1,20 @@
+package com.test.webframework.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class BrowserPoolMetrics {
+    private int poolSize;
+    private int idleBrowsers;
+    private int activeLeases;
+    private int liveBrowsers;
+    private long totalLeases;
+    private long leaseTimeouts;
+    private double averageWaitMillis;
+    private double maxWaitMillis;
+    private long launches;
+    private long recycledBrowsers;
+    private long reclaimedBrowsers;
+}
@@ -0,0 +1,18 @@
+package com.test.webframework.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BrowserSessionDto {
+    private String sessionId;
+    private int browserId;
+    private long actionCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime lastUsedAt;
+}
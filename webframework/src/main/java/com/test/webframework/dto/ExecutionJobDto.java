@@ -0,0 +1,32 @@
+package com.test.webframework.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.test.webframework.enums.ExecutionStatusEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutionJobDto {
+    private String executionId;
+    private ExecutionStatusEnum status;
+    private int totalScenarios;
+    private int completedScenarios;
+    private int passedScenarios;
+    private int failedScenarios;
+    private long totalWaitMs;
+    // Requests aborted by routing; their savings are not included in bytesSaved and timeSavedMs
+    private long blockedRequests;
+    private long bytesSaved;
+    private long timeSavedMs;
+    private long writtenBackSteps;
+    private String writeBackError;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private List<ScenarioResult> results;
+}
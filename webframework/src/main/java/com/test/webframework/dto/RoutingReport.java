@@ -0,0 +1,25 @@
+package com.test.webframework.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Requests routed by a browser context. Bytes and time saved are only measured for cache
+ * hits and stale assets revalidated with a 304; time is the original download time, less
+ * the round trip for revalidations. Blocked and stubbed requests are counted but their
+ * savings are not measured, since those assets are never downloaded.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoutingReport {
+    private long requests;
+    private long blocked;
+    private long stubbed;
+    private long cacheHits;
+    private long cacheMisses;
+    private long cacheRevalidations;
+    private long bytesSaved;
+    private long timeSavedMs;
+}
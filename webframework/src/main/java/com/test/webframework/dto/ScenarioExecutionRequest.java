@@ -0,0 +1,108 @@
+package com.test.webframework.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Batch of stored test scenarios to run. When a company id is given the step
+ * results are written back to the backend with the caller's bearer token, and
+ * appended to the backend test run given by testRunId.
+ * Steps with an action verb run their typed action; other steps have their
+ * free-text action parsed. Sending updatedAt lets repeated runs reuse the
+ * compiled plan of a scenario. The platform id selects the request routing
+ * profile of the scenario's browser context. With a login, every scenario
+ * starts from the storage state captured after the login scenario, shared by
+ * all runs of the same user and environment until it expires or a step lands
+ * on a logged-out page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScenarioExecutionRequest {
+
+    private Long companyId;
+
+    private Long testRunId;
+
+    @NotEmpty(message = "Scenarios are required")
+    @Size(max = 500, message = "At most 500 scenarios can be run at once")
+    @Valid
+    private List<ScenarioItem> scenarios;
+
+    @Valid
+    private LoginSpec login;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScenarioItem {
+        @NotNull(message = "Test scenario ID is required")
+        private Long testScenarioId;
+
+        private String name;
+
+        private Long platformId;
+
+        private LocalDateTime updatedAt;
+
+        @NotEmpty(message = "Test steps are required")
+        @Valid
+        private List<StepItem> steps;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LoginSpec {
+        @NotBlank(message = "Login user is required")
+        private String user;
+
+        @NotBlank(message = "Login environment is required")
+        private String environment;
+
+        @NotNull(message = "Login scenario is required")
+        @Valid
+        private ScenarioItem scenario;
+
+        // Glob matched against the page URL after every step, e.g. */login*
+        private String loggedOutUrlPattern;
+
+        // Checked for visibility after a failed step
+        private String loggedOutSelector;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StepItem {
+        @NotNull(message = "Test step ID is required")
+        private Long testStepId;
+
+        @NotNull(message = "Step order is required")
+        private Integer stepOrder;
+
+        @NotBlank(message = "Action is required")
+        private String action;
+
+        private String expectedResult;
+
+        private String actionVerb;
+
+        private String actionSelector;
+
+        private String actionValue;
+
+        private Integer actionTimeoutMs;
+
+        private LocalDateTime updatedAt;
+    }
+}
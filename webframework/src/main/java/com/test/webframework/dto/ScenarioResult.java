@@ -0,0 +1,22 @@
+package com.test.webframework.dto;
+
+import java.util.List;
+
+import com.test.webframework.enums.StepStatusEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScenarioResult {
+    private Long testScenarioId;
+    private String name;
+    private StepStatusEnum status;
+    private long durationMs;
+    private long waitMs;
+    private RoutingReport routing;
+    private List<StepResult> steps;
+}
@@ -0,0 +1,45 @@
+package com.test.webframework.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Batch of actions to run in order on the page of a browser session.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionActionsRequest {
+
+    @NotEmpty(message = "Actions are required")
+    @Size(max = 200, message = "At most 200 actions can be sent at once")
+    @Valid
+    private List<SessionAction> actions;
+
+    private boolean stopOnFailure = true;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SessionAction {
+        @NotBlank(message = "Verb is required")
+        private String verb;
+
+        private String selector;
+
+        private String value;
+
+        @Min(value = 0, message = "Timeout must not be negative")
+        private Integer timeoutMs;
+
+        private String expectedResult;
+    }
+}
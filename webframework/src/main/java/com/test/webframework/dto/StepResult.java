@@ -0,0 +1,22 @@
+package com.test.webframework.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.test.webframework.enums.StepStatusEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StepResult {
+    private Long testStepId;
+    private StepStatusEnum status;
+    private String actualResult;
+    private Long durationMs;
+    private LocalDateTime executedAt;
+    private List<String> artifactIds;
+}
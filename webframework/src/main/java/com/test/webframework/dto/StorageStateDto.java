@@ -0,0 +1,16 @@
+package com.test.webframework.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorageStateDto {
+    private String key;
+    private LocalDateTime capturedAt;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,14 @@
+package com.test.webframework.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class WaitLatencyDto {
+    private String key;
+    private long samples;
+    private long p50Millis;
+    private long maxMillis;
+    private Integer timeoutMs;
+}
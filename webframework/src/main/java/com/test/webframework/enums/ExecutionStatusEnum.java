@@ -0,0 +1,7 @@
+package com.test.webframework.enums;
+
+public enum ExecutionStatusEnum {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
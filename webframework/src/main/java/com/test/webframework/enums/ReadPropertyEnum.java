@@ -0,0 +1,12 @@
+package com.test.webframework.enums;
+
+public enum ReadPropertyEnum {
+    TEXT,
+    VALUE,
+    ATTRIBUTE,
+    VISIBLE,
+    ENABLED,
+    CHECKED,
+    TITLE,
+    URL
+}
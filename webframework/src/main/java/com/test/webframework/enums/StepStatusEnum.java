@@ -0,0 +1,11 @@
+package com.test.webframework.enums;
+
+/**
+ * Execution status of a test step, named after the backend's TestStepStatus values.
+ */
+public enum StepStatusEnum {
+    PASSED,
+    FAILED,
+    BLOCKED,
+    SKIPPED
+}
@@ -0,0 +1,106 @@
+package com.test.webframework.execution;
+
+import com.microsoft.playwright.Page;
+import com.test.webframework.dto.ActionResponse;
+import com.test.webframework.enums.ReadPropertyEnum;
+import com.test.webframework.helper.ActionsHelper;
+
+/**
+ * Typed step actions, one per {@link ActionsHelper} operation.
+ * Names match the backend's StepActionVerb so stored steps map over directly.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+public enum ActionVerb {
+    NAVIGATE(false, true, false, (helper, page, step) -> helper.navigate(page, step.value())),
+    RELOAD(false, false, false, (helper, page, step) -> helper.reload(page)),
+    GO_BACK(false, false, false, (helper, page, step) -> helper.goBack(page)),
+    GO_FORWARD(false, false, false, (helper, page, step) -> helper.goForward(page)),
+    CLICK(true, false, false, (helper, page, step) -> helper.click(page, step.selector())),
+    DOUBLE_CLICK(true, false, false, (helper, page, step) -> helper.doubleClick(page, step.selector())),
+    RIGHT_CLICK(true, false, false, (helper, page, step) -> helper.rightClick(page, step.selector())),
+    TYPE(true, true, false, (helper, page, step) -> helper.type(page, step.selector(), step.value())),
+    FILL(true, true, false, (helper, page, step) -> helper.fill(page, step.selector(), step.value())),
+    CLEAR(true, false, false, (helper, page, step) -> helper.clear(page, step.selector())),
+    SELECT_BY_VALUE(true, true, false, (helper, page, step) -> helper.selectByValue(page, step.selector(), step.value())),
+    SELECT_BY_TEXT(true, true, false, (helper, page, step) -> helper.selectByText(page, step.selector(), step.value())),
+    CHECK(true, false, false, (helper, page, step) -> helper.check(page, step.selector())),
+    UNCHECK(true, false, false, (helper, page, step) -> helper.uncheck(page, step.selector())),
+    HOVER(true, false, false, (helper, page, step) -> helper.hover(page, step.selector())),
+    FOCUS(true, false, false, (helper, page, step) -> helper.focus(page, step.selector())),
+    SCROLL_INTO_VIEW(true, false, false, (helper, page, step) -> helper.scrollIntoView(page, step.selector())),
+    WAIT_FOR_SELECTOR(true, false, false, (helper, page, step) -> helper.waitForSelector(page, step.selector())),
+    WAIT_FOR_TIMEOUT(false, false, false, (helper, page, step) -> helper.waitForTimeout(page, step.timeoutMs())),
+    WAIT_FOR_NETWORK_IDLE(false, false, false, (helper, page, step) -> helper.waitForNetworkIdle(page)),
+    WAIT_FOR_DOM_QUIET(false, false, false, (helper, page, step) -> helper.waitForDomQuiet(page)),
+    GET_TEXT(true, false, true, (helper, page, step) -> helper.getText(page, step.selector())),
+    GET_VALUE(true, false, true, (helper, page, step) -> helper.getValue(page, step.selector())),
+    GET_ATTRIBUTE(true, true, true, (helper, page, step) -> helper.getAttribute(page, step.selector(), step.value())),
+    GET_PAGE_TITLE(false, false, true, (helper, page, step) -> helper.getPageTitle(page)),
+    GET_CURRENT_URL(false, false, true, (helper, page, step) -> helper.getCurrentUrl(page)),
+    IS_VISIBLE(true, false, true, (helper, page, step) -> helper.isVisible(page, step.selector())),
+    IS_ENABLED(true, false, true, (helper, page, step) -> helper.isEnabled(page, step.selector())),
+    IS_CHECKED(true, false, true, (helper, page, step) -> helper.isChecked(page, step.selector()));
+
+    private final boolean selectorRequired;
+    private final boolean valueRequired;
+    private final boolean read;
+    private final Invoker invoker;
+
+    ActionVerb(boolean selectorRequired, boolean valueRequired, boolean read, Invoker invoker) {
+        this.selectorRequired = selectorRequired;
+        this.valueRequired = valueRequired;
+        this.read = read;
+        this.invoker = invoker;
+    }
+
+    public boolean isSelectorRequired() {
+        return selectorRequired;
+    }
+
+    public boolean isValueRequired() {
+        return valueRequired;
+    }
+
+    /**
+     * Whether the action reads a value that can be compared with the expected result.
+     */
+    public boolean isRead() {
+        return read;
+    }
+
+    /**
+     * Whether the action only waits for the page, so its duration counts as wait time.
+     */
+    public boolean isWait() {
+        return this == WAIT_FOR_SELECTOR || this == WAIT_FOR_TIMEOUT
+                || this == WAIT_FOR_NETWORK_IDLE || this == WAIT_FOR_DOM_QUIET;
+    }
+
+    /**
+     * Property the action reads when it can run in a batch read, else null.
+     */
+    public ReadPropertyEnum readProperty() {
+        return switch (this) {
+            case GET_TEXT -> ReadPropertyEnum.TEXT;
+            case GET_VALUE -> ReadPropertyEnum.VALUE;
+            case GET_ATTRIBUTE -> ReadPropertyEnum.ATTRIBUTE;
+            case GET_PAGE_TITLE -> ReadPropertyEnum.TITLE;
+            case GET_CURRENT_URL -> ReadPropertyEnum.URL;
+            case IS_VISIBLE -> ReadPropertyEnum.VISIBLE;
+            case IS_ENABLED -> ReadPropertyEnum.ENABLED;
+            case IS_CHECKED -> ReadPropertyEnum.CHECKED;
+            default -> null;
+        };
+    }
+
+    ActionResponse invoke(ActionsHelper helper, Page page, CompiledStep step) {
+        return invoker.invoke(helper, page, step);
+    }
+
+    @FunctionalInterface
+    interface Invoker {
+        ActionResponse invoke(ActionsHelper helper, Page page, CompiledStep step);
+    }
+}
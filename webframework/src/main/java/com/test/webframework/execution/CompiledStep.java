@@ -0,0 +1,105 @@
+package com.test.webframework.execution;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.microsoft.playwright.Page;
+import com.test.webframework.dto.ActionResponse;
+import com.test.webframework.enums.ActionResultEnum;
+import com.test.webframework.helper.ActionsHelper;
+import com.test.webframework.helper.ElementRead;
+
+/**
+ * One validated step of a {@link ScenarioPlan}, ready to run without any parsing.
+ * A step that failed compilation keeps its error and fails when run.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+public record CompiledStep(Long testStepId, ActionVerb verb, String selector, String value, Integer timeoutMs,
+                           String expectedResult, String error) {
+
+    static CompiledStep invalid(Long testStepId, String error) {
+        return new CompiledStep(testStepId, null, null, null, null, null, error);
+    }
+
+    /**
+     * Runs the step on the page.
+     *
+     * @param helper The actions helper
+     * @param page The page instance
+     * @return ActionResponse with the step result
+     */
+    public ActionResponse execute(ActionsHelper helper, Page page) {
+        if (error != null) {
+            return failure(error);
+        }
+
+        ActionResponse response = timeoutMs != null && verb != ActionVerb.WAIT_FOR_TIMEOUT
+                ? helper.withTimeout(timeoutMs, () -> verb.invoke(helper, page, this))
+                : verb.invoke(helper, page, this);
+        return verify(response);
+    }
+
+    /**
+     * Reads a run of consecutive batchable read steps in one round-trip.
+     * A failed batched read is not final, as the batch does not wait for elements:
+     * callers run such steps again with {@link #execute}.
+     *
+     * @param helper The actions helper
+     * @param page The page instance
+     * @param steps Steps of the plan
+     * @param from Index of the first step of the run
+     * @return Verified responses of the run, empty when fewer than two steps can be batched
+     */
+    public static List<ActionResponse> readBatch(ActionsHelper helper, Page page, List<CompiledStep> steps, int from) {
+        int to = from;
+        while (to < steps.size() && steps.get(to).isBatchableRead()) {
+            to++;
+        }
+        if (to - from < 2) {
+            return List.of();
+        }
+        List<ElementRead> reads = new ArrayList<>(to - from);
+        for (CompiledStep step : steps.subList(from, to)) {
+            reads.add(new ElementRead(step.selector, step.verb.readProperty(), step.value));
+        }
+        List<ActionResponse> responses = helper.readAll(page, reads);
+        for (int i = 0; i < responses.size(); i++) {
+            steps.get(from + i).verify(responses.get(i));
+        }
+        return responses;
+    }
+
+    /**
+     * Steps with their own timeout wait on purpose, so only steps without one are batched.
+     */
+    private boolean isBatchableRead() {
+        return error == null && timeoutMs == null && verb.readProperty() != null;
+    }
+
+    /**
+     * Fails a successful read whose value does not contain the expected result.
+     */
+    private ActionResponse verify(ActionResponse response) {
+        if (verb.isRead() && response.getResult() == ActionResultEnum.SUCCESS
+                && expectedResult != null && !expectedResult.isBlank()) {
+            String actual = response.getMessage();
+            if (actual == null || !actual.contains(expectedResult)) {
+                response.setResult(ActionResultEnum.FAILURE);
+                response.setMessage("Expected '" + expectedResult + "' but was '" + actual + "'");
+            }
+        }
+        return response;
+    }
+
+    private static ActionResponse failure(String message) {
+        ActionResponse response = new ActionResponse();
+        response.setStartTime(LocalDateTime.now());
+        response.setResult(ActionResultEnum.FAILURE);
+        response.setMessage(message);
+        response.setEndTime(response.getStartTime());
+        return response;
+    }
+}
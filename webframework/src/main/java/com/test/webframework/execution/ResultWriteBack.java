@@ -0,0 +1,68 @@
+package com.test.webframework.execution;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import com.test.webframework.dto.StepResult;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes step results back to the backend through its bulk execution endpoint,
+ * one HTTP call per batch of results. With a test run id the backend also appends
+ * the results to that run's history.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResultWriteBack {
+
+    private static final String BULK_EXECUTION_PATH = "/api/v1/test-steps/execution/bulk";
+
+    private final RestClient.Builder restClientBuilder;
+
+    @Value("${execution.backend.base-url:http://localhost:8080}")
+    private String backendBaseUrl;
+
+    private RestClient restClient;
+
+    @PostConstruct
+    void init() {
+        restClient = restClientBuilder.baseUrl(backendBaseUrl).build();
+    }
+
+    /**
+     * Sends one batch of step results.
+     *
+     * @param companyId Company owning the test steps
+     * @param testRunId Backend test run to append the results to, may be null
+     * @param authorization Authorization header forwarded from the caller
+     * @param results Step results, at most the backend's bulk limit
+     */
+    public void write(Long companyId, Long testRunId, String authorization, List<StepResult> results) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("companyId", companyId);
+        body.put("testRunId", testRunId);
+        body.put("results", results);
+        restClient.put()
+                .uri(BULK_EXECUTION_PATH)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body)
+                .retrieve()
+                .toBodilessEntity();
+        log.debug("Wrote back {} step results for company {}", results.size(), companyId);
+    }
+}
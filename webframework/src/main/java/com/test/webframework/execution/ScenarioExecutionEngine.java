@@ -0,0 +1,442 @@
+package com.test.webframework.execution;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.test.webframework.artifacts.FailureArtifacts;
+import com.test.webframework.artifacts.FailureRecorder;
+import com.test.webframework.auth.StorageState;
+import com.test.webframework.auth.StorageStateCache;
+import com.test.webframework.dto.ActionResponse;
+import com.test.webframework.dto.ExecutionJobDto;
+import com.test.webframework.dto.RoutingReport;
+import com.test.webframework.dto.ScenarioExecutionRequest;
+import com.test.webframework.dto.ScenarioResult;
+import com.test.webframework.dto.StepResult;
+import com.test.webframework.enums.ActionResultEnum;
+import com.test.webframework.enums.ExecutionStatusEnum;
+import com.test.webframework.enums.StepStatusEnum;
+import com.test.webframework.exception.CustomException;
+import com.test.webframework.helper.ActionsHelper;
+import com.test.webframework.pool.BrowserLease;
+import com.test.webframework.pool.BrowserPool;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs batches of stored test scenarios in parallel.
+ * Each scenario is compiled (or taken from the plan cache) and runs on one worker
+ * with its own leased browser context, steps in order, stopping at the first
+ * failing step. The worker pool defaults to the smaller of the CPU count and the
+ * browser pool size, since a worker without a browser only waits. Step results
+ * are written back to the backend in batches by a single writer thread, so
+ * workers never block on HTTP. Batches with a login start every scenario from
+ * the cached storage state of the login scenario instead of logging in again.
+ * Failing steps get a screenshot, DOM snapshot and trace stored as artifacts.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScenarioExecutionEngine {
+
+    // Matches the size limit of the backend's actual result column validation
+    private static final int MAX_ACTUAL_RESULT_LENGTH = 5000;
+
+    private final BrowserPool browserPool;
+    private final ActionsHelper actionsHelper;
+    private final ScenarioPlanCompiler scenarioPlanCompiler;
+    private final ResultWriteBack resultWriteBack;
+    private final StorageStateCache storageStateCache;
+    private final FailureArtifacts failureArtifacts;
+
+    @Value("${execution.workers:0}")
+    private int workers;
+
+    @Value("${browser.pool.size:2}")
+    private int browserPoolSize;
+
+    @Value("${execution.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${execution.write-back.batch-size:200}")
+    private int writeBackBatchSize;
+
+    @Value("${execution.job-retention-minutes:60}")
+    private long jobRetentionMinutes;
+
+    private ThreadPoolExecutor executor;
+    private ExecutorService writer;
+    private final Map<String, ExecutionJob> jobs = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        int poolSize = workers > 0 ? workers : Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), browserPoolSize));
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "scenario-worker-" + threadCount.incrementAndGet()));
+        writer = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "scenario-result-writer"));
+        log.info("Scenario execution engine started with {} workers", poolSize);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        writer.shutdown();
+    }
+
+    /**
+     * Queues a batch of scenarios and returns immediately.
+     *
+     * @param request Scenarios to run
+     * @param authorization Authorization header used for the write-back, may be null
+     * @return ExecutionJobDto describing the started execution
+     * @throws CustomException with status 503 when the queue cannot take the batch
+     */
+    public ExecutionJobDto start(ScenarioExecutionRequest request, String authorization) {
+        evictExpiredJobs();
+
+        List<ScenarioExecutionRequest.ScenarioItem> scenarios = request.getScenarios();
+        if (executor.getQueue().remainingCapacity() < scenarios.size()) {
+            throw new CustomException("Execution queue is full", HttpStatus.SERVICE_UNAVAILABLE, "EXECUTION_QUEUE_FULL");
+        }
+
+        boolean writeBack = request.getCompanyId() != null && authorization != null;
+        ExecutionJob job = new ExecutionJob(scenarios.size(), writeBack ? request.getCompanyId() : null,
+                request.getTestRunId(), authorization, request.getLogin());
+        jobs.put(job.executionId, job);
+
+        for (ScenarioExecutionRequest.ScenarioItem scenario : scenarios) {
+            try {
+                executor.execute(() -> runScenario(job, scenario));
+            } catch (RejectedExecutionException e) {
+                scenarioFinished(job, blocked(scenario, "Execution queue is full"));
+            }
+        }
+        return job.toDto();
+    }
+
+    /**
+     * Gets the progress and results of an execution.
+     *
+     * @param executionId Execution id returned by {@link #start}
+     * @return ExecutionJobDto with the results so far
+     */
+    public ExecutionJobDto getJob(String executionId) {
+        ExecutionJob job = jobs.get(executionId);
+        if (job == null) {
+            throw new CustomException("Execution not found", HttpStatus.NOT_FOUND);
+        }
+        return job.toDto();
+    }
+
+    private void runScenario(ExecutionJob job, ScenarioExecutionRequest.ScenarioItem scenario) {
+        long start = System.nanoTime();
+        List<CompiledStep> steps = null;
+
+        ScenarioRun run;
+        try {
+            steps = scenarioPlanCompiler.compile(scenario).steps();
+            run = runLoggedIn(job, scenario, steps);
+        } catch (RuntimeException e) {
+            log.error("Scenario {} could not run: {}", scenario.getTestScenarioId(), e.getMessage());
+            if (steps == null) {
+                // The plan did not compile, so there are no compiled steps to block
+                scenarioFinished(job, blocked(scenario, truncate(e.getMessage())));
+                return;
+            }
+            run = new ScenarioRun(steps.size());
+            run.block(steps, e.getMessage());
+        }
+
+        boolean passed = run.stepResults.stream().allMatch(result -> result.getStatus() == StepStatusEnum.PASSED);
+        scenarioFinished(job, new ScenarioResult(scenario.getTestScenarioId(), scenario.getName(),
+                passed ? StepStatusEnum.PASSED : StepStatusEnum.FAILED, (System.nanoTime() - start) / 1_000_000,
+                run.waitNanos / 1_000_000, run.routing, run.stepResults));
+    }
+
+    /**
+     * Runs a scenario from the job's cached login state. When a step lands on a logged-out
+     * page the state is invalidated and the scenario runs once more after a fresh login.
+     */
+    private ScenarioRun runLoggedIn(ExecutionJob job, ScenarioExecutionRequest.ScenarioItem scenario, List<CompiledStep> steps) {
+        if (job.login == null) {
+            return runSteps(job, scenario, steps, null);
+        }
+        String key = StorageStateCache.keyOf(job.login.getUser(), job.login.getEnvironment());
+        for (int attempt = 1; ; attempt++) {
+            // A failed login is not retried by every later scenario of the same job
+            if (job.loginError != null) {
+                throw new CustomException(job.loginError, HttpStatus.UNPROCESSABLE_ENTITY, "LOGIN_FAILED");
+            }
+            StorageState state;
+            try {
+                state = storageStateCache.getOrCapture(key, () -> login(job.login));
+            } catch (RuntimeException e) {
+                job.loginError = e.getMessage();
+                throw e;
+            }
+            ScenarioRun run = runSteps(job, scenario, steps, state);
+            if (!run.loggedOut) {
+                return run;
+            }
+            storageStateCache.invalidate(key, state);
+            if (attempt == 2) {
+                return run;
+            }
+            log.info("Scenario {} hit a logged-out page, retrying after a fresh login", scenario.getTestScenarioId());
+        }
+    }
+
+    private ScenarioRun runSteps(ExecutionJob job, ScenarioExecutionRequest.ScenarioItem scenario, List<CompiledStep> steps,
+                                 StorageState state) {
+        ScenarioRun run = new ScenarioRun(steps.size());
+        try (BrowserLease lease = browserPool.lease(scenario.getPlatformId(), state != null ? state.json() : null);
+             FailureRecorder recorder = failureArtifacts.begin(lease.getContext())) {
+            Page page = lease.newPage();
+            StepSequence sequence = new StepSequence(actionsHelper, page, steps);
+            boolean failed = false;
+            for (int i = 0; i < steps.size(); i++) {
+                CompiledStep step = steps.get(i);
+                if (failed) {
+                    run.stepResults.add(new StepResult(step.testStepId(), StepStatusEnum.SKIPPED,
+                            "Skipped after a failed step", 0L, null, null));
+                    continue;
+                }
+                LocalDateTime executedAt = LocalDateTime.now();
+                ActionResponse response = sequence.run(i);
+                long durationMs = response.getDurationNanos() / 1_000_000;
+                if (step.verb() != null && step.verb().isWait()) {
+                    run.waitNanos += response.getDurationNanos();
+                }
+                boolean passed = response.getResult() == ActionResultEnum.SUCCESS;
+                String message = response.getMessage();
+                if (state != null && isLoggedOut(job, page, passed)) {
+                    run.loggedOut = true;
+                    passed = false;
+                    message = "Logged-out page detected: " + message;
+                }
+                List<String> artifactIds = null;
+                if (passed) {
+                    recorder.afterAction();
+                } else {
+                    artifactIds = recorder.capture(page);
+                }
+                run.stepResults.add(new StepResult(step.testStepId(), passed ? StepStatusEnum.PASSED : StepStatusEnum.FAILED,
+                        truncate(message), durationMs, executedAt, artifactIds));
+                failed = !passed;
+            }
+            run.routing = lease.getRoutingStats().toReport();
+        } catch (RuntimeException e) {
+            log.error("Scenario {} could not run: {}", scenario.getTestScenarioId(), e.getMessage());
+            run.block(steps, e.getMessage());
+        }
+        return run;
+    }
+
+    /**
+     * Runs the login scenario in a clean context and captures the resulting storage state.
+     */
+    private StorageState login(ScenarioExecutionRequest.LoginSpec login) {
+        List<CompiledStep> steps = scenarioPlanCompiler.compile(login.getScenario()).steps();
+        try (BrowserLease lease = browserPool.lease(login.getScenario().getPlatformId())) {
+            Page page = lease.newPage();
+            for (CompiledStep step : steps) {
+                ActionResponse response = step.execute(actionsHelper, page);
+                if (response.getResult() != ActionResultEnum.SUCCESS) {
+                    throw new CustomException("Login scenario failed at step " + step.testStepId() + ": " + response.getMessage(),
+                            HttpStatus.UNPROCESSABLE_ENTITY, "LOGIN_FAILED");
+                }
+            }
+            return new StorageState(lease.getContext().storageState(), LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Checks the page URL after every step, and the logged-out selector only after a failed one.
+     */
+    private static boolean isLoggedOut(ExecutionJob job, Page page, boolean passed) {
+        if (job.loggedOutUrl != null && job.loggedOutUrl.matcher(page.url()).matches()) {
+            return true;
+        }
+        String selector = job.login.getLoggedOutSelector();
+        if (passed || selector == null || selector.isBlank()) {
+            return false;
+        }
+        try {
+            return page.locator(selector).first().isVisible();
+        } catch (PlaywrightException e) {
+            return false;
+        }
+    }
+
+    private void scenarioFinished(ExecutionJob job, ScenarioResult result) {
+        job.results.add(result);
+        job.waitMs.addAndGet(result.getWaitMs());
+        if (result.getRouting() != null) {
+            job.blockedRequests.addAndGet(result.getRouting().getBlocked());
+            job.bytesSaved.addAndGet(result.getRouting().getBytesSaved());
+            job.timeSavedMs.addAndGet(result.getRouting().getTimeSavedMs());
+        }
+        if (result.getStatus() == StepStatusEnum.PASSED) {
+            job.passed.incrementAndGet();
+        }
+        if (job.companyId != null) {
+            job.pending.addAll(result.getSteps());
+            if (job.pendingCount.addAndGet(result.getSteps().size()) >= writeBackBatchSize) {
+                writer.execute(() -> flush(job, false));
+            }
+        }
+
+        if (job.completed.incrementAndGet() == job.totalScenarios) {
+            writer.execute(() -> {
+                flush(job, true);
+                job.finish();
+            });
+        }
+    }
+
+    /**
+     * Sends pending results in full batches, and the remainder too when final.
+     * Only ever runs on the writer thread.
+     */
+    private void flush(ExecutionJob job, boolean last) {
+        if (job.companyId == null) {
+            return;
+        }
+        while (job.pendingCount.get() >= writeBackBatchSize || (last && job.pendingCount.get() > 0)) {
+            List<StepResult> batch = new ArrayList<>(writeBackBatchSize);
+            StepResult result;
+            while (batch.size() < writeBackBatchSize && (result = job.pending.poll()) != null) {
+                batch.add(result);
+            }
+            job.pendingCount.addAndGet(-batch.size());
+            try {
+                resultWriteBack.write(job.companyId, job.testRunId, job.authorization, batch);
+                job.writtenBack += batch.size();
+            } catch (RuntimeException e) {
+                log.error("Write-back of {} results for execution {} failed: {}", batch.size(), job.executionId, e.getMessage());
+                job.writeBackError = e.getMessage();
+            }
+        }
+    }
+
+    private ScenarioResult blocked(ScenarioExecutionRequest.ScenarioItem scenario, String reason) {
+        List<StepResult> stepResults = scenario.getSteps().stream()
+                .map(step -> new StepResult(step.getTestStepId(), StepStatusEnum.BLOCKED, reason, 0L, null, null))
+                .toList();
+        return new ScenarioResult(scenario.getTestScenarioId(), scenario.getName(), StepStatusEnum.FAILED, 0, 0, null, stepResults);
+    }
+
+    private void evictExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(jobRetentionMinutes);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > MAX_ACTUAL_RESULT_LENGTH
+                ? message.substring(0, MAX_ACTUAL_RESULT_LENGTH) : message;
+    }
+
+    /**
+     * Results of one run of a scenario's steps.
+     */
+    private static final class ScenarioRun {
+
+        private final List<StepResult> stepResults;
+        private long waitNanos;
+        private RoutingReport routing;
+        private boolean loggedOut;
+
+        private ScenarioRun(int stepCount) {
+            this.stepResults = new ArrayList<>(stepCount);
+        }
+
+        private void block(List<CompiledStep> steps, String reason) {
+            for (int i = stepResults.size(); i < steps.size(); i++) {
+                stepResults.add(new StepResult(steps.get(i).testStepId(), StepStatusEnum.BLOCKED,
+                        truncate(reason), 0L, null, null));
+            }
+        }
+    }
+
+    /**
+     * Progress of one execution, written by the workers and the writer thread and read by status requests.
+     */
+    private static final class ExecutionJob {
+
+        private final String executionId = UUID.randomUUID().toString();
+        private final int totalScenarios;
+        private final Long companyId;
+        private final Long testRunId;
+        private final String authorization;
+        private final ScenarioExecutionRequest.LoginSpec login;
+        private final Pattern loggedOutUrl;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final Queue<ScenarioResult> results = new ConcurrentLinkedQueue<>();
+        private final Queue<StepResult> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger passed = new AtomicInteger();
+        private final AtomicLong waitMs = new AtomicLong();
+        private final AtomicLong blockedRequests = new AtomicLong();
+        private final AtomicLong bytesSaved = new AtomicLong();
+        private final AtomicLong timeSavedMs = new AtomicLong();
+        private volatile long writtenBack;
+        private volatile String writeBackError;
+        private volatile String loginError;
+        private volatile ExecutionStatusEnum status = ExecutionStatusEnum.RUNNING;
+        private volatile LocalDateTime finishedAt;
+
+        private ExecutionJob(int totalScenarios, Long companyId, Long testRunId, String authorization,
+                             ScenarioExecutionRequest.LoginSpec login) {
+            this.totalScenarios = totalScenarios;
+            this.companyId = companyId;
+            this.testRunId = testRunId;
+            this.authorization = authorization;
+            this.login = login;
+            String pattern = login != null ? login.getLoggedOutUrlPattern() : null;
+            this.loggedOutUrl = pattern != null && !pattern.isBlank()
+                    ? Pattern.compile(Pattern.quote(pattern.trim()).replace("*", "\\E.*\\Q")) : null;
+        }
+
+        private void finish() {
+            finishedAt = LocalDateTime.now();
+            status = writeBackError == null ? ExecutionStatusEnum.COMPLETED : ExecutionStatusEnum.FAILED;
+        }
+
+        private ExecutionJobDto toDto() {
+            int done = completed.get();
+            int passedCount = passed.get();
+            return new ExecutionJobDto(executionId, status, totalScenarios, done, passedCount, done - passedCount,
+                    waitMs.get(), blockedRequests.get(), bytesSaved.get(), timeSavedMs.get(), writtenBack, writeBackError, startedAt, finishedAt, new ArrayList<>(results));
+        }
+    }
+}
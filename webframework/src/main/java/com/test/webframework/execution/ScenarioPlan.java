@@ -0,0 +1,21 @@
+package com.test.webframework.execution;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Immutable compiled form of a test scenario, shared by every run of the same scenario version.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+public record ScenarioPlan(Long testScenarioId, LocalDateTime version, int stepCount, List<CompiledStep> steps) {
+
+    public ScenarioPlan {
+        steps = List.copyOf(steps);
+    }
+
+    boolean matches(LocalDateTime otherVersion, int otherStepCount) {
+        return version != null && version.equals(otherVersion) && stepCount == otherStepCount;
+    }
+}
@@ -0,0 +1,149 @@
+package com.test.webframework.execution;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.test.webframework.dto.ScenarioExecutionRequest;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compiles test scenarios into immutable {@link ScenarioPlan}s and caches them by scenario id.
+ * A cached plan is reused while the scenario's version is unchanged, where the version is
+ * the latest updatedAt of the scenario and its steps together with the step count (a deleted
+ * step changes no remaining timestamp). Scenarios sent without timestamps are compiled on
+ * every run.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScenarioPlanCompiler {
+
+    private final StepActionMapper stepActionMapper;
+
+    @Value("${execution.plan-cache.max-size:10000}")
+    private long maxSize;
+
+    private Cache<Long, ScenarioPlan> plans;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder compilations = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        plans = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Gets the compiled plan of a scenario, compiling it only when its version changed.
+     *
+     * @param scenario Scenario to compile
+     * @return ScenarioPlan with its steps in step order
+     */
+    public ScenarioPlan compile(ScenarioExecutionRequest.ScenarioItem scenario) {
+        LocalDateTime version = versionOf(scenario);
+        int stepCount = scenario.getSteps().size();
+        if (version != null) {
+            ScenarioPlan cached = plans.getIfPresent(scenario.getTestScenarioId());
+            if (cached != null && cached.matches(version, stepCount)) {
+                hits.increment();
+                return cached;
+            }
+        }
+
+        List<ScenarioExecutionRequest.StepItem> steps = new ArrayList<>(scenario.getSteps());
+        steps.sort(Comparator.comparing(ScenarioExecutionRequest.StepItem::getStepOrder));
+        List<CompiledStep> compiledSteps = new ArrayList<>(steps.size());
+        for (ScenarioExecutionRequest.StepItem step : steps) {
+            compiledSteps.add(step.getActionVerb() != null ? compileTyped(step) : stepActionMapper.parse(step));
+        }
+
+        ScenarioPlan plan = new ScenarioPlan(scenario.getTestScenarioId(), version, stepCount, compiledSteps);
+        compilations.increment();
+        if (version != null) {
+            plans.put(scenario.getTestScenarioId(), plan);
+        }
+        log.debug("Compiled plan for scenario {} ({} steps)", scenario.getTestScenarioId(), stepCount);
+        return plan;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getCompilations() {
+        return compilations.sum();
+    }
+
+    private static CompiledStep compileTyped(ScenarioExecutionRequest.StepItem step) {
+        return compileAction(step.getTestStepId(), step.getActionVerb(), step.getActionSelector(), step.getActionValue(),
+                step.getActionTimeoutMs(), step.getExpectedResult());
+    }
+
+    /**
+     * Compiles one typed action given by the name of its verb.
+     *
+     * @return CompiledStep, invalid when the verb is unknown or misses an argument
+     */
+    public static CompiledStep compileAction(Long testStepId, String verbName, String selector, String value,
+                                             Integer timeoutMs, String expectedResult) {
+        ActionVerb verb;
+        try {
+            verb = ActionVerb.valueOf(verbName);
+        } catch (IllegalArgumentException e) {
+            return CompiledStep.invalid(testStepId, "Unsupported action verb: " + verbName);
+        }
+        return compileStep(testStepId, verb, selector, value, timeoutMs, expectedResult);
+    }
+
+    /**
+     * Validates the arguments of a step against its verb.
+     */
+    static CompiledStep compileStep(Long testStepId, ActionVerb verb, String selector, String value,
+                                    Integer timeoutMs, String expectedResult) {
+        if (verb.isSelectorRequired() && (selector == null || selector.isBlank())) {
+            return CompiledStep.invalid(testStepId, "Action " + verb + " requires a selector");
+        }
+        if (verb.isValueRequired() && value == null) {
+            return CompiledStep.invalid(testStepId, "Action " + verb + " requires a value");
+        }
+        if (verb == ActionVerb.WAIT_FOR_TIMEOUT && timeoutMs == null) {
+            return CompiledStep.invalid(testStepId, "Action " + verb + " requires a timeout");
+        }
+        if (timeoutMs != null && timeoutMs < 0) {
+            return CompiledStep.invalid(testStepId, "Action timeout must not be negative");
+        }
+        String expected = expectedResult != null && !expectedResult.isBlank() ? expectedResult.trim() : null;
+        return new CompiledStep(testStepId, verb, selector, value, timeoutMs, expected, null);
+    }
+
+    private static LocalDateTime versionOf(ScenarioExecutionRequest.ScenarioItem scenario) {
+        LocalDateTime version = scenario.getUpdatedAt();
+        if (version == null) {
+            return null;
+        }
+        for (ScenarioExecutionRequest.StepItem step : scenario.getSteps()) {
+            if (step.getUpdatedAt() == null) {
+                return null;
+            }
+            if (step.getUpdatedAt().isAfter(version)) {
+                version = step.getUpdatedAt();
+            }
+        }
+        return version;
+    }
+}
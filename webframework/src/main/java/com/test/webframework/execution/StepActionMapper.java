@@ -0,0 +1,130 @@
+package com.test.webframework.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.test.webframework.dto.ScenarioExecutionRequest;
+
+/**
+ * Maps the free-text action of a stored test step onto an {@link ActionVerb}, for steps
+ * that have no typed action yet. An action is a verb followed by its arguments, separated
+ * by whitespace; arguments containing spaces are wrapped in single or double quotes,
+ * for example {@code fill "#email" "user@example.com"}.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+@Component
+public class StepActionMapper {
+
+    private static final Map<String, ActionVerb> VERBS = Map.ofEntries(
+            Map.entry("navigate", ActionVerb.NAVIGATE),
+            Map.entry("goto", ActionVerb.NAVIGATE),
+            Map.entry("open", ActionVerb.NAVIGATE),
+            Map.entry("reload", ActionVerb.RELOAD),
+            Map.entry("back", ActionVerb.GO_BACK),
+            Map.entry("forward", ActionVerb.GO_FORWARD),
+            Map.entry("click", ActionVerb.CLICK),
+            Map.entry("doubleclick", ActionVerb.DOUBLE_CLICK),
+            Map.entry("rightclick", ActionVerb.RIGHT_CLICK),
+            Map.entry("type", ActionVerb.TYPE),
+            Map.entry("fill", ActionVerb.FILL),
+            Map.entry("clear", ActionVerb.CLEAR),
+            Map.entry("select", ActionVerb.SELECT_BY_VALUE),
+            Map.entry("selecttext", ActionVerb.SELECT_BY_TEXT),
+            Map.entry("check", ActionVerb.CHECK),
+            Map.entry("uncheck", ActionVerb.UNCHECK),
+            Map.entry("hover", ActionVerb.HOVER),
+            Map.entry("focus", ActionVerb.FOCUS),
+            Map.entry("scroll", ActionVerb.SCROLL_INTO_VIEW),
+            Map.entry("waitfor", ActionVerb.WAIT_FOR_SELECTOR),
+            Map.entry("wait", ActionVerb.WAIT_FOR_TIMEOUT),
+            Map.entry("waitidle", ActionVerb.WAIT_FOR_NETWORK_IDLE),
+            Map.entry("waitquiet", ActionVerb.WAIT_FOR_DOM_QUIET),
+            Map.entry("gettext", ActionVerb.GET_TEXT),
+            Map.entry("getvalue", ActionVerb.GET_VALUE),
+            Map.entry("getattribute", ActionVerb.GET_ATTRIBUTE),
+            Map.entry("gettitle", ActionVerb.GET_PAGE_TITLE),
+            Map.entry("geturl", ActionVerb.GET_CURRENT_URL),
+            Map.entry("isvisible", ActionVerb.IS_VISIBLE),
+            Map.entry("isenabled", ActionVerb.IS_ENABLED),
+            Map.entry("ischecked", ActionVerb.IS_CHECKED));
+
+    /**
+     * Parses the free-text action of a step.
+     *
+     * @param step Step with a free-text action
+     * @return CompiledStep, invalid when the action cannot be parsed
+     */
+    public CompiledStep parse(ScenarioExecutionRequest.StepItem step) {
+        List<String> tokens = tokenize(step.getAction());
+        if (tokens.isEmpty()) {
+            return CompiledStep.invalid(step.getTestStepId(), "Step action is empty");
+        }
+        ActionVerb verb = VERBS.get(tokens.get(0).toLowerCase(Locale.ROOT));
+        if (verb == null) {
+            return CompiledStep.invalid(step.getTestStepId(), "Unsupported action: " + tokens.get(0));
+        }
+
+        int index = 1;
+        String selector = null;
+        String value = null;
+        Integer timeoutMs = null;
+        if (verb.isSelectorRequired()) {
+            selector = index < tokens.size() ? tokens.get(index++) : null;
+        }
+        if (verb.isValueRequired()) {
+            value = index < tokens.size() ? tokens.get(index++) : null;
+        }
+        if (verb == ActionVerb.WAIT_FOR_TIMEOUT) {
+            try {
+                timeoutMs = index < tokens.size() ? Integer.valueOf(tokens.get(index)) : null;
+            } catch (NumberFormatException e) {
+                return CompiledStep.invalid(step.getTestStepId(), "Action '" + tokens.get(0) + "' expects a number");
+            }
+        }
+        return ScenarioPlanCompiler.compileStep(step.getTestStepId(), verb, selector, value, timeoutMs, step.getExpectedResult());
+    }
+
+    /**
+     * Splits an action on whitespace, keeping quoted arguments together.
+     */
+    static List<String> tokenize(String action) {
+        List<String> tokens = new ArrayList<>();
+        if (action == null) {
+            return tokens;
+        }
+        StringBuilder current = new StringBuilder();
+        char quote = 0;
+        boolean inToken = false;
+        for (char c : action.trim().toCharArray()) {
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+                inToken = true;
+            } else if (Character.isWhitespace(c)) {
+                if (inToken) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                    inToken = false;
+                }
+            } else {
+                current.append(c);
+                inToken = true;
+            }
+        }
+        if (inToken) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,51 @@
+package com.test.webframework.execution;
+
+import java.util.List;
+
+import com.microsoft.playwright.Page;
+import com.test.webframework.dto.ActionResponse;
+import com.test.webframework.enums.ActionResultEnum;
+import com.test.webframework.helper.ActionsHelper;
+
+/**
+ * Runs compiled steps on a page in order, reading each run of consecutive read steps
+ * in one round-trip. A read that fails in the batch runs again on its own, so steps
+ * that need to wait for their element keep their usual semantics.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+public final class StepSequence {
+
+    private final ActionsHelper helper;
+    private final Page page;
+    private final List<CompiledStep> steps;
+    private List<ActionResponse> batch = List.of();
+    private int batchStart;
+
+    public StepSequence(ActionsHelper helper, Page page, List<CompiledStep> steps) {
+        this.helper = helper;
+        this.page = page;
+        this.steps = steps;
+    }
+
+    /**
+     * Runs one step. Steps are expected to be run in increasing index order.
+     *
+     * @param index Index of the step
+     * @return ActionResponse of the step
+     */
+    public ActionResponse run(int index) {
+        if (index < batchStart || index >= batchStart + batch.size()) {
+            batch = CompiledStep.readBatch(helper, page, steps, index);
+            batchStart = index;
+        }
+        if (index - batchStart < batch.size()) {
+            ActionResponse response = batch.get(index - batchStart);
+            if (response.getResult() == ActionResultEnum.SUCCESS) {
+                return response;
+            }
+        }
+        return steps.get(index).execute(helper, page);
+    }
+}
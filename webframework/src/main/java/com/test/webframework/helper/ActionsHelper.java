@@ -1,6 +1,10 @@
 package com.test.webframework.helper;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
@@ -14,6 +18,9 @@ import com.microsoft.playwright.options.SelectOption;
 import com.microsoft.playwright.options.WaitForSelectorState;
 import com.test.webframework.dto.ActionResponse;
 import com.test.webframework.enums.ActionResultEnum;
+import com.test.webframework.enums.ReadPropertyEnum;
+import com.test.webframework.metrics.ActionMetrics;
+import com.test.webframework.waits.AdaptiveWaits;
 
 /**
  * Enterprise-level Playwright actions helper for web automation.
@@ -32,17 +39,118 @@ public class ActionsHelper {
     private static final int DEFAULT_TIMEOUT = 30000; // 30 seconds
     private static final int DEFAULT_WAIT_TIMEOUT = 5000; // 5 seconds
 
+    // Playwright objects are confined to one thread, so the overrides are per thread
+    private static final ThreadLocal<Integer> TIMEOUT_OVERRIDE = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> ADAPTIVE_TIMEOUT = new ThreadLocal<>();
+
+    // Resolves once the DOM has seen no mutation for quietMs, or after maxMs regardless
+    private static final String DOM_QUIET_SCRIPT = """
+        ({ quietMs, maxMs }) => new Promise(resolve => {
+            let timer;
+            const observer = new MutationObserver(() => { clearTimeout(timer); timer = setTimeout(done, quietMs); });
+            const deadline = setTimeout(done, maxMs);
+            function done() { observer.disconnect(); clearTimeout(timer); clearTimeout(deadline); resolve(true); }
+            observer.observe(document, { subtree: true, childList: true, attributes: true, characterData: true });
+            timer = setTimeout(done, quietMs);
+        })
+        """;
+
+    // Reads every requested property in one round-trip; CSS selectors only, elements are not waited for
+    private static final String READ_ALL_SCRIPT = """
+        reads => reads.map(({ selector, property, attributeName }) => {
+            if (property === 'TITLE') return { found: true, value: document.title };
+            if (property === 'URL') return { found: true, value: location.href };
+            let el;
+            try { el = document.querySelector(selector); } catch (e) { return { found: false, error: 'Not a CSS selector' }; }
+            if (!el) return { found: false };
+            switch (property) {
+                case 'TEXT': return { found: true, value: el.textContent };
+                case 'VALUE':
+                    if (!['INPUT', 'TEXTAREA', 'SELECT'].includes(el.tagName)) return { found: true, error: 'Not an input element' };
+                    return { found: true, value: el.value };
+                case 'ATTRIBUTE': return { found: true, value: el.getAttribute(attributeName) };
+                case 'VISIBLE': {
+                    const rect = el.getBoundingClientRect();
+                    return { found: true, value: String(rect.width > 0 && rect.height > 0 && getComputedStyle(el).visibility !== 'hidden') };
+                }
+                case 'ENABLED': return { found: true, value: String(el.disabled !== true && el.getAttribute('aria-disabled') !== 'true') };
+                case 'CHECKED':
+                    if (el.type === 'checkbox' || el.type === 'radio') return { found: true, value: String(el.checked) };
+                    if (el.hasAttribute('aria-checked')) return { found: true, value: String(el.getAttribute('aria-checked') === 'true') };
+                    return { found: true, error: 'Not a checkbox or radio button' };
+            }
+            return { found: true, error: 'Unsupported property' };
+        })
+        """;
+
+    private final ActionMetrics actionMetrics;
+    private final AdaptiveWaits adaptiveWaits;
+    private final LocatorCache locatorCache = new LocatorCache();
+
+    public ActionsHelper(ActionMetrics actionMetrics, AdaptiveWaits adaptiveWaits) {
+        this.actionMetrics = actionMetrics;
+        this.adaptiveWaits = adaptiveWaits;
+    }
+
+    /**
+     * Runs actions with the given timeout in place of the default timeouts.
+     * Applies only to actions called on the current thread within the supplier.
+     * 
+     * @param timeoutMs Timeout in milliseconds
+     * @param actions The actions to run
+     * @return ActionResponse returned by the actions
+     */
+    public ActionResponse withTimeout(int timeoutMs, Supplier<ActionResponse> actions) {
+        Integer previous = TIMEOUT_OVERRIDE.get();
+        TIMEOUT_OVERRIDE.set(timeoutMs);
+        try {
+            return actions.get();
+        } finally {
+            if (previous == null) {
+                TIMEOUT_OVERRIDE.remove();
+            } else {
+                TIMEOUT_OVERRIDE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Timeout of the running action: an explicit override, else the learned timeout, else the default.
+     */
+    private static int actionTimeout() {
+        return resolveTimeout(DEFAULT_TIMEOUT);
+    }
+
+    private static int waitTimeout() {
+        return resolveTimeout(DEFAULT_WAIT_TIMEOUT);
+    }
+
+    private static int resolveTimeout(int defaultTimeout) {
+        Integer override = TIMEOUT_OVERRIDE.get();
+        if (override != null) {
+            return override;
+        }
+        Integer adaptive = ADAPTIVE_TIMEOUT.get();
+        return adaptive != null ? adaptive : defaultTimeout;
+    }
+
     /**
      * Executes actions safely with comprehensive error handling and logging.
      * 
+     * @param actionType Action type the duration is recorded under
+     * @param page The page instance
+     * @param target Selector or URL the action works on, may be null
      * @param action The action to execute
      * @param actionName Name of the action for logging purposes
      * @param errorMessage Custom error message prefix
      * @return ActionResponse with execution details
      */
-    private ActionResponse performAction(Runnable action, String actionName, String errorMessage) {
+    private ActionResponse performAction(String actionType, Page page, String target, Runnable action, String actionName, String errorMessage) {
         ActionResponse response = new ActionResponse();
         response.setStartTime(LocalDateTime.now());
+        long startNanos = System.nanoTime();
+        String waitKey = begin(actionType, page, target);
+        boolean timedOut = false;
         
         logger.debug("Executing action: {}", actionName);
         
@@ -52,6 +160,7 @@ public class ActionsHelper {
             response.setMessage("Action completed successfully: " + actionName);
             logger.debug("Action completed successfully: {}", actionName);
         } catch (PlaywrightException e) {
+            timedOut = e instanceof TimeoutError;
             response.setResult(ActionResultEnum.FAILURE);
             response.setMessage(errorMessage + ": " + e.getMessage());
             logger.error("Playwright error in action '{}': {}", actionName, e.getMessage(), e);
@@ -60,10 +169,8 @@ public class ActionsHelper {
             response.setMessage(errorMessage + ": Unexpected error - " + e.getMessage());
             logger.error("Unexpected error in action '{}': {}", actionName, e.getMessage(), e);
         } finally {
-            response.setEndTime(LocalDateTime.now());
-            logger.debug("Action '{}' completed in {} ms", 
-                actionName, 
-                response.getEndTime().getNano() - response.getStartTime().getNano());
+            complete(actionType, waitKey, response, startNanos, timedOut);
+            logger.debug("Action '{}' completed in {} ms", actionName, response.getDurationMillis());
         }
         
         return response;
@@ -73,14 +180,20 @@ public class ActionsHelper {
      * Executes actions that return values with comprehensive error handling.
      * 
      * @param <T> Return type
+     * @param actionType Action type the duration is recorded under
+     * @param page The page instance
+     * @param target Selector or URL the action works on, may be null
      * @param supplier The supplier function to execute
      * @param actionName Name of the action for logging
      * @param errorMessage Custom error message prefix
      * @return ActionResponse with execution details and result
      */
-    private <T> ActionResponse performActionWithResult(Supplier<T> supplier, String actionName, String errorMessage) {
+    private <T> ActionResponse performActionWithResult(String actionType, Page page, String target, Supplier<T> supplier, String actionName, String errorMessage) {
         ActionResponse response = new ActionResponse();
         response.setStartTime(LocalDateTime.now());
+        long startNanos = System.nanoTime();
+        String waitKey = begin(actionType, page, target);
+        boolean timedOut = false;
         
         logger.debug("Executing action with result: {}", actionName);
         
@@ -90,6 +203,7 @@ public class ActionsHelper {
             response.setMessage(result != null ? result.toString() : "null");
             logger.debug("Action with result completed successfully: {} -> {}", actionName, result);
         } catch (PlaywrightException e) {
+            timedOut = e instanceof TimeoutError;
             response.setResult(ActionResultEnum.FAILURE);
             response.setMessage(errorMessage + ": " + e.getMessage());
             logger.error("Playwright error in action '{}': {}", actionName, e.getMessage(), e);
@@ -98,12 +212,41 @@ public class ActionsHelper {
             response.setMessage(errorMessage + ": Unexpected error - " + e.getMessage());
             logger.error("Unexpected error in action '{}': {}", actionName, e.getMessage(), e);
         } finally {
-            response.setEndTime(LocalDateTime.now());
+            complete(actionType, waitKey, response, startNanos, timedOut);
         }
         
         return response;
     }
 
+    /**
+     * Resolves the learned timeout of an action for the current thread.
+     * 
+     * @return Key the action's readiness latency is learned under
+     */
+    private String begin(String actionType, Page page, String target) {
+        String waitKey = adaptiveWaits.keyOf(actionType, page, target);
+        ADAPTIVE_TIMEOUT.set(adaptiveWaits.timeoutFor(waitKey));
+        return waitKey;
+    }
+
+    /**
+     * Stamps the end time and monotonic duration of an action and records it.
+     * Successful actions feed the learned timeouts; a timed-out action backs its key's
+     * timeout off, so a learned timeout can grow again when the page gets slower.
+     * Other failures say nothing about readiness and are not recorded.
+     */
+    private void complete(String actionType, String waitKey, ActionResponse response, long startNanos, boolean timedOut) {
+        ADAPTIVE_TIMEOUT.remove();
+        response.setDurationNanos(System.nanoTime() - startNanos);
+        response.setEndTime(LocalDateTime.now());
+        actionMetrics.record(actionType, response.getResult(), response.getDurationNanos());
+        if (response.getResult() == ActionResultEnum.SUCCESS) {
+            adaptiveWaits.record(waitKey, response.getDurationNanos());
+        } else if (timedOut) {
+            adaptiveWaits.recordTimeout(waitKey, response.getDurationNanos());
+        }
+    }
+
     // ----------------------
     // Navigation Actions
     // ----------------------
@@ -117,7 +260,9 @@ public class ActionsHelper {
      */
     public ActionResponse navigate(Page page, String url) {
         return performAction(
-            () -> page.navigate(url, new Page.NavigateOptions().setTimeout(DEFAULT_TIMEOUT)), 
+            "navigate", 
+            page, url, 
+            () -> page.navigate(url, new Page.NavigateOptions().setTimeout(actionTimeout())), 
             "Navigate to " + url, 
             "Navigation failed"
         );
@@ -131,7 +276,9 @@ public class ActionsHelper {
      */
     public ActionResponse reload(Page page) {
         return performAction(
-            () -> page.reload(new Page.ReloadOptions().setTimeout(DEFAULT_TIMEOUT)), 
+            "reload", 
+            page, null, 
+            () -> page.reload(new Page.ReloadOptions().setTimeout(actionTimeout())), 
             "Reload page", 
             "Page reload failed"
         );
@@ -145,7 +292,9 @@ public class ActionsHelper {
      */
     public ActionResponse goBack(Page page) {
         return performAction(
-            () -> page.goBack(new Page.GoBackOptions().setTimeout(DEFAULT_TIMEOUT)), 
+            "goBack", 
+            page, null, 
+            () -> page.goBack(new Page.GoBackOptions().setTimeout(actionTimeout())), 
             "Go back", 
             "Go back navigation failed"
         );
@@ -159,7 +308,9 @@ public class ActionsHelper {
      */
     public ActionResponse goForward(Page page) {
         return performAction(
-            () -> page.goForward(new Page.GoForwardOptions().setTimeout(DEFAULT_TIMEOUT)), 
+            "goForward", 
+            page, null, 
+            () -> page.goForward(new Page.GoForwardOptions().setTimeout(actionTimeout())), 
             "Go forward", 
             "Go forward navigation failed"
         );
@@ -173,6 +324,8 @@ public class ActionsHelper {
      */
     public ActionResponse getCurrentUrl(Page page) {
         return performActionWithResult(
+            "getCurrentUrl", 
+            page, null, 
             page::url, 
             "Get current URL", 
             "Failed to get current URL"
@@ -187,6 +340,8 @@ public class ActionsHelper {
      */
     public ActionResponse getPageTitle(Page page) {
         return performActionWithResult(
+            "getPageTitle", 
+            page, null, 
             page::title, 
             "Get page title", 
             "Failed to get page title"
@@ -201,13 +356,73 @@ public class ActionsHelper {
      * @return ActionResponse with wait result
      */
     public ActionResponse waitForTimeout(Page page, int milliseconds) {
+        if (adaptiveWaits.isReplaceFixedSleeps()) {
+            return performAction(
+                "waitForTimeout", 
+                page, null, 
+                () -> settle(page, milliseconds), 
+                "Wait up to " + milliseconds + "ms for the page to settle", 
+                "Wait for timeout failed"
+            );
+        }
         return performAction(
+            "waitForTimeout", 
+            page, null, 
             () -> page.waitForTimeout(milliseconds), 
             "Wait for timeout " + milliseconds + "ms", 
             "Wait for timeout failed"
         );
     }
 
+    /**
+     * Waits until the page has had no network connections for 500 ms.
+     * 
+     * @param page The page instance
+     * @return ActionResponse with wait result
+     */
+    public ActionResponse waitForNetworkIdle(Page page) {
+        return performAction(
+            "waitForNetworkIdle", 
+            page, null, 
+            () -> page.waitForLoadState(LoadState.NETWORKIDLE, new Page.WaitForLoadStateOptions().setTimeout(actionTimeout())), 
+            "Wait for network idle", 
+            "Wait for network idle failed"
+        );
+    }
+
+    /**
+     * Waits until the DOM has stopped changing for the configured quiet period.
+     * 
+     * @param page The page instance
+     * @return ActionResponse with wait result
+     */
+    public ActionResponse waitForDomQuiet(Page page) {
+        return performAction(
+            "waitForDomQuiet", 
+            page, null, 
+            () -> page.evaluate(DOM_QUIET_SCRIPT, Map.of("quietMs", adaptiveWaits.getDomQuietMs(), "maxMs", actionTimeout())), 
+            "Wait for DOM quiet", 
+            "Wait for DOM quiet failed"
+        );
+    }
+
+    /**
+     * Waits for network idle and then a quiet DOM, returning early once both hold.
+     * Reaching the bound is not an error, as the call stands in for a fixed sleep.
+     */
+    private void settle(Page page, int maxMs) {
+        long deadline = System.nanoTime() + maxMs * 1_000_000L;
+        try {
+            page.waitForLoadState(LoadState.NETWORKIDLE, new Page.WaitForLoadStateOptions().setTimeout(maxMs));
+        } catch (TimeoutError e) {
+            return;
+        }
+        int remaining = (int) ((deadline - System.nanoTime()) / 1_000_000);
+        if (remaining > 0) {
+            page.evaluate(DOM_QUIET_SCRIPT, Map.of("quietMs", Math.min(adaptiveWaits.getDomQuietMs(), remaining), "maxMs", remaining));
+        }
+    }
+
     /**
      * Waits for the page to reach the specified load state.
      * 
@@ -217,7 +432,9 @@ public class ActionsHelper {
      */
     public ActionResponse waitForLoadState(Page page, LoadState state) {
         return performAction(
-            () -> page.waitForLoadState(state, new Page.WaitForLoadStateOptions().setTimeout(DEFAULT_TIMEOUT)), 
+            "waitForLoadState", 
+            page, null, 
+            () -> page.waitForLoadState(state, new Page.WaitForLoadStateOptions().setTimeout(actionTimeout())), 
             "Wait for load state: " + state, 
             "Wait for load state failed"
         );
@@ -232,8 +449,10 @@ public class ActionsHelper {
      */
     public ActionResponse waitForSelector(Page page, String selector) {
         return performAction(
-            () -> page.waitForSelector(selector, new Page.WaitForSelectorOptions()
-                .setTimeout(DEFAULT_WAIT_TIMEOUT)
+            "waitForSelector", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).waitFor(new Locator.WaitForOptions()
+                .setTimeout(waitTimeout())
                 .setState(WaitForSelectorState.VISIBLE)), 
             "Wait for selector: " + selector, 
             "Wait for selector failed"
@@ -248,6 +467,8 @@ public class ActionsHelper {
      */
     public ActionResponse isPageReady(Page page) {
         return performActionWithResult(
+            "isPageReady", 
+            page, null, 
             () -> {
                 page.waitForLoadState(LoadState.DOMCONTENTLOADED);
                 return "Page is ready for interaction";
@@ -270,7 +491,9 @@ public class ActionsHelper {
      */
     public ActionResponse click(Page page, String selector) {
         return performAction(
-            () -> page.click(selector, new Page.ClickOptions().setTimeout(DEFAULT_TIMEOUT)), 
+            "click", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).click(new Locator.ClickOptions().setTimeout(actionTimeout())), 
             "Click element: " + selector, 
             "Click action failed"
         );
@@ -285,7 +508,9 @@ public class ActionsHelper {
      */
     public ActionResponse doubleClick(Page page, String selector) {
         return performAction(
-            () -> page.dblclick(selector, new Page.DblclickOptions().setTimeout(DEFAULT_TIMEOUT)), 
+            "doubleClick", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).dblclick(new Locator.DblclickOptions().setTimeout(actionTimeout())), 
             "Double-click element: " + selector, 
             "Double-click action failed"
         );
@@ -300,7 +525,9 @@ public class ActionsHelper {
      */
     public ActionResponse rightClick(Page page, String selector) {
         return performAction(
-            () -> page.click(selector, new Page.ClickOptions().setButton(MouseButton.RIGHT).setTimeout(DEFAULT_TIMEOUT)), 
+            "rightClick", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).click(new Locator.ClickOptions().setButton(MouseButton.RIGHT).setTimeout(actionTimeout())), 
             "Right-click element: " + selector, 
             "Right-click action failed"
         );
@@ -316,9 +543,12 @@ public class ActionsHelper {
      */
     public ActionResponse type(Page page, String selector, String text) {
         return performAction(
+            "type", 
+            page, selector, 
             () -> {
-                page.locator(selector).clear();
-                page.locator(selector).pressSequentially(text);
+                Locator locator = locatorCache.get(page, selector);
+                locator.clear(new Locator.ClearOptions().setTimeout(actionTimeout()));
+                locator.pressSequentially(text, new Locator.PressSequentiallyOptions().setTimeout(actionTimeout()));
             }, 
             "Type text '" + text + "' into: " + selector, 
             "Type action failed"
@@ -335,7 +565,9 @@ public class ActionsHelper {
      */
     public ActionResponse fill(Page page, String selector, String text) {
         return performAction(
-            () -> page.fill(selector, text, new Page.FillOptions().setTimeout(DEFAULT_TIMEOUT)), 
+            "fill", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).fill(text, new Locator.FillOptions().setTimeout(actionTimeout())), 
             "Fill text '" + text + "' into: " + selector, 
             "Fill action failed"
         );
@@ -350,7 +582,9 @@ public class ActionsHelper {
      */
     public ActionResponse clear(Page page, String selector) {
         return performAction(
-            () -> page.fill(selector, "", new Page.FillOptions().setTimeout(DEFAULT_TIMEOUT)), 
+            "clear", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).fill("", new Locator.FillOptions().setTimeout(actionTimeout())), 
             "Clear element: " + selector, 
             "Clear action failed"
         );
@@ -366,7 +600,9 @@ public class ActionsHelper {
      */
     public ActionResponse selectByValue(Page page, String selector, String value) {
         return performAction(
-            () -> page.selectOption(selector, value, new Page.SelectOptionOptions().setTimeout(DEFAULT_TIMEOUT)), 
+            "selectByValue", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).selectOption(value, new Locator.SelectOptionOptions().setTimeout(actionTimeout())), 
             "Select option by value '" + value + "' in: " + selector, 
             "Select by value failed"
         );
@@ -382,7 +618,9 @@ public class ActionsHelper {
      */
     public ActionResponse selectByText(Page page, String selector, String text) {
         return performAction(
-            () -> page.selectOption(selector, new SelectOption().setLabel(text), new Page.SelectOptionOptions().setTimeout(DEFAULT_TIMEOUT)), 
+            "selectByText", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).selectOption(new SelectOption().setLabel(text), new Locator.SelectOptionOptions().setTimeout(actionTimeout())), 
             "Select option by text '" + text + "' in: " + selector, 
             "Select by text failed"
         );
@@ -397,7 +635,9 @@ public class ActionsHelper {
      */
     public ActionResponse check(Page page, String selector) {
         return performAction(
-            () -> page.check(selector, new Page.CheckOptions().setTimeout(DEFAULT_TIMEOUT)), 
+            "check", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).check(new Locator.CheckOptions().setTimeout(actionTimeout())), 
             "Check element: " + selector, 
             "Check action failed"
         );
@@ -412,7 +652,9 @@ public class ActionsHelper {
      */
     public ActionResponse uncheck(Page page, String selector) {
         return performAction(
-            () -> page.uncheck(selector, new Page.UncheckOptions().setTimeout(DEFAULT_TIMEOUT)), 
+            "uncheck", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).uncheck(new Locator.UncheckOptions().setTimeout(actionTimeout())), 
             "Uncheck element: " + selector, 
             "Uncheck action failed"
         );
@@ -427,7 +669,9 @@ public class ActionsHelper {
      */
     public ActionResponse hover(Page page, String selector) {
         return performAction(
-            () -> page.hover(selector, new Page.HoverOptions().setTimeout(DEFAULT_TIMEOUT)), 
+            "hover", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).hover(new Locator.HoverOptions().setTimeout(actionTimeout())), 
             "Hover over element: " + selector, 
             "Hover action failed"
         );
@@ -442,7 +686,9 @@ public class ActionsHelper {
      */
     public ActionResponse getText(Page page, String selector) {
         return performActionWithResult(
-            () -> page.textContent(selector), 
+            "getText", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).textContent(), 
             "Get text from: " + selector, 
             "Get text failed"
         );
@@ -457,7 +703,9 @@ public class ActionsHelper {
      */
     public ActionResponse getValue(Page page, String selector) {
         return performActionWithResult(
-            () -> page.inputValue(selector), 
+            "getValue", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).inputValue(), 
             "Get value from: " + selector, 
             "Get value failed"
         );
@@ -473,7 +721,9 @@ public class ActionsHelper {
      */
     public ActionResponse getAttribute(Page page, String selector, String attributeName) {
         return performActionWithResult(
-            () -> page.getAttribute(selector, attributeName), 
+            "getAttribute", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).getAttribute(attributeName), 
             "Get attribute '" + attributeName + "' from: " + selector, 
             "Get attribute failed"
         );
@@ -488,7 +738,9 @@ public class ActionsHelper {
      */
     public ActionResponse isVisible(Page page, String selector) {
         return performActionWithResult(
-            () -> page.isVisible(selector), 
+            "isVisible", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).isVisible(), 
             "Check visibility of: " + selector, 
             "Visibility check failed"
         );
@@ -503,7 +755,9 @@ public class ActionsHelper {
      */
     public ActionResponse isEnabled(Page page, String selector) {
         return performActionWithResult(
-            () -> page.isEnabled(selector), 
+            "isEnabled", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).isEnabled(), 
             "Check enabled status of: " + selector, 
             "Enabled check failed"
         );
@@ -518,7 +772,9 @@ public class ActionsHelper {
      */
     public ActionResponse isChecked(Page page, String selector) {
         return performActionWithResult(
-            () -> page.isChecked(selector), 
+            "isChecked", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).isChecked(), 
             "Check checked status of: " + selector, 
             "Checked status check failed"
         );
@@ -533,7 +789,10 @@ public class ActionsHelper {
      */
     public ActionResponse scrollIntoView(Page page, String selector) {
         return performAction(
-            () -> page.locator(selector).scrollIntoViewIfNeeded(), 
+            "scrollIntoView", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).scrollIntoViewIfNeeded(
+                new Locator.ScrollIntoViewIfNeededOptions().setTimeout(actionTimeout())), 
             "Scroll into view: " + selector, 
             "Scroll into view failed"
         );
@@ -548,10 +807,71 @@ public class ActionsHelper {
      */
     public ActionResponse focus(Page page, String selector) {
         return performAction(
-            () -> page.focus(selector, new Page.FocusOptions().setTimeout(DEFAULT_TIMEOUT)), 
+            "focus", 
+            page, selector, 
+            () -> locatorCache.get(page, selector).focus(new Locator.FocusOptions().setTimeout(actionTimeout())), 
             "Focus on element: " + selector, 
             "Focus action failed"
         );
     }
 
+    // ----------------------
+    // Batch Reads
+    // ----------------------
+
+    /**
+     * Reads many element properties in a single page.evaluate round-trip.
+     * Unlike the single reads it does not wait for elements: a missing element is a failure
+     * (an invisible one for VISIBLE), and non-CSS selectors fail, so callers can fall back to
+     * the single reads. Each response carries the batch's start and end time and an even
+     * share of its duration.
+     * 
+     * @param page The page instance
+     * @param reads Properties to read
+     * @return One ActionResponse per read, in order, with the value in message
+     */
+    public List<ActionResponse> readAll(Page page, List<ElementRead> reads) {
+        List<Map<String, String>> payload = new ArrayList<>(reads.size());
+        for (ElementRead read : reads) {
+            Map<String, String> item = new HashMap<>();
+            item.put("selector", read.selector());
+            item.put("property", read.property().name());
+            item.put("attributeName", read.attributeName());
+            payload.add(item);
+        }
+
+        Object[] values = new Object[1];
+        ActionResponse batch = performAction(
+            "readAll", 
+            page, null, 
+            () -> values[0] = page.evaluate(READ_ALL_SCRIPT, payload), 
+            "Read " + reads.size() + " properties", 
+            "Batch read failed"
+        );
+
+        List<ActionResponse> responses = new ArrayList<>(reads.size());
+        for (int i = 0; i < reads.size(); i++) {
+            ElementRead read = reads.get(i);
+            ActionResponse response = new ActionResponse();
+            response.setStartTime(batch.getStartTime());
+            response.setEndTime(batch.getEndTime());
+            response.setDurationNanos(batch.getDurationNanos() / reads.size());
+            if (!(values[0] instanceof List<?> list) || !(list.get(i) instanceof Map<?, ?> value)) {
+                response.setResult(ActionResultEnum.FAILURE);
+                response.setMessage(batch.getMessage());
+            } else if (value.get("error") != null) {
+                response.setResult(ActionResultEnum.FAILURE);
+                response.setMessage(value.get("error") + ": " + read.selector());
+            } else if (!Boolean.TRUE.equals(value.get("found"))) {
+                boolean invisible = read.property() == ReadPropertyEnum.VISIBLE;
+                response.setResult(invisible ? ActionResultEnum.SUCCESS : ActionResultEnum.FAILURE);
+                response.setMessage(invisible ? "false" : "Element not found: " + read.selector());
+            } else {
+                response.setResult(ActionResultEnum.SUCCESS);
+                response.setMessage(String.valueOf(value.get("value")));
+            }
+            responses.add(response);
+        }
+        return responses;
+    }
 }
@@ -0,0 +1,13 @@
+package com.test.webframework.helper;
+
+import com.test.webframework.enums.ReadPropertyEnum;
+
+/**
+ * One property to read in a batch.
+ *
+ * @param selector CSS selector of the element, ignored for TITLE and URL
+ * @param property Property to read
+ * @param attributeName Attribute name, only for ATTRIBUTE
+ */
+public record ElementRead(String selector, ReadPropertyEnum property, String attributeName) {
+}
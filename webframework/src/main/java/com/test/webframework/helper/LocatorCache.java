@@ -0,0 +1,38 @@
+package com.test.webframework.helper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+
+/**
+ * Locators by selector per page, so repeated actions on a selector share one locator.
+ * Locators resolve to the first match, like the page-level selector methods they replace.
+ * A page's locators are dropped when its main frame navigates and when it closes.
+ * Pages are held weakly; each page's map is only touched by the thread that owns the
+ * page, which is also the thread Playwright runs the page's event handlers on.
+ */
+class LocatorCache {
+
+    private final Cache<Page, Map<String, Locator>> locators = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    Locator get(Page page, String selector) {
+        return locators.get(page, this::register).computeIfAbsent(selector, key -> page.locator(key).first());
+    }
+
+    private Map<String, Locator> register(Page page) {
+        Map<String, Locator> pageLocators = new HashMap<>();
+        page.onFrameNavigated(frame -> {
+            if (frame == page.mainFrame()) {
+                pageLocators.clear();
+            }
+        });
+        page.onClose(closed -> locators.invalidate(closed));
+        return pageLocators;
+    }
+}
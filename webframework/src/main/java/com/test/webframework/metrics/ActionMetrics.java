@@ -0,0 +1,88 @@
+package com.test.webframework.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.test.webframework.dto.ActionLatencyDto;
+import com.test.webframework.enums.ActionResultEnum;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Latency histograms of web actions, one Micrometer timer per action type and result.
+ * Timers publish p50, p95 and p99 over a decaying window, so they show up under
+ * /actuator/metrics/webframework.action.duration and in any registry backend.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ActionMetrics {
+
+    public static final String METRIC_NAME = "webframework.action.duration";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Records the duration of one action.
+     *
+     * @param actionType Action type, e.g. click or navigate
+     * @param result Result of the action
+     * @param durationNanos Monotonic duration in nanoseconds
+     */
+    public void record(String actionType, ActionResultEnum result, long durationNanos) {
+        String resultTag = result != null ? result.name() : "UNKNOWN";
+        timers.computeIfAbsent(actionType + ":" + resultTag, key -> Timer.builder(METRIC_NAME)
+                        .description("Duration of web actions")
+                        .tag("action", actionType)
+                        .tag("result", resultTag)
+                        .publishPercentiles(PERCENTILES)
+                        .register(meterRegistry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the latency percentiles of every action type, slowest p95 first.
+     *
+     * @return List of ActionLatencyDto
+     */
+    public List<ActionLatencyDto> snapshot() {
+        List<ActionLatencyDto> latencies = new ArrayList<>(timers.size());
+        for (Timer timer : timers.values()) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            ActionLatencyDto latency = new ActionLatencyDto();
+            latency.setAction(timer.getId().getTag("action"));
+            latency.setResult(timer.getId().getTag("result"));
+            latency.setCount(snapshot.count());
+            latency.setMeanMillis(snapshot.mean(TimeUnit.MILLISECONDS));
+            latency.setMaxMillis(snapshot.max(TimeUnit.MILLISECONDS));
+            for (ValueAtPercentile value : snapshot.percentileValues()) {
+                double millis = value.value(TimeUnit.MILLISECONDS);
+                if (value.percentile() == 0.5) {
+                    latency.setP50Millis(millis);
+                } else if (value.percentile() == 0.95) {
+                    latency.setP95Millis(millis);
+                } else if (value.percentile() == 0.99) {
+                    latency.setP99Millis(millis);
+                }
+            }
+            latencies.add(latency);
+        }
+        latencies.sort(Comparator.comparingDouble(ActionLatencyDto::getP95Millis).reversed());
+        return latencies;
+    }
+}
@@ -0,0 +1,96 @@
+package com.test.webframework.pool;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.test.webframework.routing.RoutingStats;
+
+/**
+ * Exclusive lease of an isolated browser context from the {@link BrowserPool}.
+ * The leasing thread owns the underlying browser until the lease is closed,
+ * which is what Playwright's single-thread object model requires.
+ * Use it with try-with-resources so the browser always goes back to the pool.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+public class BrowserLease implements AutoCloseable {
+
+    private final BrowserPool pool;
+    private final BrowserPool.BrowserSlot slot;
+    private final BrowserContext context;
+    private final RoutingStats routingStats;
+    private final long leasedAtNanos = System.nanoTime();
+    private boolean closed;
+
+    BrowserLease(BrowserPool pool, BrowserPool.BrowserSlot slot, BrowserContext context, RoutingStats routingStats) {
+        this.pool = pool;
+        this.slot = slot;
+        this.context = context;
+        this.routingStats = routingStats;
+    }
+
+    /**
+     * Gets the browser context owned by this lease.
+     *
+     * @return BrowserContext isolated from every other lease
+     */
+    public BrowserContext getContext() {
+        ensureOpen();
+        return context;
+    }
+
+    /**
+     * Opens a new page in the leased context.
+     *
+     * @return Page ready to be passed to the actions helper
+     */
+    public Page newPage() {
+        ensureOpen();
+        return context.newPage();
+    }
+
+    /**
+     * Gets the id of the pooled browser serving this lease.
+     *
+     * @return Slot index within the pool
+     */
+    public int getBrowserId() {
+        return slot.getIndex();
+    }
+
+    /**
+     * Gets the request routing counters of the leased context.
+     *
+     * @return RoutingStats, readable after the lease is closed
+     */
+    public RoutingStats getRoutingStats() {
+        return routingStats;
+    }
+
+    /**
+     * Gets how long this lease has been held.
+     *
+     * @return Elapsed time in milliseconds
+     */
+    public long getHeldMillis() {
+        return (System.nanoTime() - leasedAtNanos) / 1_000_000;
+    }
+
+    /**
+     * Closes the context and returns the browser to the pool. Safe to call more than once.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pool.release(slot, context);
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Browser lease is already closed");
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.test.webframework.pool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
+import com.test.webframework.dto.BrowserPoolMetrics;
+import com.test.webframework.exception.CustomException;
+import com.test.webframework.routing.RequestRouter;
+import com.test.webframework.routing.RoutingStats;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pool of warm Playwright browsers handing out one isolated {@link BrowserContext} per lease.
+ * Each pooled browser runs under its own {@link Playwright} instance and is owned by
+ * exactly one thread at a time, so leases on different browsers run in parallel.
+ * Browsers are relaunched after a configurable number of contexts, and crashed or
+ * disconnected browsers are reclaimed on lease, on release and by a periodic health check.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BrowserPool {
+
+    private final RequestRouter requestRouter;
+
+    @Value("${browser.pool.size:2}")
+    private int size;
+
+    @Value("${browser.pool.browser-type:chromium}")
+    private String browserType;
+
+    @Value("${browser.pool.headless:true}")
+    private boolean headless;
+
+    @Value("${browser.pool.lease-timeout-ms:30000}")
+    private long leaseTimeoutMs;
+
+    @Value("${browser.pool.max-contexts-per-browser:50}")
+    private int maxContextsPerBrowser;
+
+    @Value("${browser.pool.health-check-interval-seconds:30}")
+    private long healthCheckIntervalSeconds;
+
+    @Value("${browser.pool.warm-up:true}")
+    private boolean warmUp;
+
+    private BlockingQueue<BrowserSlot> idle;
+    private ScheduledExecutorService maintenance;
+    private volatile boolean shuttingDown;
+
+    private final LongAdder totalLeases = new LongAdder();
+    private final LongAdder leaseTimeouts = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder launches = new LongAdder();
+    private final LongAdder recycledBrowsers = new LongAdder();
+    private final LongAdder reclaimedBrowsers = new LongAdder();
+    private final AtomicInteger activeLeases = new AtomicInteger();
+    private final AtomicInteger liveBrowsers = new AtomicInteger();
+
+    @PostConstruct
+    void init() {
+        if (size < 1) {
+            throw new IllegalStateException("browser.pool.size must be at least 1");
+        }
+        idle = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            idle.add(new BrowserSlot(i));
+        }
+        maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "browser-pool-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Launches the pooled browsers in the background once the application is up
+     * and schedules the periodic health check.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startMaintenance() {
+        long initialDelay = warmUp ? 0 : healthCheckIntervalSeconds;
+        maintenance.scheduleWithFixedDelay(this::checkIdleBrowsers, initialDelay, healthCheckIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        shuttingDown = true;
+        maintenance.shutdownNow();
+        List<BrowserSlot> slots = new ArrayList<>();
+        idle.drainTo(slots);
+        slots.forEach(this::discard);
+    }
+
+    /**
+     * Leases a fresh browser context, waiting up to the configured lease timeout
+     * for a browser to become free.
+     *
+     * @return BrowserLease owning an isolated context
+     * @throws CustomException with status 503 when no browser is available in time
+     */
+    public BrowserLease lease() {
+        return lease(null);
+    }
+
+    /**
+     * Leases a fresh browser context routed by the request profile of a platform.
+     *
+     * @param platformId Backend platform id, null for the default routing profile
+     * @return BrowserLease owning an isolated context
+     * @throws CustomException with status 503 when no browser is available in time
+     */
+    public BrowserLease lease(Long platformId) {
+        return lease(platformId, null);
+    }
+
+    /**
+     * Leases a fresh browser context routed by a platform's profile and starting from a storage state.
+     *
+     * @param platformId Backend platform id, null for the default routing profile
+     * @param storageState Storage state JSON to start the context with, null for a clean context
+     * @return BrowserLease owning an isolated context
+     * @throws CustomException with status 503 when no browser is available in time
+     */
+    public BrowserLease lease(Long platformId, String storageState) {
+        if (shuttingDown) {
+            throw new CustomException("Browser pool is shutting down", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        long waitStart = System.nanoTime();
+        BrowserSlot slot;
+        try {
+            slot = idle.poll(leaseTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException("Interrupted while waiting for a browser", e, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        long waited = System.nanoTime() - waitStart;
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+
+        if (slot == null) {
+            leaseTimeouts.increment();
+            throw new CustomException("No browser available within " + leaseTimeoutMs + " ms",
+                    HttpStatus.SERVICE_UNAVAILABLE, "BROWSER_POOL_EXHAUSTED");
+        }
+
+        try {
+            prepare(slot);
+            BrowserContext context = storageState != null
+                    ? slot.browser.newContext(new Browser.NewContextOptions().setStorageState(storageState))
+                    : slot.browser.newContext();
+            slot.contextsServed++;
+            RoutingStats routing = requestRouter.install(context, platformId);
+            totalLeases.increment();
+            activeLeases.incrementAndGet();
+            log.debug("Leased context from browser {} ({} contexts served)", slot.index, slot.contextsServed);
+            return new BrowserLease(this, slot, context, routing);
+        } catch (RuntimeException e) {
+            discard(slot);
+            idle.offer(slot);
+            throw new CustomException("Could not open a browser context: " + e.getMessage(), e, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * Gets a snapshot of the pool counters.
+     *
+     * @return BrowserPoolMetrics with lease, wait and launch statistics
+     */
+    public BrowserPoolMetrics getMetrics() {
+        long leases = totalLeases.sum();
+        long attempts = leases + leaseTimeouts.sum();
+        BrowserPoolMetrics metrics = new BrowserPoolMetrics();
+        metrics.setPoolSize(size);
+        metrics.setIdleBrowsers(idle.size());
+        metrics.setActiveLeases(activeLeases.get());
+        metrics.setLiveBrowsers(liveBrowsers.get());
+        metrics.setTotalLeases(leases);
+        metrics.setLeaseTimeouts(leaseTimeouts.sum());
+        metrics.setAverageWaitMillis(attempts == 0 ? 0 : totalWaitNanos.sum() / attempts / 1_000_000.0);
+        metrics.setMaxWaitMillis(maxWaitNanos.get() / 1_000_000.0);
+        metrics.setLaunches(launches.sum());
+        metrics.setRecycledBrowsers(recycledBrowsers.sum());
+        metrics.setReclaimedBrowsers(reclaimedBrowsers.sum());
+        return metrics;
+    }
+
+    /**
+     * Closes a leased context and returns its browser to the pool, reclaiming the
+     * browser when it crashed while leased.
+     */
+    void release(BrowserSlot slot, BrowserContext context) {
+        activeLeases.decrementAndGet();
+        try {
+            context.close();
+        } catch (PlaywrightException e) {
+            log.warn("Failed to close context of browser {}: {}", slot.index, e.getMessage());
+            slot.crashed = true;
+        }
+
+        if (shuttingDown) {
+            discard(slot);
+            return;
+        }
+        if (!slot.isHealthy()) {
+            log.warn("Reclaiming crashed browser {}", slot.index);
+            reclaimedBrowsers.increment();
+            discard(slot);
+        }
+        idle.offer(slot);
+    }
+
+    /**
+     * Makes sure a slot holds a healthy browser that has not reached its context limit.
+     */
+    private void prepare(BrowserSlot slot) {
+        if (slot.browser != null && !slot.isHealthy()) {
+            log.warn("Reclaiming crashed browser {}", slot.index);
+            reclaimedBrowsers.increment();
+            discard(slot);
+        } else if (slot.browser != null && slot.contextsServed >= maxContextsPerBrowser) {
+            log.debug("Recycling browser {} after {} contexts", slot.index, slot.contextsServed);
+            recycledBrowsers.increment();
+            discard(slot);
+        }
+        if (slot.browser == null) {
+            launch(slot);
+        }
+    }
+
+    /**
+     * Health checks every idle browser once and launches the ones that are missing.
+     */
+    private void checkIdleBrowsers() {
+        int pending = idle.size();
+        for (int i = 0; i < pending && !shuttingDown; i++) {
+            BrowserSlot slot = idle.poll();
+            if (slot == null) {
+                return;
+            }
+            try {
+                prepare(slot);
+            } catch (RuntimeException e) {
+                log.error("Failed to launch browser {}: {}", slot.index, e.getMessage());
+                discard(slot);
+            } finally {
+                idle.offer(slot);
+            }
+        }
+    }
+
+    private void launch(BrowserSlot slot) {
+        long start = System.nanoTime();
+        Playwright playwright = Playwright.create();
+        try {
+            BrowserType type = switch (browserType.toLowerCase()) {
+                case "firefox" -> playwright.firefox();
+                case "webkit" -> playwright.webkit();
+                default -> playwright.chromium();
+            };
+            Browser browser = type.launch(new BrowserType.LaunchOptions().setHeadless(headless));
+            browser.onDisconnected(disconnected -> slot.crashed = true);
+            slot.playwright = playwright;
+            slot.browser = browser;
+            slot.contextsServed = 0;
+            slot.crashed = false;
+        } catch (RuntimeException e) {
+            playwright.close();
+            throw e;
+        }
+        launches.increment();
+        liveBrowsers.incrementAndGet();
+        log.info("Launched {} browser {} in {} ms", browserType, slot.index, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void discard(BrowserSlot slot) {
+        if (slot.playwright != null) {
+            try {
+                slot.playwright.close();
+            } catch (RuntimeException e) {
+                log.warn("Failed to close browser {}: {}", slot.index, e.getMessage());
+            }
+            liveBrowsers.decrementAndGet();
+        }
+        slot.playwright = null;
+        slot.browser = null;
+        slot.contextsServed = 0;
+        slot.crashed = false;
+    }
+
+    /**
+     * One pooled browser. Only the thread that took it from the idle queue touches its fields.
+     */
+    static final class BrowserSlot {
+
+        private final int index;
+        private Playwright playwright;
+        private Browser browser;
+        private int contextsServed;
+        private volatile boolean crashed;
+
+        private BrowserSlot(int index) {
+            this.index = index;
+        }
+
+        int getIndex() {
+            return index;
+        }
+
+        private boolean isHealthy() {
+            return browser != null && !crashed && browser.isConnected();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.test.webframework.routing;
+
+import java.util.Map;
+
+/**
+ * Index entry of a static asset stored in the {@link StaticAssetCache}.
+ *
+ * @param key File name of the asset, derived from its URL
+ * @param headers Response headers replayed with the asset
+ * @param size Body size in bytes
+ * @param fetchNanos Time the original download took
+ * @param fetchedAt Epoch millis the asset was last fetched or revalidated
+ * @param expiresAt Epoch millis after which the asset must be revalidated
+ * @param etag ETag validator of the response, or null
+ * @param lastModified Last-Modified validator of the response, or null
+ */
+public record CachedAsset(String key, Map<String, String> headers, long size, long fetchNanos,
+                          long fetchedAt, long expiresAt, String etag, String lastModified) {
+
+    /**
+     * Whether the asset has to be revalidated before it is served.
+     *
+     * @param now Current epoch millis
+     * @return true once the entry has expired
+     */
+    public boolean isStale(long now) {
+        return now >= expiresAt;
+    }
+
+    /**
+     * Whether a conditional request can be made for the asset.
+     *
+     * @return true when the response carried an ETag or Last-Modified header
+     */
+    public boolean hasValidators() {
+        return etag != null || lastModified != null;
+    }
+}
@@ -0,0 +1,253 @@
+package com.test.webframework.routing;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import com.test.webframework.config.RoutingProperties;
+import com.test.webframework.dto.RoutingReport;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Routes the requests of leased browser contexts by the profile of their platform.
+ * Blocked requests are aborted, stubbed requests get an empty 200 response, and GET
+ * requests of cacheable resource types are served from the {@link StaticAssetCache},
+ * downloading and storing the asset on a miss and revalidating it with a conditional
+ * request once it is stale. Everything else goes to the network.
+ * Handlers run on the thread that owns the lease, inside its Playwright calls.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestRouter {
+
+    private static final Map<String, String> STUB_CONTENT_TYPES = Map.of(
+            "script", "application/javascript",
+            "stylesheet", "text/css",
+            "xhr", "application/json",
+            "fetch", "application/json");
+
+    private final RoutingProperties properties;
+    private final StaticAssetCache assetCache;
+
+    private final Map<Long, Profile> profiles = new ConcurrentHashMap<>();
+    private final RoutingStats totals = new RoutingStats();
+
+    /**
+     * Installs the routing of a platform on a fresh context.
+     *
+     * @param context Context to route
+     * @param platformId Backend platform id, null for the default profile
+     * @return RoutingStats counting the context's requests
+     */
+    public RoutingStats install(BrowserContext context, Long platformId) {
+        RoutingStats stats = new RoutingStats();
+        if (!properties.isEnabled()) {
+            return stats;
+        }
+        Profile profile = platformId != null
+                ? profiles.computeIfAbsent(platformId, id -> Profile.of(properties.getPlatforms().get(id), properties.getDefaults()))
+                : profiles.computeIfAbsent(-1L, id -> Profile.of(null, properties.getDefaults()));
+        if (profile.isPassThrough()) {
+            return stats;
+        }
+        context.route("**/*", route -> handle(route, profile, stats));
+        return stats;
+    }
+
+    /**
+     * Gets the routing counters of every context since startup.
+     *
+     * @return RoutingReport with the totals
+     */
+    public RoutingReport getTotals() {
+        synchronized (totals) {
+            return totals.toReport();
+        }
+    }
+
+    private void handle(Route route, Profile profile, RoutingStats stats) {
+        Request request = route.request();
+        String url = request.url();
+        String type = request.resourceType();
+        try {
+            if (profile.blocks(type, url)) {
+                // Blocked assets are never downloaded, so their size is unknown and not counted as saved
+                count(stats, RoutingStats::blocked, 0, 0);
+                route.abort("blockedbyclient");
+            } else if (profile.stubs(type, url)) {
+                count(stats, RoutingStats::stubbed, 0, 0);
+                route.fulfill(new Route.FulfillOptions()
+                        .setStatus(200)
+                        .setContentType(STUB_CONTENT_TYPES.getOrDefault(type, "text/plain"))
+                        .setBody(""));
+            } else if ("GET".equals(request.method()) && profile.caches(type)) {
+                serveCacheable(route, url, stats);
+            } else {
+                count(stats, null, 0, 0);
+                route.resume();
+            }
+        } catch (PlaywrightException e) {
+            // The page or context was closed while the request was in flight
+            log.debug("Routing of {} failed: {}", url, e.getMessage());
+        }
+    }
+
+    private void serveCacheable(Route route, String url, RoutingStats stats) {
+        CachedAsset cached = assetCache.get(url);
+        if (cached != null && !cached.isStale(System.currentTimeMillis())) {
+            byte[] body = assetCache.read(url, cached);
+            if (body != null) {
+                count(stats, RoutingStats::cacheHit, cached.size(), cached.fetchNanos());
+                fulfillFromCache(route, cached, body);
+                return;
+            }
+            cached = null;
+        }
+
+        Route.FetchOptions options = new Route.FetchOptions();
+        if (cached != null && cached.hasValidators()) {
+            Map<String, String> headers = new LinkedHashMap<>(route.request().headers());
+            if (cached.etag() != null) {
+                headers.put("if-none-match", cached.etag());
+            }
+            if (cached.lastModified() != null) {
+                headers.put("if-modified-since", cached.lastModified());
+            }
+            options.setHeaders(headers);
+        }
+        long start = System.nanoTime();
+        APIResponse response = route.fetch(options);
+        long fetchNanos = System.nanoTime() - start;
+
+        if (cached != null && response.status() == 304) {
+            byte[] body = assetCache.read(url, cached);
+            if (body != null) {
+                assetCache.refresh(url, cached, response.headers());
+                count(stats, RoutingStats::cacheRevalidated, cached.size(), Math.max(0, cached.fetchNanos() - fetchNanos));
+                fulfillFromCache(route, cached, body);
+                return;
+            }
+            // The body vanished between the lookup and the 304, download it again
+            start = System.nanoTime();
+            response = route.fetch();
+            fetchNanos = System.nanoTime() - start;
+        }
+
+        count(stats, RoutingStats::cacheMiss, 0, 0);
+        Map<String, String> headers = response.headers();
+        if (assetCache.isStorable(route.request().allHeaders(), response.status(), headers)) {
+            assetCache.put(url, headers, response.body(), fetchNanos);
+        } else if (cached != null) {
+            assetCache.invalidate(url);
+        }
+        route.fulfill(new Route.FulfillOptions().setResponse(response));
+    }
+
+    private static void fulfillFromCache(Route route, CachedAsset cached, byte[] body) {
+        route.fulfill(new Route.FulfillOptions()
+                .setStatus(200)
+                .setHeaders(cached.headers())
+                .setBodyBytes(body));
+    }
+
+    private void count(RoutingStats stats, Consumer<RoutingStats> outcome, long bytes, long nanos) {
+        stats.request();
+        stats.saved(bytes, nanos);
+        if (outcome != null) {
+            outcome.accept(stats);
+        }
+        synchronized (totals) {
+            totals.request();
+            totals.saved(bytes, nanos);
+            if (outcome != null) {
+                outcome.accept(totals);
+            }
+        }
+    }
+
+    /**
+     * Compiled routing rules of one platform.
+     */
+    private record Profile(Set<String> blockTypes, List<Pattern> blockUrls, Set<String> stubTypes,
+                           List<Pattern> stubUrls, Set<String> cacheTypes) {
+
+        static Profile of(RoutingProperties.Profile platform, RoutingProperties.Profile defaults) {
+            return new Profile(
+                    types(pick(platform, defaults, RoutingProperties.Profile::getBlockResourceTypes)),
+                    globs(pick(platform, defaults, RoutingProperties.Profile::getBlockUrlPatterns)),
+                    types(pick(platform, defaults, RoutingProperties.Profile::getStubResourceTypes)),
+                    globs(pick(platform, defaults, RoutingProperties.Profile::getStubUrlPatterns)),
+                    types(pick(platform, defaults, RoutingProperties.Profile::getCacheResourceTypes)));
+        }
+
+        boolean blocks(String type, String url) {
+            return blockTypes.contains(type) || matches(blockUrls, url);
+        }
+
+        boolean stubs(String type, String url) {
+            return stubTypes.contains(type) || matches(stubUrls, url);
+        }
+
+        boolean caches(String type) {
+            return cacheTypes.contains(type);
+        }
+
+        boolean isPassThrough() {
+            return blockTypes.isEmpty() && blockUrls.isEmpty() && stubTypes.isEmpty() && stubUrls.isEmpty() && cacheTypes.isEmpty();
+        }
+
+        private static List<String> pick(RoutingProperties.Profile platform, RoutingProperties.Profile defaults,
+                                         Function<RoutingProperties.Profile, List<String>> field) {
+            List<String> value = platform != null ? field.apply(platform) : null;
+            if (value == null && defaults != null) {
+                value = field.apply(defaults);
+            }
+            return value != null ? value : List.of();
+        }
+
+        private static Set<String> types(List<String> types) {
+            return types.stream()
+                    .map(type -> type.trim().toLowerCase(Locale.ROOT))
+                    .filter(type -> !type.isEmpty())
+                    .collect(Collectors.toCollection(HashSet::new));
+        }
+
+        private static List<Pattern> globs(List<String> globs) {
+            return globs.stream()
+                    .map(String::trim)
+                    .filter(glob -> !glob.isEmpty())
+                    .map(glob -> Pattern.compile(Pattern.quote(glob).replace("*", "\\E.*\\Q")))
+                    .toList();
+        }
+
+        private static boolean matches(List<Pattern> patterns, String url) {
+            for (Pattern pattern : patterns) {
+                if (pattern.matcher(url).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
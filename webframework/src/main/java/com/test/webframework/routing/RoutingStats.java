@@ -0,0 +1,57 @@
+package com.test.webframework.routing;
+
+import com.test.webframework.dto.RoutingReport;
+
+/**
+ * Routing counters of one leased context. Route handlers run on the thread that owns
+ * the lease, so the counters need no synchronization.
+ */
+public class RoutingStats {
+
+    private long requests;
+    private long blocked;
+    private long stubbed;
+    private long cacheHits;
+    private long cacheMisses;
+    private long cacheRevalidations;
+    private long bytesSaved;
+    private long nanosSaved;
+
+    void request() {
+        requests++;
+    }
+
+    void blocked() {
+        blocked++;
+    }
+
+    void stubbed() {
+        stubbed++;
+    }
+
+    void cacheHit() {
+        cacheHits++;
+    }
+
+    void cacheMiss() {
+        cacheMisses++;
+    }
+
+    void cacheRevalidated() {
+        cacheRevalidations++;
+    }
+
+    void saved(long bytes, long nanos) {
+        bytesSaved += bytes;
+        nanosSaved += nanos;
+    }
+
+    /**
+     * Gets the counters as a report.
+     *
+     * @return RoutingReport of this context
+     */
+    public RoutingReport toReport() {
+        return new RoutingReport(requests, blocked, stubbed, cacheHits, cacheMisses, cacheRevalidations, bytesSaved, nanosSaved / 1_000_000);
+    }
+}
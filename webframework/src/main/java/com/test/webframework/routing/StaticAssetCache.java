@@ -0,0 +1,324 @@
+package com.test.webframework.routing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * On-disk cache of static assets shared by every browser context and browser in the pool.
+ * Bodies and their metadata are kept as files named by the SHA-256 of the URL, with an
+ * in-memory index bounded by total size; evicted entries have their files deleted. The
+ * index is rebuilt from the directory on startup, so the cache survives restarts.
+ * Freshness follows the response's Cache-Control: no-store is not cached, no-cache is
+ * revalidated on every use, and max-age is honored up to a configurable ceiling; responses
+ * without max-age get a default TTL. Stale entries are revalidated by the caller. Only
+ * responses that are the same for every context and user are stored, see {@link #isStorable}.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class StaticAssetCache {
+
+    private static final String BODY_SUFFIX = ".bin";
+    private static final String META_SUFFIX = ".meta";
+    private static final String HEADER_PREFIX = "header.";
+
+    // Bumped when the rules for what may be stored change; entries of older formats are dropped
+    private static final String FORMAT = "2";
+
+    // Headers replayed from the cache; bodies are stored decoded, so content-encoding is dropped
+    private static final Set<String> REPLAYED_HEADERS = Set.of("content-type", "access-control-allow-origin", "cache-control");
+
+    private static final Pattern MAX_AGE = Pattern.compile("(?:^|[,\\s])max-age\\s*=\\s*\"?(\\d+)");
+
+    @Value("${routing.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${routing.cache.directory:${java.io.tmpdir}/webframework-asset-cache}")
+    private String directory;
+
+    @Value("${routing.cache.max-bytes:536870912}")
+    private long maxBytes;
+
+    @Value("${routing.cache.max-entry-bytes:5242880}")
+    private long maxEntryBytes;
+
+    @Value("${routing.cache.default-ttl-seconds:300}")
+    private long defaultTtlSeconds;
+
+    @Value("${routing.cache.max-ttl-seconds:3600}")
+    private long maxTtlSeconds;
+
+    private Path root;
+    private Cache<String, CachedAsset> index;
+
+    @PostConstruct
+    void init() {
+        index = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .<String, CachedAsset>weigher((url, asset) -> (int) Math.min(Integer.MAX_VALUE, Math.max(1, asset.size())))
+                .removalListener((url, asset, cause) -> {
+                    if (cause.wasEvicted() && asset != null) {
+                        deleteFiles(asset.key());
+                    }
+                })
+                .build();
+        if (!enabled) {
+            return;
+        }
+        try {
+            root = Files.createDirectories(Paths.get(directory));
+            loadIndex();
+        } catch (IOException e) {
+            log.error("Static asset cache disabled, directory {} is not usable: {}", directory, e.getMessage());
+            enabled = false;
+        }
+    }
+
+    /**
+     * Looks up a cached asset.
+     *
+     * @param url Asset URL
+     * @return CachedAsset, or null when the URL is not cached
+     */
+    public CachedAsset get(String url) {
+        return enabled ? index.getIfPresent(url) : null;
+    }
+
+    /**
+     * Reads the body of a cached asset.
+     *
+     * @param url Asset URL
+     * @param asset Entry returned by {@link #get}
+     * @return Body bytes, or null when the file is gone
+     */
+    public byte[] read(String url, CachedAsset asset) {
+        try {
+            return Files.readAllBytes(root.resolve(asset.key() + BODY_SUFFIX));
+        } catch (IOException e) {
+            index.invalidate(url);
+            return null;
+        }
+    }
+
+    /**
+     * Whether a response may be stored. The cache is shared by every context and keyed by
+     * URL only, so responses that may differ per user or per request are never stored:
+     * no-store and private responses, responses varying on anything but Accept-Encoding,
+     * responses setting cookies, and responses to requests that carried credentials.
+     *
+     * @param requestHeaders Request headers, lower-case names
+     * @param status HTTP status
+     * @param headers Response headers, lower-case names
+     * @return true when the response is the same for every context
+     */
+    public boolean isStorable(Map<String, String> requestHeaders, int status, Map<String, String> headers) {
+        if (status != 200 || headers.containsKey("set-cookie")
+                || requestHeaders.containsKey("cookie") || requestHeaders.containsKey("authorization")) {
+            return false;
+        }
+        for (String directive : headers.getOrDefault("cache-control", "").toLowerCase(Locale.ROOT).split(",")) {
+            String name = directive.trim();
+            if (name.equals("no-store") || name.equals("private") || name.startsWith("private=")) {
+                return false;
+            }
+        }
+        for (String field : headers.getOrDefault("vary", "").toLowerCase(Locale.ROOT).split(",")) {
+            String name = field.trim();
+            if (!name.isEmpty() && !name.equals("accept-encoding")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stores an asset, replacing any previous version of the URL. Oversized bodies are ignored.
+     *
+     * @param url Asset URL
+     * @param responseHeaders Response headers, lower-case names
+     * @param body Response body
+     * @param fetchNanos Time the download took
+     */
+    public void put(String url, Map<String, String> responseHeaders, byte[] body, long fetchNanos) {
+        if (!enabled || body.length > maxEntryBytes) {
+            return;
+        }
+        Map<String, String> replayed = new LinkedHashMap<>();
+        responseHeaders.forEach((name, value) -> {
+            if (REPLAYED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                replayed.put(name, value);
+            }
+        });
+        long now = System.currentTimeMillis();
+        CachedAsset asset = new CachedAsset(keyOf(url), replayed, body.length, fetchNanos, now,
+                expiresAt(responseHeaders, now), responseHeaders.get("etag"), responseHeaders.get("last-modified"));
+        try {
+            writeAtomically(asset.key() + BODY_SUFFIX, body);
+            writeMeta(url, asset);
+            index.put(url, asset);
+        } catch (IOException e) {
+            log.warn("Failed to cache static asset {}: {}", url, e.getMessage());
+        }
+    }
+
+    /**
+     * Drops an asset, e.g. when its current response may no longer be stored.
+     *
+     * @param url Asset URL
+     */
+    public void invalidate(String url) {
+        CachedAsset asset = enabled ? index.getIfPresent(url) : null;
+        if (asset != null) {
+            index.invalidate(url);
+            deleteFiles(asset.key());
+        }
+    }
+
+    /**
+     * Marks a stale asset fresh again after the origin answered 304 Not Modified.
+     *
+     * @param url Asset URL
+     * @param asset Stale entry returned by {@link #get}
+     * @param responseHeaders Headers of the 304 response, lower-case names
+     */
+    public void refresh(String url, CachedAsset asset, Map<String, String> responseHeaders) {
+        if (!enabled) {
+            return;
+        }
+        // A 304 may omit Cache-Control; the stored one still describes the asset
+        Map<String, String> freshness = responseHeaders.containsKey("cache-control")
+                ? responseHeaders
+                : Map.of("cache-control", asset.headers().getOrDefault("cache-control", ""));
+        long now = System.currentTimeMillis();
+        CachedAsset refreshed = new CachedAsset(asset.key(), asset.headers(), asset.size(), asset.fetchNanos(), now,
+                expiresAt(freshness, now),
+                responseHeaders.getOrDefault("etag", asset.etag()),
+                responseHeaders.getOrDefault("last-modified", asset.lastModified()));
+        try {
+            writeMeta(url, refreshed);
+            index.put(url, refreshed);
+        } catch (IOException e) {
+            log.warn("Failed to refresh cached static asset {}: {}", url, e.getMessage());
+        }
+    }
+
+    private long expiresAt(Map<String, String> headers, long now) {
+        String cacheControl = headers.getOrDefault("cache-control", "").toLowerCase(Locale.ROOT);
+        if (cacheControl.contains("no-cache")) {
+            return now;
+        }
+        Matcher maxAge = MAX_AGE.matcher(cacheControl);
+        long ttlSeconds = maxAge.find() ? Long.parseLong(maxAge.group(1)) : defaultTtlSeconds;
+        return now + Math.min(ttlSeconds, maxTtlSeconds) * 1000;
+    }
+
+    private void writeMeta(String url, CachedAsset asset) throws IOException {
+        Properties meta = new Properties();
+        meta.setProperty("format", FORMAT);
+        meta.setProperty("url", url);
+        meta.setProperty("size", String.valueOf(asset.size()));
+        meta.setProperty("fetchNanos", String.valueOf(asset.fetchNanos()));
+        meta.setProperty("fetchedAt", String.valueOf(asset.fetchedAt()));
+        meta.setProperty("expiresAt", String.valueOf(asset.expiresAt()));
+        if (asset.etag() != null) {
+            meta.setProperty("etag", asset.etag());
+        }
+        if (asset.lastModified() != null) {
+            meta.setProperty("lastModified", asset.lastModified());
+        }
+        asset.headers().forEach((name, value) -> meta.setProperty(HEADER_PREFIX + name, value));
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            meta.store(out, null);
+            writeAtomically(asset.key() + META_SUFFIX, out.toByteArray());
+        }
+    }
+
+    private void loadIndex() throws IOException {
+        int loaded = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(root, "*" + META_SUFFIX)) {
+            for (Path file : files) {
+                Properties meta = new Properties();
+                try (InputStream in = Files.newInputStream(file)) {
+                    meta.load(in);
+                    String fileName = file.getFileName().toString();
+                    String key = fileName.substring(0, fileName.length() - META_SUFFIX.length());
+                    if (!FORMAT.equals(meta.getProperty("format"))) {
+                        deleteFiles(key);
+                        continue;
+                    }
+                    Map<String, String> headers = new LinkedHashMap<>();
+                    for (String name : meta.stringPropertyNames()) {
+                        if (name.startsWith(HEADER_PREFIX)) {
+                            headers.put(name.substring(HEADER_PREFIX.length()), meta.getProperty(name));
+                        }
+                    }
+                    index.put(meta.getProperty("url"), new CachedAsset(key, headers,
+                            Long.parseLong(meta.getProperty("size")), Long.parseLong(meta.getProperty("fetchNanos")),
+                            Long.parseLong(meta.getProperty("fetchedAt", "0")),
+                            Long.parseLong(meta.getProperty("expiresAt", "0")),
+                            meta.getProperty("etag"), meta.getProperty("lastModified")));
+                    loaded++;
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Skipping unreadable static asset metadata {}: {}", file, e.getMessage());
+                }
+            }
+        }
+        log.info("Static asset cache at {} loaded {} entries", root, loaded);
+    }
+
+    private void writeAtomically(String fileName, byte[] content) throws IOException {
+        Path temp = root.resolve(fileName + "." + UUID.randomUUID() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            out.write(content);
+        }
+        Files.move(temp, root.resolve(fileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void deleteFiles(String key) {
+        try {
+            Files.deleteIfExists(root.resolve(key + BODY_SUFFIX));
+            Files.deleteIfExists(root.resolve(key + META_SUFFIX));
+        } catch (IOException e) {
+            log.warn("Failed to delete cached static asset {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static String keyOf(String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.test.webframework.session;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.microsoft.playwright.Page;
+import com.test.webframework.dto.ActionResponse;
+import com.test.webframework.dto.BatchReadRequest;
+import com.test.webframework.dto.BrowserSessionDto;
+import com.test.webframework.dto.SessionActionsRequest;
+import com.test.webframework.enums.ActionResultEnum;
+import com.test.webframework.exception.CustomException;
+import com.test.webframework.execution.CompiledStep;
+import com.test.webframework.execution.ScenarioPlanCompiler;
+import com.test.webframework.execution.StepSequence;
+import com.test.webframework.helper.ActionsHelper;
+import com.test.webframework.helper.ElementRead;
+import com.test.webframework.pool.BrowserLease;
+import com.test.webframework.pool.BrowserPool;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Remote browser sessions driven over HTTP.
+ * A session holds a lease from the {@link BrowserPool} and one page, and runs a whole
+ * batch of actions per request so a client pays one round-trip per batch instead of
+ * one per action. Requests on the same session are serialized by a lock, which keeps
+ * the session's Playwright objects on one thread at a time. Sessions left idle are
+ * closed and their browser returned to the pool.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BrowserSessionManager {
+
+    private final BrowserPool browserPool;
+    private final ActionsHelper actionsHelper;
+
+    @Value("${sessions.idle-timeout-seconds:300}")
+    private long idleTimeoutSeconds;
+
+    @Value("${sessions.busy-wait-ms:5000}")
+    private long busyWaitMs;
+
+    private final Map<String, BrowserSession> sessions = new ConcurrentHashMap<>();
+    private ScheduledExecutorService reaper;
+
+    @PostConstruct
+    void init() {
+        reaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "browser-session-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1, idleTimeoutSeconds / 4);
+        reaper.scheduleWithFixedDelay(this::closeIdleSessions, interval, interval, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        reaper.shutdownNow();
+        new ArrayList<>(sessions.keySet()).forEach(this::closeQuietly);
+    }
+
+    /**
+     * Opens a session on a pooled browser.
+     *
+     * @param platformId Backend platform id selecting the routing profile, may be null
+     * @return BrowserSessionDto of the new session
+     */
+    public BrowserSessionDto open(Long platformId) {
+        BrowserLease lease = browserPool.lease(platformId);
+        try {
+            BrowserSession session = new BrowserSession(lease, lease.newPage());
+            sessions.put(session.sessionId, session);
+            log.debug("Opened browser session {} on browser {}", session.sessionId, lease.getBrowserId());
+            return session.toDto();
+        } catch (RuntimeException e) {
+            lease.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets a session.
+     *
+     * @param sessionId Session id
+     * @return BrowserSessionDto of the session
+     */
+    public BrowserSessionDto get(String sessionId) {
+        return find(sessionId).toDto();
+    }
+
+    /**
+     * Runs a batch of actions in order on the session's page.
+     *
+     * @param sessionId Session id
+     * @param request Actions to run
+     * @return One ActionResponse per action run; with stopOnFailure the batch ends at the first failure
+     */
+    public List<ActionResponse> execute(String sessionId, SessionActionsRequest request) {
+        BrowserSession session = find(sessionId);
+        List<CompiledStep> steps = new ArrayList<>(request.getActions().size());
+        for (SessionActionsRequest.SessionAction action : request.getActions()) {
+            steps.add(ScenarioPlanCompiler.compileAction(null, action.getVerb(), action.getSelector(),
+                    action.getValue(), action.getTimeoutMs(), action.getExpectedResult()));
+        }
+
+        lock(session);
+        try {
+            if (session.closed) {
+                throw new CustomException("Browser session not found", HttpStatus.NOT_FOUND);
+            }
+            List<ActionResponse> responses = new ArrayList<>(steps.size());
+            StepSequence sequence = new StepSequence(actionsHelper, session.page, steps);
+            for (int i = 0; i < steps.size(); i++) {
+                ActionResponse response = sequence.run(i);
+                responses.add(response);
+                session.actionCount++;
+                if (request.isStopOnFailure() && response.getResult() == ActionResultEnum.FAILURE) {
+                    break;
+                }
+            }
+            return responses;
+        } finally {
+            session.lastUsedAt = LocalDateTime.now();
+            session.lock.unlock();
+        }
+    }
+
+    /**
+     * Reads element properties on the session's page in one round-trip.
+     *
+     * @param sessionId Session id
+     * @param request Properties to read
+     * @return One ActionResponse per read, with the value in message
+     */
+    public List<ActionResponse> read(String sessionId, BatchReadRequest request) {
+        BrowserSession session = find(sessionId);
+        List<ElementRead> reads = request.getReads().stream()
+                .map(read -> new ElementRead(read.getSelector(), read.getProperty(), read.getAttributeName()))
+                .toList();
+
+        lock(session);
+        try {
+            if (session.closed) {
+                throw new CustomException("Browser session not found", HttpStatus.NOT_FOUND);
+            }
+            session.actionCount++;
+            return actionsHelper.readAll(session.page, reads);
+        } finally {
+            session.lastUsedAt = LocalDateTime.now();
+            session.lock.unlock();
+        }
+    }
+
+    /**
+     * Closes a session and returns its browser to the pool.
+     *
+     * @param sessionId Session id
+     */
+    public void close(String sessionId) {
+        BrowserSession session = find(sessionId);
+        lock(session);
+        try {
+            closeLocked(session);
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    private BrowserSession find(String sessionId) {
+        BrowserSession session = sessions.get(sessionId);
+        if (session == null) {
+            throw new CustomException("Browser session not found", HttpStatus.NOT_FOUND);
+        }
+        return session;
+    }
+
+    private void lock(BrowserSession session) {
+        try {
+            if (!session.lock.tryLock(busyWaitMs, TimeUnit.MILLISECONDS)) {
+                throw new CustomException("Browser session is busy", HttpStatus.CONFLICT, "SESSION_BUSY");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException("Interrupted while waiting for the browser session", e, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    private void closeLocked(BrowserSession session) {
+        if (session.closed) {
+            return;
+        }
+        session.closed = true;
+        sessions.remove(session.sessionId);
+        session.lease.close();
+        log.debug("Closed browser session {} after {} actions", session.sessionId, session.actionCount);
+    }
+
+    private void closeQuietly(String sessionId) {
+        BrowserSession session = sessions.get(sessionId);
+        if (session != null && session.lock.tryLock()) {
+            try {
+                closeLocked(session);
+            } catch (RuntimeException e) {
+                log.warn("Failed to close browser session {}: {}", sessionId, e.getMessage());
+            } finally {
+                session.lock.unlock();
+            }
+        }
+    }
+
+    private void closeIdleSessions() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofSeconds(idleTimeoutSeconds));
+        for (BrowserSession session : sessions.values()) {
+            if (session.lastUsedAt.isBefore(cutoff)) {
+                log.info("Closing idle browser session {}", session.sessionId);
+                closeQuietly(session.sessionId);
+            }
+        }
+    }
+
+    /**
+     * One open session. Fields other than the lock are only touched while holding it.
+     */
+    private static final class BrowserSession {
+
+        private final String sessionId = UUID.randomUUID().toString();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final BrowserLease lease;
+        private final Page page;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile LocalDateTime lastUsedAt = createdAt;
+        private volatile long actionCount;
+        private volatile boolean closed;
+
+        private BrowserSession(BrowserLease lease, Page page) {
+            this.lease = lease;
+            this.page = page;
+        }
+
+        private BrowserSessionDto toDto() {
+            return new BrowserSessionDto(sessionId, lease.getBrowserId(), actionCount, createdAt, lastUsedAt);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.test.webframework.waits;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microsoft.playwright.Page;
+import com.test.webframework.dto.WaitLatencyDto;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+
+/**
+ * Learns how long elements and pages take to become ready, per action type, target and page.
+ * Each key keeps a window of its latest successful durations; once it has enough samples
+ * its timeout is the window's p99 times a multiplier, clamped to a minimum and maximum.
+ * A timed-out action is kept as a sample at the time it waited and doubles the key's
+ * timeout, up to the maximum, so a page that got slower is not stuck with a timeout
+ * learned while it was fast. Keys without enough samples fall back to the fixed
+ * default timeouts. Pages are keyed by
+ * URL path with the query dropped and numeric segments folded, so /projects/12 and
+ * /projects/34 learn together.
+ *
+ * @author Test Management Team
+ * @version 1.0
+ */
+@Component
+public class AdaptiveWaits {
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    // Recomputing the percentile on every sample would sort the window per action
+    private static final int REFRESH_EVERY = 10;
+
+    @Value("${waits.adaptive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${waits.adaptive.min-samples:20}")
+    private int minSamples;
+
+    @Value("${waits.adaptive.window:200}")
+    private int window;
+
+    @Value("${waits.adaptive.percentile:0.99}")
+    private double percentile;
+
+    @Value("${waits.adaptive.multiplier:3.0}")
+    private double multiplier;
+
+    @Value("${waits.adaptive.min-timeout-ms:2000}")
+    private int minTimeoutMs;
+
+    @Value("${waits.adaptive.max-timeout-ms:30000}")
+    private int maxTimeoutMs;
+
+    @Value("${waits.adaptive.max-keys:10000}")
+    private long maxKeys;
+
+    @Getter
+    @Value("${waits.replace-fixed-sleeps:true}")
+    private boolean replaceFixedSleeps;
+
+    @Getter
+    @Value("${waits.dom-quiet-ms:500}")
+    private int domQuietMs;
+
+    private Cache<String, LatencyWindow> windows;
+
+    @PostConstruct
+    void init() {
+        windows = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .build();
+    }
+
+    /**
+     * Builds the key an action's latency is learned under.
+     *
+     * @param actionType Action type, e.g. click
+     * @param page Page the action runs on, may be null
+     * @param target Selector or URL, may be null
+     * @return Key, or null when learning is disabled
+     */
+    public String keyOf(String actionType, Page page, String target) {
+        if (!enabled) {
+            return null;
+        }
+        return actionType + "|" + pathOf(page) + "|" + (target != null ? target : "");
+    }
+
+    /**
+     * Gets the learned timeout of a key.
+     *
+     * @param key Key from {@link #keyOf}
+     * @return Timeout in milliseconds, or null while the key has too few samples
+     */
+    public Integer timeoutFor(String key) {
+        if (key == null) {
+            return null;
+        }
+        LatencyWindow latencies = windows.getIfPresent(key);
+        return latencies != null ? latencies.timeoutMs : null;
+    }
+
+    /**
+     * Records the duration of a successful action.
+     *
+     * @param key Key from {@link #keyOf}
+     * @param durationNanos Monotonic duration in nanoseconds
+     */
+    public void record(String key, long durationNanos) {
+        if (key == null) {
+            return;
+        }
+        windows.get(key, k -> new LatencyWindow(window)).add(durationNanos, this);
+    }
+
+    /**
+     * Records an action that timed out. The time it waited is kept as a sample and the
+     * key's learned timeout is doubled, up to the maximum.
+     *
+     * @param key Key from {@link #keyOf}
+     * @param waitedNanos Monotonic time the action waited before timing out
+     */
+    public void recordTimeout(String key, long waitedNanos) {
+        if (key == null) {
+            return;
+        }
+        windows.get(key, k -> new LatencyWindow(window)).backOff(waitedNanos, this);
+    }
+
+    /**
+     * Gets the learned timeouts, longest first.
+     *
+     * @return List of WaitLatencyDto
+     */
+    public List<WaitLatencyDto> snapshot() {
+        List<WaitLatencyDto> latencies = new ArrayList<>();
+        windows.asMap().forEach((key, latencyWindow) -> latencies.add(latencyWindow.toDto(key)));
+        latencies.sort(Comparator.comparing(WaitLatencyDto::getTimeoutMs, Comparator.nullsLast(Comparator.reverseOrder())));
+        return latencies;
+    }
+
+    private Integer computeTimeout(long[] sorted) {
+        if (sorted.length < minSamples) {
+            return null;
+        }
+        long p = sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+        long timeout = (long) (TimeUnit.NANOSECONDS.toMillis(p) * multiplier);
+        return (int) Math.max(minTimeoutMs, Math.min(maxTimeoutMs, timeout));
+    }
+
+    private static String pathOf(Page page) {
+        if (page == null) {
+            return "";
+        }
+        try {
+            String path = URI.create(page.url()).getPath();
+            return path != null ? NUMERIC_SEGMENT.matcher(path).replaceAll("/{id}") : "";
+        } catch (RuntimeException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Ring buffer of the latest durations of one key.
+     */
+    private static final class LatencyWindow {
+
+        private final long[] samples;
+        private int next;
+        private int size;
+        private long recorded;
+        private volatile Integer timeoutMs;
+        // Timeout set by the last back-off, halved on each refresh so it decays to the learned one
+        private int backOffMs;
+
+        private LatencyWindow(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        private synchronized void add(long durationNanos, AdaptiveWaits owner) {
+            samples[next] = durationNanos;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+            recorded++;
+            if (recorded % REFRESH_EVERY == 0 || (timeoutMs == null && size >= owner.minSamples)) {
+                Integer computed = owner.computeTimeout(sorted());
+                timeoutMs = computed != null && backOffMs > computed ? Integer.valueOf(backOffMs) : computed;
+                backOffMs /= 2;
+            }
+        }
+
+        private synchronized void backOff(long waitedNanos, AdaptiveWaits owner) {
+            Integer learned = timeoutMs;
+            add(waitedNanos, owner);
+            if (learned != null) {
+                backOffMs = (int) Math.min(owner.maxTimeoutMs, 2L * learned);
+                timeoutMs = timeoutMs != null ? Math.max(timeoutMs, backOffMs) : backOffMs;
+            }
+        }
+
+        private long[] sorted() {
+            long[] copy = Arrays.copyOf(samples, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        private synchronized WaitLatencyDto toDto(String key) {
+            long[] sorted = sorted();
+            WaitLatencyDto dto = new WaitLatencyDto();
+            dto.setKey(key);
+            dto.setSamples(recorded);
+            dto.setTimeoutMs(timeoutMs);
+            if (sorted.length > 0) {
+                dto.setP50Millis(TimeUnit.NANOSECONDS.toMillis(sorted[(sorted.length - 1) / 2]));
+                dto.setMaxMillis(TimeUnit.NANOSECONDS.toMillis(sorted[sorted.length - 1]));
+            }
+            return dto;
+        }
+    }
+}